@@ -1,18 +1,71 @@
 package com.system.sse.application.auth.config;
 
+import com.system.sse.application.auth.resolver.TokenSource;
 import lombok.Getter;
 import lombok.Setter;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
 @Setter
 @Getter
 @ConfigurationProperties(prefix = "jwt")
 public class JwtProperties {
+    /** HMAC 서명 secret. 설정하면 kid "default" 키로 등록된다 (kid 없는 기존 토큰 검증용) */
     private String secret;
 
+    /** 추가 서명/검증 키 목록 (kid 별) */
+    private List<KeyProperties> keys = new ArrayList<>();
+
+    /** 새 토큰 서명에 쓸 kid (없으면 keys 의 첫 번째, keys 가 없으면 "default") */
+    private String activeKid;
+
     /** Access Token 유효 기간 */
     private long accessTokenValidityInMs;
 
     /** Refresh Token 유효 기간 */
     private long refreshTokenValidityInMs;
+
+    /** 검증된 토큰 캐시 최대 항목 수 (0이면 캐시하지 않음) */
+    private long verifiedCacheSize = 100_000;
+
+    /** 검증된 토큰 캐시 항목 최대 보관 시간 (토큰 exp 를 넘지 않음) */
+    private Duration verifiedCacheTtl = Duration.ofMinutes(10);
+
+    /** 폐기된 jti / 세션 ID 기억 최대 항목 수 (넘치면 오래 쓰이지 않은 항목부터 잊고, 그 토큰은 만료까지 다시 유효) */
+    private long revokedCacheSize = 100_000;
+
+    /** SSE 구독 엔드포인트 요청은 Authentication details(원격 주소/세션 ID)를 만들지 않음 */
+    private boolean skipEventStreamDetails = false;
+
+    /** SSE 구독 엔드포인트의 토큰 조회 순서 (EventSource 는 헤더를 붙일 수 없어 query → cookie 가 먼저) */
+    private List<TokenSource> streamTokenSources = List.of(TokenSource.QUERY_PARAM, TokenSource.COOKIE, TokenSource.HEADER);
+
+    /** 그 외 API 요청의 토큰 조회 순서 (URL 에 토큰이 남지 않도록 query 는 기본 제외) */
+    private List<TokenSource> apiTokenSources = List.of(TokenSource.HEADER, TokenSource.COOKIE);
+
+    @Setter
+    @Getter
+    public static class KeyProperties {
+        /** JWS 헤더의 kid */
+        private String kid;
+
+        /** 서명 알고리즘 */
+        private KeyAlgorithm algorithm = KeyAlgorithm.HMAC;
+
+        /** HMAC: secret */
+        private String secret;
+
+        /** ES256/EdDSA: Base64 PKCS#8 개인키 (없으면 검증 전용 키) */
+        private String privateKey;
+
+        /** ES256/EdDSA: Base64 X.509 공개키 */
+        private String publicKey;
+    }
+
+    public enum KeyAlgorithm {
+        HMAC, ES256, EDDSA
+    }
 }
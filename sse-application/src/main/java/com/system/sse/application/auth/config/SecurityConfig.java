@@ -5,9 +5,14 @@ import com.system.sse.application.auth.handler.JwtAccessDeniedHandler;
 import com.system.sse.application.auth.handler.JwtAuthenticationEntryPoint;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import jakarta.servlet.DispatcherType;
+import jakarta.servlet.http.HttpServletRequest;
 import org.springframework.boot.autoconfigure.security.servlet.PathRequest;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpMethod;
 import org.springframework.security.config.Customizer;
 import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
@@ -17,6 +22,9 @@ import org.springframework.security.config.annotation.web.configurers.AbstractHt
 import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
+import org.springframework.security.web.servlet.util.matcher.PathPatternRequestMatcher;
+import org.springframework.security.web.util.matcher.OrRequestMatcher;
+import org.springframework.security.web.util.matcher.RequestMatcher;
 import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.CorsConfigurationSource;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
@@ -62,6 +70,42 @@ public class SecurityConfig {
 
     private final JwtAuthenticationFilter jwtAuthenticationFilter;
 
+    /**
+     * 내부 발행 엔드포인트 (gateway/내부 서비스만 호출). 사용자 토큰이 없으므로 JWT 검증을 하지 않는다
+     */
+    private static final RequestMatcher PUBLISH_ENDPOINTS = new OrRequestMatcher(
+            route(HttpMethod.POST, "/api/publish"),
+            route(HttpMethod.POST, "/sse/send/*"),
+            route(HttpMethod.POST, "/sse/broadcast"),
+            route(HttpMethod.POST, "/sse/v2/send/*"),
+            route(HttpMethod.POST, "/sse/v2/broadcast"),
+            route(HttpMethod.POST, "/sse/v2/topic/broadcast"),
+            route(HttpMethod.GET, "/virtual/publish"),
+            route(HttpMethod.POST, "/virtual/*")
+    );
+
+    /**
+     * SSE 구독 엔드포인트. 토큰은 연결 시 한 번만 검증하고, 이후 스트림 쓰기/하트비트는 필터를 다시 거치지 않는다
+     */
+    private static final RequestMatcher STREAM_ENDPOINTS = new OrRequestMatcher(
+            route(HttpMethod.GET, "/subscribe"),
+            route(HttpMethod.GET, "/sse/connect"),
+            route(HttpMethod.GET, "/sse/v2/subscribe/*"),
+            route(HttpMethod.GET, "/virtual/subscribe"),
+            route(HttpMethod.GET, "/virtual/*")
+    );
+
+    /**
+     * JwtAuthenticationFilter 는 @Component 라 Spring Boot 가 서블릿 필터로도 자동 등록한다.
+     * 그러면 보안 필터 체인과 무관하게 모든 요청에서 실행되므로, 자동 등록을 끄고 체인에서만 실행한다.
+     */
+    @Bean
+    public FilterRegistrationBean<JwtAuthenticationFilter> jwtAuthenticationFilterRegistration() {
+        FilterRegistrationBean<JwtAuthenticationFilter> registration = new FilterRegistrationBean<>(jwtAuthenticationFilter);
+        registration.setEnabled(false);
+        return registration;
+    }
+
     /**
      * 정적 자원에 대해서는 Security 설정을 적용하지 않음
      * 성능 향상을 위해 필터 체인을 거치지 않도록 설정
@@ -73,6 +117,53 @@ public class SecurityConfig {
                 .requestMatchers("/favicon.ico", "/error"); // 추가 제외 경로
     }
 
+    /**
+     * 내부 발행 엔드포인트용 최소 필터 체인
+     * JWT 검증, SecurityContext 저장, request cache, 익명 인증 없이 통과시킨다
+     */
+    @Bean
+    @Order(1)
+    public SecurityFilterChain publishFilterChain(HttpSecurity httpSecurity) throws Exception {
+        return httpSecurity
+                .securityMatcher(PUBLISH_ENDPOINTS)
+                .csrf(AbstractHttpConfigurer::disable)
+                .sessionManagement(sm -> sm.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
+                .requestCache(AbstractHttpConfigurer::disable)
+                .anonymous(AbstractHttpConfigurer::disable)
+                .authorizeHttpRequests(auth -> auth.anyRequest().permitAll())
+                .build();
+    }
+
+    /**
+     * SSE 구독 엔드포인트용 필터 체인
+     * 연결 요청에서만 JWT 를 검증한다. 연결이 유지되는 동안의 async dispatch(완료/타임아웃)는
+     * JwtAuthenticationFilter 가 건너뛰고(OncePerRequestFilter 기본값), 인가도 다시 하지 않는다.
+     * 토큰 만료는 연결 시 받은 exp 로 구독 서비스가 처리한다.
+     */
+    @Bean
+    @Order(2)
+    public SecurityFilterChain streamFilterChain(HttpSecurity httpSecurity) throws Exception {
+        return httpSecurity
+                .securityMatcher(STREAM_ENDPOINTS)
+                .cors(Customizer.withDefaults())
+                .csrf(AbstractHttpConfigurer::disable)
+                .sessionManagement(sm -> sm.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
+                .requestCache(AbstractHttpConfigurer::disable)
+                .authorizeHttpRequests(auth -> auth
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC, DispatcherType.ERROR).permitAll()
+                        .anyRequest().permitAll() // gateway 통과
+                )
+                .exceptionHandling(ex -> ex
+                        .authenticationEntryPoint(jwtAuthenticationEntryPoint) // 401
+                        .accessDeniedHandler(jwtAccessDeniedHandler)  // 403
+                )
+                .addFilterBefore(
+                        jwtAuthenticationFilter,
+                        UsernamePasswordAuthenticationFilter.class
+                )
+                .build();
+    }
+
     /**
      * 메인 보안 설정
      * JWT를 사용하므로 세션을 사용하지 않고, CSRF도 비활성화
@@ -110,6 +201,17 @@ public class SecurityConfig {
                 .build();
     }
 
+    /**
+     * SSE 구독 엔드포인트 요청 여부 (토큰 조회 순서와 Authentication details 생략 판단에 사용)
+     */
+    public static boolean isStreamRequest(HttpServletRequest request) {
+        return STREAM_ENDPOINTS.matches(request);
+    }
+
+    private static RequestMatcher route(HttpMethod method, String pattern) {
+        return PathPatternRequestMatcher.withDefaults().matcher(method, pattern);
+    }
+
     /**
      * CORS 설정
      * 프론트엔드 도메인과의 통신을 위한 설정
@@ -1,28 +1,32 @@
 package com.system.sse.application.auth.filter;
-import com.system.sse.application.auth.provider.JwtTokenParser;
+import com.system.sse.application.auth.config.JwtProperties;
+import com.system.sse.application.auth.config.SecurityConfig;
+import com.system.sse.application.auth.provider.JwtClaims;
+import com.system.sse.application.auth.provider.VerifiedTokenCache;
 import com.system.sse.application.auth.resolver.CompositeTokenResolver;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
-import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
-import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.stereotype.Service;
 import org.springframework.util.StringUtils;
 
-import java.util.Arrays;
 import java.util.List;
-import java.util.stream.Collectors;
 
 /**
  * 인증 처리 로직을 담당하는 서비스 클래스.
  * 요청에서 토큰을 추출하고 검증한 뒤 SecurityContext에 Authentication을 설정합니다.
+ * 토큰은 요청마다 한 번만 검증하고, 추출한 클레임으로 Authentication 을 만듭니다.
  */
 @Service
 @RequiredArgsConstructor
 public class AuthenticationService {
 
+    // 상태가 없으므로 요청마다 새로 만들지 않고 공유
+    private static final WebAuthenticationDetailsSource DETAILS_SOURCE = new WebAuthenticationDetailsSource();
+
     /**
      * TokenResolverChain: 여러 TokenResolver 구현체를 순차적으로 호출해
      * 유효한 토큰을 추출합니다.
@@ -30,9 +34,16 @@ public class AuthenticationService {
     private final CompositeTokenResolver tokenResolver;
 
     /**
-     * JwtTokenProvider: JWT 생성, 검증, 클레임 추출 등의 기능을 제공합니다.
+     * VerifiedTokenCache: JWT 검증 결과(클레임)를 토큰 digest 로 캐시해, 같은 토큰의 반복 검증을 건너뜁니다.
      */
-    private final JwtTokenParser jwtTokenParser;
+    private final VerifiedTokenCache verifiedTokenCache;
+
+    /**
+     * AuthorityInterner: roles 클레임 문자열별로 공유하는 불변 권한 목록을 제공합니다.
+     */
+    private final AuthorityInterner authorityInterner;
+
+    private final JwtProperties jwtProperties;
 
     /**
      * 클라이언트 요청에서 JWT를 추출·검증하고, 인증 정보를 SecurityContext에 설정합니다.
@@ -43,71 +54,42 @@ public class AuthenticationService {
         // 1. 요청에서 토큰을 추출
         String token = tokenResolver.resolve(request);
 
-        // 2. 토큰이 유효하지 않으면 SecurityContext를 초기화하고 메서드 종료
-        if (!isValidToken(token)) {
+        // 2. 토큰을 한 번 검증하면서 클레임 추출, 유효하지 않으면 SecurityContext를 초기화하고 메서드 종료
+        JwtClaims claims = StringUtils.hasText(token) ? verifiedTokenCache.verify(token) : null;
+        if (claims == null) {
             clearContext();
             return;
         }
 
         // 3. 유효한 토큰이면 Authentication 객체를 생성해 SecurityContext에 저장
-        Authentication auth = buildAuthentication(token, request);
+        Authentication auth = buildAuthentication(claims, token, request);
         SecurityContextHolder.getContext().setAuthentication(auth);
     }
 
     /**
-     * 토큰의 유효성을 검증합니다.
-     * - 토큰 문자열이 비어 있지 않고,
-     * - JwtTokenProvider.validateToken()이 true를 반환해야 합니다.
-     *
-     * @param token 추출된 JWT 문자열
-     * @return 유효하면 true, 그렇지 않으면 false
-     */
-    private boolean isValidToken(String token) {
-        return StringUtils.hasText(token) && jwtTokenParser.isValid(token);
-    }
-
-    /**
-     * 유효한 JWT 토큰을 기반으로 Authentication 객체를 생성합니다.
-     * - UsernamePasswordAuthenticationToken을 사용해 사용자명, 토큰, 권한 정보를 설정
-     * - WebAuthenticationDetailsSource를 통해 추가 요청 세부 정보를 포함
+     * 검증된 JWT 클레임을 기반으로 Authentication 객체를 생성합니다.
+     * - JwtAuthenticationToken에 사용자명, 토큰, 권한 정보와 클레임을 함께 설정
+     * - 권한 목록은 roles 문자열별로 공유하는 목록을 사용 (요청마다 새로 만들지 않음)
+     * - WebAuthenticationDetailsSource를 통해 추가 요청 세부 정보를 포함 (설정 시 SSE 스트림 요청은 생략)
      *
+     * @param claims  검증된 JWT 클레임
      * @param token   검증된 JWT 문자열
      * @param request HTTP 요청 객체 (세부 정보 획득용)
      * @return Authentication 객체
      */
-    private Authentication buildAuthentication(String token, HttpServletRequest request) {
-        // 1. 토큰에서 사용자명(claim) 추출
-        String username = jwtTokenParser.getUsername(token);
-
-        // 2. 토큰에서 권한(claim) 추출하여 SimpleGrantedAuthority 리스트 생성
-        List<SimpleGrantedAuthority> authorities = extractAuthorities(token);
+    private Authentication buildAuthentication(JwtClaims claims, String token, HttpServletRequest request) {
+        // 1. 콤마(,)로 구분된 권한 클레임의 공유 권한 목록
+        List<GrantedAuthority> authorities = authorityInterner.authorities(claims.roles());
 
-        // 3. Authentication 객체 생성 및 요청 세부 정보 설정
-        UsernamePasswordAuthenticationToken authentication =
-                new UsernamePasswordAuthenticationToken(username, token, authorities);
-        authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+        // 2. Authentication 객체 생성 및 요청 세부 정보 설정
+        JwtAuthenticationToken authentication = new JwtAuthenticationToken(claims, token, authorities);
+        if (!(jwtProperties.isSkipEventStreamDetails() && SecurityConfig.isStreamRequest(request))) {
+            authentication.setDetails(DETAILS_SOURCE.buildDetails(request));
+        }
 
         return authentication;
     }
 
-    /**
-     * JWT의 권한(claims) 문자열(콤마 구분)을 파싱해
-     * SimpleGrantedAuthority 리스트로 변환합니다.
-     *
-     * @param token 검증된 JWT 문자열
-     * @return 권한 정보 리스트
-     */
-    private List<SimpleGrantedAuthority> extractAuthorities(String token) {
-        // 1. 콤마(,)로 구분된 권한 문자열 획득
-        String auths = jwtTokenParser.getAuthorities(token);
-
-        // 2. 문자열을 분할한 뒤, 빈 값은 필터링하고 SimpleGrantedAuthority로 매핑
-        return Arrays.stream(auths.split(","))
-                .filter(StringUtils::hasText)
-                .map(SimpleGrantedAuthority::new)
-                .collect(Collectors.toList());
-    }
-
     /**
      * SecurityContext에 저장된 인증 정보를 제거해
      * 인증 상태를 초기화합니다.
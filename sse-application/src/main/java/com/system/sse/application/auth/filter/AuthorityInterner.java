@@ -0,0 +1,50 @@
+package com.system.sse.application.auth.filter;
+
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * roles 클레임 문자열 → 불변 권한 목록 공유 캐시.
+ * 서로 다른 roles 조합은 몇 개뿐이므로, 요청마다 split/SimpleGrantedAuthority 생성을 반복하지 않고 같은 목록을 돌려준다.
+ * 예상 밖으로 조합이 많아지면 MAX_ENTRIES 이후로는 캐시하지 않고 매번 만든다.
+ */
+@Component
+public class AuthorityInterner {
+
+    private static final int MAX_ENTRIES = 1024;
+
+    private final Map<String, List<GrantedAuthority>> interned = new ConcurrentHashMap<>();
+
+    /**
+     * 콤마로 구분된 roles 클레임의 공유 권한 목록 (빈 값 제외)
+     */
+    public List<GrantedAuthority> authorities(String roles) {
+        if (roles == null || roles.isEmpty()) {
+            return List.of();
+        }
+        List<GrantedAuthority> cached = interned.get(roles);
+        if (cached != null) {
+            return cached;
+        }
+        List<GrantedAuthority> parsed = parse(roles);
+        if (interned.size() >= MAX_ENTRIES) {
+            return parsed;
+        }
+        List<GrantedAuthority> previous = interned.putIfAbsent(roles, parsed);
+        return previous != null ? previous : parsed;
+    }
+
+    private static List<GrantedAuthority> parse(String roles) {
+        return Arrays.stream(roles.split(","))
+                .map(String::trim)
+                .filter(role -> !role.isEmpty())
+                .<GrantedAuthority>map(SimpleGrantedAuthority::new)
+                .toList();
+    }
+}
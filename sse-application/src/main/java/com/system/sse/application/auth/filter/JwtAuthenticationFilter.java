@@ -2,32 +2,49 @@ package com.system.sse.application.auth.filter;
 
 
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
+import java.util.concurrent.TimeUnit;
 
 
 @Slf4j
 @Component
-@RequiredArgsConstructor
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
     private final AuthenticationService authenticationService;
 
+    /**
+     * 요청당 인증 처리 시간 (보안 필터 체인 전체 시간은 spring.security.filterchains 로 함께 비교)
+     */
+    private final Timer authenticationTimer;
+
+    public JwtAuthenticationFilter(AuthenticationService authenticationService, MeterRegistry meterRegistry) {
+        this.authenticationService = authenticationService;
+        this.authenticationTimer = Timer.builder("sse.auth.filter")
+                .description("요청당 JWT 인증 처리 시간")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
     @Override
     protected void doFilterInternal(HttpServletRequest request,
                                     HttpServletResponse response,
                                     FilterChain filterChain) throws ServletException, IOException {
+        long start = System.nanoTime();
         try {
             authenticationService.authenticate(request);
         } catch (Exception ex) {
             log.error("JWT 인증 처리 중 오류: {}", ex.getMessage(), ex);
+        } finally {
+            authenticationTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
         }
 
         filterChain.doFilter(request, response);
@@ -0,0 +1,51 @@
+package com.system.sse.application.auth.filter;
+
+import com.system.sse.application.auth.provider.JwtClaims;
+import lombok.Getter;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.GrantedAuthority;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * 검증된 JWT 클레임을 함께 담은 Authentication.
+ * 컨트롤러/서비스가 만료 시각 등 클레임이 필요할 때 토큰을 다시 파싱하지 않고 꺼내 쓴다.
+ * 권한 목록은 {@link AuthorityInterner} 가 공유하는 불변 목록을 복사하지 않고 그대로 들고 있다.
+ */
+public class JwtAuthenticationToken extends UsernamePasswordAuthenticationToken {
+
+    @Getter
+    private final transient JwtClaims claims;
+    private final List<GrantedAuthority> sharedAuthorities;
+
+    public JwtAuthenticationToken(JwtClaims claims, String token, List<GrantedAuthority> authorities) {
+        // 상위 클래스는 권한 목록을 복사하므로 넘기지 않는다 (인증 상태만 설정)
+        super(claims.subject(), token, List.of());
+        this.claims = claims;
+        this.sharedAuthorities = authorities;
+    }
+
+    @Override
+    public Collection<GrantedAuthority> getAuthorities() {
+        return sharedAuthorities;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        return obj instanceof JwtAuthenticationToken other
+                && Objects.equals(claims, other.claims)
+                && Objects.equals(getCredentials(), other.getCredentials())
+                && Objects.equals(getDetails(), other.getDetails())
+                && sharedAuthorities.equals(other.sharedAuthorities);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(claims, getCredentials());
+    }
+}
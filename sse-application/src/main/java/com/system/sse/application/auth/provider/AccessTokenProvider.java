@@ -6,12 +6,21 @@ import org.springframework.security.core.Authentication;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.stereotype.Component;
 
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
 @Component
 public class AccessTokenProvider extends BaseTokenProvider {
-    public AccessTokenProvider(JwtProperties jwtProperties) {
-        super(jwtProperties, jwtProperties.getAccessTokenValidityInMs());
+
+    private static final int MAX_ROLE_STRINGS = 1024;
+
+    // 권한 목록 → roles 클레임 문자열. 조합은 몇 개뿐이므로 발급마다 join 하지 않는다
+    private final Map<Collection<? extends GrantedAuthority>, String> roleStrings = new ConcurrentHashMap<>();
+
+    public AccessTokenProvider(JwtProperties jwtProperties, CompactJwsSigner signer) {
+        super(signer, jwtProperties.getAccessTokenValidityInMs());
     }
 
     @Override
@@ -23,12 +32,27 @@ public class AccessTokenProvider extends BaseTokenProvider {
      * Access Token 생성 (Access Token 특화 메서드)
      */
     public String createAccessToken(Authentication authentication) {
-        String roles = authentication.getAuthorities().stream()
+        return issueAccessToken(authentication).token();
+    }
+
+    /**
+     * Access Token 발급 (jti / exp 포함)
+     */
+    public IssuedToken issueAccessToken(Authentication authentication) {
+        return issue(authentication, roles(authentication.getAuthorities()));
+    }
+
+    private String roles(Collection<? extends GrantedAuthority> authorities) {
+        String cached = roleStrings.get(authorities);
+        if (cached != null) {
+            return cached;
+        }
+        String roles = authorities.stream()
                 .map(GrantedAuthority::getAuthority)
                 .collect(Collectors.joining(","));
-
-        return createBaseTokenBuilder(authentication)
-                .claim(JwtClaimNames.ROLES.getName(), roles)
-                .compact();
+        if (roleStrings.size() < MAX_ROLE_STRINGS) {
+            roleStrings.putIfAbsent(authorities, roles);
+        }
+        return roles;
     }
 }
@@ -1,30 +1,21 @@
 package com.system.sse.application.auth.provider;
 
 
-import com.system.sse.application.auth.config.JwtProperties;
-import io.jsonwebtoken.*;
-import io.jsonwebtoken.security.Keys;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.core.Authentication;
 
-import javax.crypto.SecretKey;
-import java.time.Instant;
-import java.util.Date;
-import java.util.UUID;
-
 /**
  * JWT 토큰 공통 기능을 제공하는 추상 베이스 클래스
  * Access/Refresh Provider들의 중복 코드를 제거하기 위한 공통 클래스
  */
 @Slf4j
 public abstract class BaseTokenProvider {
-    private static final String ISSUER = "sse-gateway";
 
-    private final SecretKey secretKey;
+    private final CompactJwsSigner signer;
     protected final long tokenValidityInMs;
 
-    protected BaseTokenProvider(JwtProperties jwtProperties, long tokenValidityInMs) {
-        this.secretKey = Keys.hmacShaKeyFor(jwtProperties.getSecret().getBytes());
+    protected BaseTokenProvider(CompactJwsSigner signer, long tokenValidityInMs) {
+        this.signer = signer;
         this.tokenValidityInMs = tokenValidityInMs;
     }
 
@@ -35,24 +26,13 @@ public abstract class BaseTokenProvider {
     protected abstract String getTokenType();
 
     /**
-     * 공통 토큰 빌더 생성
-     * 기본적인 토큰 구조를 설정하고 하위 클래스에서 추가 클레임을 설정할 수 있도록 함
+     * 공통 클레임(jti, iss, sub, sessionId, type, iat, exp)으로 토큰 발급
+     * 키 링의 활성 키로 서명하고 헤더에 kid 를 남긴다
+     *
+     * @param roles 권한 문자열 (없으면 null)
      */
-    protected JwtBuilder createBaseTokenBuilder(Authentication authentication) {
-        Instant now = Instant.now();
-        Instant validity = now.plusMillis(tokenValidityInMs);
-
-        String username = authentication.getName();
-        String sessionId = authentication.getCredentials().toString();
-
-        return Jwts.builder()
-                .id(UUID.randomUUID().toString())
-                .issuer(ISSUER)
-                .subject(username)
-                .claim(JwtClaimNames.SESSION_ID.getName(), sessionId)
-                .claim(JwtClaimNames.TYPE.getName(), getTokenType())
-                .issuedAt(Date.from(now))
-                .expiration(Date.from(validity))
-                .signWith(secretKey);
+    protected IssuedToken issue(Authentication authentication, String roles) {
+        return signer.sign(authentication.getName(), authentication.getCredentials().toString(),
+                getTokenType(), roles, tokenValidityInMs);
     }
 }
@@ -0,0 +1,214 @@
+package com.system.sse.application.auth.provider;
+
+import io.jsonwebtoken.Jwts;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.Mac;
+import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.PrivateKey;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Date;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 토큰 발급 전용 JWS 서명기.
+ * - 활성 키마다 JWS 헤더 segment 와 초기화된 Mac 을 한 번만 만들어 두고, 발급 시에는 payload JSON 만 직접 쓴다
+ * - Mac 은 스레드가 아닌 풀로 재사용한다 (가상 스레드는 요청마다 새 스레드라 ThreadLocal 이 재사용되지 않음)
+ * - jti 는 SecureRandom 대신 ThreadLocalRandom 으로 만든 UUID v4 (서명으로 보호되므로 예측 불가능할 필요는 없고 유일하면 된다)
+ * - HMAC 이 아닌 키(ES256/EdDSA)는 서명 비용이 지배적이므로 기존 JwtBuilder 경로로 서명한다
+ */
+@Slf4j
+@Component
+public class CompactJwsSigner {
+
+    private static final String ISSUER = "sse-gateway";
+    private static final int POOLED_MACS = 64;
+    private static final Base64.Encoder BASE64URL = Base64.getUrlEncoder().withoutPadding();
+
+    private final JwtKeyRing keyRing;
+    private volatile Prepared prepared;
+
+    public CompactJwsSigner(JwtKeyRing keyRing) {
+        this.keyRing = keyRing;
+    }
+
+    /**
+     * 새 토큰 서명
+     *
+     * @param roles 콤마로 구분된 권한 문자열 (null 이면 클레임 생략)
+     */
+    public IssuedToken sign(String subject, String sessionId, String type, String roles, long validityInMs) {
+        String tokenId = nextTokenId();
+        long nowMillis = System.currentTimeMillis();
+        long issuedAt = nowMillis / 1000;
+        long expiresAt = (nowMillis + validityInMs) / 1000;
+
+        Prepared current = prepare(keyRing.signingKey());
+        String token = current.mac == null
+                ? signWithBuilder(current.key, tokenId, subject, sessionId, type, roles, issuedAt, expiresAt)
+                : signWithMac(current, tokenId, subject, sessionId, type, roles, issuedAt, expiresAt);
+        return new IssuedToken(token, tokenId, Instant.ofEpochSecond(expiresAt));
+    }
+
+    private String signWithMac(Prepared prepared, String tokenId, String subject, String sessionId, String type,
+                               String roles, long issuedAt, long expiresAt) {
+        StringBuilder payload = new StringBuilder(256);
+        payload.append("{\"jti\":");
+        appendJsonString(payload, tokenId);
+        payload.append(",\"iss\":\"" + ISSUER + "\",\"sub\":");
+        appendJsonString(payload, subject);
+        payload.append(",\"").append(JwtClaimNames.SESSION_ID.getName()).append("\":");
+        appendJsonString(payload, sessionId);
+        payload.append(",\"").append(JwtClaimNames.TYPE.getName()).append("\":");
+        appendJsonString(payload, type);
+        payload.append(",\"iat\":").append(issuedAt)
+                .append(",\"exp\":").append(expiresAt);
+        if (roles != null) {
+            payload.append(",\"").append(JwtClaimNames.ROLES.getName()).append("\":");
+            appendJsonString(payload, roles);
+        }
+        payload.append('}');
+
+        String signingInput = prepared.header + BASE64URL.encodeToString(
+                payload.toString().getBytes(StandardCharsets.UTF_8));
+        byte[] signature = prepared.sign(signingInput.getBytes(StandardCharsets.US_ASCII));
+        return signingInput + '.' + BASE64URL.encodeToString(signature);
+    }
+
+    private static String signWithBuilder(JwtKeyRing.KeyEntry key, String tokenId, String subject, String sessionId,
+                                          String type, String roles, long issuedAt, long expiresAt) {
+        var builder = Jwts.builder()
+                .header().keyId(key.kid()).and()
+                .id(tokenId)
+                .issuer(ISSUER)
+                .subject(subject)
+                .claim(JwtClaimNames.SESSION_ID.getName(), sessionId)
+                .claim(JwtClaimNames.TYPE.getName(), type)
+                .issuedAt(new Date(issuedAt * 1000))
+                .expiration(new Date(expiresAt * 1000));
+        if (roles != null) {
+            builder.claim(JwtClaimNames.ROLES.getName(), roles);
+        }
+        // 비대칭 키는 알고리즘을 명시한다 (키 종류에서 추론하지 않음)
+        return switch (key.algorithm()) {
+            case ES256 -> builder.signWith((PrivateKey) key.signingKey(), Jwts.SIG.ES256).compact();
+            case EDDSA -> builder.signWith((PrivateKey) key.signingKey(), Jwts.SIG.EdDSA).compact();
+            case HMAC -> builder.signWith(key.signingKey()).compact();
+        };
+    }
+
+    private Prepared prepare(JwtKeyRing.KeyEntry key) {
+        Prepared current = prepared;
+        if (current != null && current.key == key) {
+            return current;
+        }
+        current = new Prepared(key);
+        prepared = current;
+        return current;
+    }
+
+    private static String nextTokenId() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        long msb = (random.nextLong() & 0xffffffffffff0fffL) | 0x0000000000004000L;
+        long lsb = (random.nextLong() & 0x3fffffffffffffffL) | 0x8000000000000000L;
+        return new UUID(msb, lsb).toString();
+    }
+
+    private static void appendJsonString(StringBuilder out, String value) {
+        if (value == null) {
+            out.append("null");
+            return;
+        }
+        out.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"' -> out.append("\\\"");
+                case '\\' -> out.append("\\\\");
+                case '\n' -> out.append("\\n");
+                case '\r' -> out.append("\\r");
+                case '\t' -> out.append("\\t");
+                default -> {
+                    if (c < 0x20) {
+                        out.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        out.append(c);
+                    }
+                }
+            }
+        }
+        out.append('"');
+    }
+
+    /**
+     * 활성 키 하나에 대해 미리 만든 헤더 segment 와 Mac 풀
+     */
+    private static final class Prepared {
+        final JwtKeyRing.KeyEntry key;
+        final String header;
+        final Mac mac;
+        final BlockingQueue<Mac> pool = new ArrayBlockingQueue<>(POOLED_MACS);
+
+        Prepared(JwtKeyRing.KeyEntry key) {
+            this.key = key;
+            String alg = key.signingKey() instanceof SecretKey secret ? hmacAlgorithm(secret.getAlgorithm()) : null;
+            if (alg == null) {
+                this.header = null;
+                this.mac = null;
+                return;
+            }
+            StringBuilder json = new StringBuilder("{\"kid\":");
+            appendJsonString(json, key.kid());
+            json.append(",\"alg\":\"").append(alg).append("\"}");
+            this.header = BASE64URL.encodeToString(json.toString().getBytes(StandardCharsets.UTF_8)) + '.';
+            try {
+                this.mac = Mac.getInstance(key.signingKey().getAlgorithm());
+                mac.init(key.signingKey());
+            } catch (GeneralSecurityException e) {
+                throw new IllegalStateException("Cannot initialise HMAC for JWT key " + key.kid(), e);
+            }
+        }
+
+        byte[] sign(byte[] input) {
+            Mac instance = pool.poll();
+            if (instance == null) {
+                instance = newMac();
+            }
+            try {
+                return instance.doFinal(input);
+            } finally {
+                pool.offer(instance);
+            }
+        }
+
+        private Mac newMac() {
+            try {
+                return (Mac) mac.clone();
+            } catch (CloneNotSupportedException e) {
+                try {
+                    Mac instance = Mac.getInstance(mac.getAlgorithm());
+                    instance.init(key.signingKey());
+                    return instance;
+                } catch (GeneralSecurityException ex) {
+                    throw new IllegalStateException("Cannot initialise HMAC for JWT key " + key.kid(), ex);
+                }
+            }
+        }
+
+        private static String hmacAlgorithm(String keyAlgorithm) {
+            return switch (keyAlgorithm) {
+                case "HmacSHA256" -> "HS256";
+                case "HmacSHA384" -> "HS384";
+                case "HmacSHA512" -> "HS512";
+                default -> null;
+            };
+        }
+    }
+}
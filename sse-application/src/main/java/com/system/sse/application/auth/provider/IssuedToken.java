@@ -0,0 +1,13 @@
+package com.system.sse.application.auth.provider;
+
+import java.time.Instant;
+
+/**
+ * 발급한 토큰과 발급 시 정한 클레임 (다시 파싱하지 않고 저장소 등록에 사용)
+ *
+ * @param token      compact JWS
+ * @param tokenId    토큰 ID (jti)
+ * @param expiration 만료 시각 (exp, 초 단위로 절삭됨)
+ */
+public record IssuedToken(String token, String tokenId, Instant expiration) {
+}
@@ -0,0 +1,42 @@
+package com.system.sse.application.auth.provider;
+
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 서명 검증을 마친 JWT 에서 한 번에 꺼낸 클레임
+ *
+ * @param subject    사용자명 (sub)
+ * @param roles      콤마로 구분된 권한 문자열 (없으면 빈 문자열)
+ * @param sessionId  세션 ID (sessionId)
+ * @param type       토큰 타입 (access | refresh)
+ * @param tokenId    토큰 ID (jti)
+ * @param expiration 만료 시각 (exp, 없으면 null)
+ * @param keyId      서명 키 ID (JWS 헤더의 kid, 없으면 "default")
+ */
+public record JwtClaims(String subject, String roles, String sessionId, String type, String tokenId,
+                        Instant expiration, String keyId) {
+
+    public JwtClaims {
+        roles = roles == null ? "" : roles;
+    }
+
+    /**
+     * 권한 목록 (빈 값 제외)
+     */
+    public List<String> roleList() {
+        return Arrays.stream(roles.split(","))
+                .map(String::trim)
+                .filter(role -> !role.isEmpty())
+                .toList();
+    }
+
+    public boolean isAccessToken() {
+        return "access".equals(type);
+    }
+
+    public boolean isRefreshToken() {
+        return "refresh".equals(type);
+    }
+}
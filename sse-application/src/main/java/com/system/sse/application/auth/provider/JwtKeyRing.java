@@ -0,0 +1,225 @@
+package com.system.sse.application.auth.provider;
+
+import com.system.sse.application.auth.config.JwtProperties;
+import io.jsonwebtoken.security.Keys;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.security.AlgorithmParameters;
+import java.security.GeneralSecurityException;
+import java.security.Key;
+import java.security.KeyFactory;
+import java.security.PrivateKey;
+import java.security.PublicKey;
+import java.security.interfaces.ECKey;
+import java.security.spec.ECGenParameterSpec;
+import java.security.spec.ECParameterSpec;
+import java.security.spec.PKCS8EncodedKeySpec;
+import java.security.spec.X509EncodedKeySpec;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * kid 별로 미리 만들어 둔 서명/검증 키 모음.
+ * - 서명은 활성 키 하나로 하고 JWS 헤더에 kid 를 남긴다. 검증은 헤더의 kid 로 키를 바로 찾는다
+ * - 무중단 교체: 새 키를 모든 노드에 검증용으로 먼저 등록 → 활성 kid 전환 → 이전 키는 발급 토큰이 만료된 뒤 제거
+ * - ES256/EdDSA 키는 공개키만 등록해 secret 없이 검증만 하는 노드(edge)를 둘 수 있다
+ * - 키 목록은 통째로 교체(copy-on-write)하므로 조회에는 lock 이 없다
+ */
+@Slf4j
+@Component
+public class JwtKeyRing {
+
+    public static final String DEFAULT_KID = "default";
+
+    /**
+     * 등록된 키
+     *
+     * @param kid             JWS 헤더의 kid
+     * @param algorithm       서명 알고리즘
+     * @param signingKey      서명 키 (검증 전용이면 null)
+     * @param verificationKey 검증 키
+     */
+    public record KeyEntry(String kid, JwtProperties.KeyAlgorithm algorithm, Key signingKey, Key verificationKey) {
+
+        public boolean canSign() {
+            return signingKey != null;
+        }
+    }
+
+    private static final ECParameterSpec P256 = p256();
+
+    private volatile Map<String, KeyEntry> keys = Map.of();
+    private volatile KeyEntry active;
+
+    public JwtKeyRing(JwtProperties jwtProperties) {
+        Map<String, KeyEntry> initial = new HashMap<>();
+        if (jwtProperties.getSecret() != null && !jwtProperties.getSecret().isBlank()) {
+            initial.put(DEFAULT_KID, hmac(DEFAULT_KID, jwtProperties.getSecret()));
+        }
+        for (JwtProperties.KeyProperties key : jwtProperties.getKeys()) {
+            initial.put(key.getKid(), toEntry(key));
+        }
+        if (initial.isEmpty()) {
+            throw new IllegalStateException("No JWT keys configured: set jwt.secret or jwt.keys");
+        }
+
+        String activeKid = jwtProperties.getActiveKid();
+        if (activeKid == null) {
+            activeKid = jwtProperties.getKeys().isEmpty() ? DEFAULT_KID : jwtProperties.getKeys().getFirst().getKid();
+        }
+        this.keys = Map.copyOf(initial);
+        this.active = require(activeKid);
+        log.info("JwtKeyRing: kids={} active={} (signing={})", keys.keySet(), active.kid(), active.canSign());
+    }
+
+    /**
+     * 새 토큰 서명에 쓸 키
+     */
+    public KeyEntry signingKey() {
+        KeyEntry current = active;
+        if (!current.canSign()) {
+            throw new IllegalStateException("Active JWT key " + current.kid() + " is verification-only on this node");
+        }
+        return current;
+    }
+
+    /**
+     * kid 로 검증 키 조회. kid 가 없는 토큰(키 링 이전 발급)은 "default" 키로 검증
+     *
+     * @return 등록되지 않은 kid 이면 null
+     */
+    public Key verificationKey(String kid) {
+        KeyEntry entry = keys.get(kid != null ? kid : DEFAULT_KID);
+        return entry != null ? entry.verificationKey() : null;
+    }
+
+    /**
+     * 서명 중인 키의 kid
+     */
+    public String activeKid() {
+        return active.kid();
+    }
+
+    /**
+     * 등록된 kid 목록
+     */
+    public Set<String> kids() {
+        return keys.keySet();
+    }
+
+    /**
+     * 키 추가 또는 교체 (검증에는 즉시 사용됨)
+     */
+    public synchronized void register(KeyEntry entry) {
+        Map<String, KeyEntry> next = new HashMap<>(keys);
+        next.put(entry.kid(), entry);
+        keys = Map.copyOf(next);
+        if (active.kid().equals(entry.kid())) {
+            active = entry;
+        }
+        log.info("JwtKeyRing: registered key {} (signing={})", entry.kid(), entry.canSign());
+    }
+
+    /**
+     * 새 토큰 서명 키 전환
+     */
+    public synchronized void activate(String kid) {
+        active = require(kid);
+        log.info("JwtKeyRing: active key is now {}", kid);
+    }
+
+    /**
+     * 키 제거. 이 키로 서명된 토큰은 더 이상 검증되지 않는다
+     */
+    public synchronized void retire(String kid) {
+        if (active.kid().equals(kid)) {
+            throw new IllegalArgumentException("Cannot retire the active JWT key: " + kid);
+        }
+        Map<String, KeyEntry> next = new HashMap<>(keys);
+        next.remove(kid);
+        keys = Map.copyOf(next);
+        log.info("JwtKeyRing: retired key {}", kid);
+    }
+
+    private KeyEntry require(String kid) {
+        KeyEntry entry = keys.get(kid);
+        if (entry == null) {
+            throw new IllegalArgumentException("Unknown JWT key id: " + kid);
+        }
+        return entry;
+    }
+
+    /**
+     * 설정값으로 키 생성
+     */
+    public static KeyEntry toEntry(JwtProperties.KeyProperties key) {
+        if (key.getKid() == null || key.getKid().isBlank()) {
+            throw new IllegalArgumentException("JWT key requires a kid");
+        }
+        return switch (key.getAlgorithm()) {
+            case HMAC -> hmac(key.getKid(), key.getSecret());
+            case ES256 -> asymmetric(key, "EC");
+            case EDDSA -> asymmetric(key, "Ed25519");
+        };
+    }
+
+    private static KeyEntry hmac(String kid, String secret) {
+        if (secret == null || secret.isBlank()) {
+            throw new IllegalArgumentException("HMAC JWT key " + kid + " requires a secret");
+        }
+        Key key = Keys.hmacShaKeyFor(secret.getBytes());
+        return new KeyEntry(kid, JwtProperties.KeyAlgorithm.HMAC, key, key);
+    }
+
+    private static KeyEntry asymmetric(JwtProperties.KeyProperties key, String keyAlgorithm) {
+        if (key.getPublicKey() == null) {
+            throw new IllegalArgumentException("JWT key " + key.getKid() + " requires a public key");
+        }
+        PublicKey publicKey;
+        PrivateKey privateKey;
+        try {
+            KeyFactory factory = KeyFactory.getInstance(keyAlgorithm);
+            publicKey = factory.generatePublic(new X509EncodedKeySpec(decode(key.getPublicKey())));
+            privateKey = key.getPrivateKey() == null ? null
+                    : factory.generatePrivate(new PKCS8EncodedKeySpec(decode(key.getPrivateKey())));
+        } catch (GeneralSecurityException | IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid " + key.getAlgorithm() + " JWT key " + key.getKid(), e);
+        }
+        if (key.getAlgorithm() == JwtProperties.KeyAlgorithm.ES256) {
+            requireP256(key.getKid(), publicKey);
+            requireP256(key.getKid(), privateKey);
+        }
+        return new KeyEntry(key.getKid(), key.getAlgorithm(), privateKey, publicKey);
+    }
+
+    // ES256 은 P-256 만 허용 (EC KeyFactory 는 P-384/P-521 키도 만들어 준다)
+    private static void requireP256(String kid, Key key) {
+        if (key == null) {
+            return;
+        }
+        ECParameterSpec params = ((ECKey) key).getParams();
+        if (!params.getCurve().equals(P256.getCurve()) || !params.getOrder().equals(P256.getOrder())
+                || !params.getGenerator().equals(P256.getGenerator())) {
+            throw new IllegalArgumentException("ES256 JWT key " + kid + " must use the P-256 curve");
+        }
+    }
+
+    private static ECParameterSpec p256() {
+        try {
+            AlgorithmParameters parameters = AlgorithmParameters.getInstance("EC");
+            parameters.init(new ECGenParameterSpec("secp256r1"));
+            return parameters.getParameterSpec(ECParameterSpec.class);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("secp256r1 not available", e);
+        }
+    }
+
+    // PEM 헤더/줄바꿈이 있어도 본문만 사용
+    private static byte[] decode(String base64) {
+        String body = base64.replaceAll("-----[A-Z ]+-----", "").replaceAll("\\s", "");
+        return Base64.getDecoder().decode(body);
+    }
+}
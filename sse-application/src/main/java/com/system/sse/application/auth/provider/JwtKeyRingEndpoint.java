@@ -0,0 +1,70 @@
+package com.system.sse.application.auth.provider;
+
+import com.system.sse.application.auth.config.JwtProperties;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.TreeSet;
+
+/**
+ * JWT 키 교체용 관리 endpoint (/actuator/jwtkeys).
+ * - 노드마다 따로 호출한다: 새 키 등록(모든 노드) → 활성 전환(모든 노드) → 이전 키 토큰 만료 후 제거(모든 노드)
+ * - 기본 노출 목록에 없으므로 management.endpoints.web.exposure.include 에 jwtkeys 를 추가한 관리망에서만 사용한다
+ */
+@Component
+@Endpoint(id = "jwtkeys")
+@RequiredArgsConstructor
+public class JwtKeyRingEndpoint {
+
+    private final JwtKeyRing keyRing;
+    private final VerifiedTokenCache verifiedTokenCache;
+
+    @ReadOperation
+    public Map<String, Object> keys() {
+        return Map.of("active", keyRing.activeKid(), "kids", new TreeSet<>(keyRing.kids()));
+    }
+
+    /**
+     * 키 등록 (키 값이 없으면 등록 생략) 후 activate 가 true 이면 서명 키로 전환
+     */
+    @WriteOperation
+    public Map<String, Object> register(@Selector String kid,
+                                        @Nullable JwtProperties.KeyAlgorithm algorithm,
+                                        @Nullable String secret,
+                                        @Nullable String publicKey,
+                                        @Nullable String privateKey,
+                                        @Nullable Boolean activate) {
+        if (secret != null || publicKey != null) {
+            JwtProperties.KeyProperties key = new JwtProperties.KeyProperties();
+            key.setKid(kid);
+            key.setAlgorithm(algorithm != null ? algorithm : JwtProperties.KeyAlgorithm.HMAC);
+            key.setSecret(secret);
+            key.setPublicKey(publicKey);
+            key.setPrivateKey(privateKey);
+            keyRing.register(JwtKeyRing.toEntry(key));
+            // 같은 kid 의 키 값이 바뀌었으면 이전 키로 검증된 항목을 남기지 않는다
+            verifiedTokenCache.evictKey(kid);
+        }
+        if (Boolean.TRUE.equals(activate)) {
+            keyRing.activate(kid);
+        }
+        return keys();
+    }
+
+    /**
+     * 키 제거. 이 키로 서명된 토큰은 캐시에서도 즉시 거부된다
+     */
+    @DeleteOperation
+    public Map<String, Object> retire(@Selector String kid) {
+        keyRing.retire(kid);
+        verifiedTokenCache.evictKey(kid);
+        return keys();
+    }
+}
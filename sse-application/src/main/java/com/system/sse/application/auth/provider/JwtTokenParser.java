@@ -1,103 +1,97 @@
 package com.system.sse.application.auth.provider;
 
-import com.system.sse.application.auth.config.JwtProperties;
 import io.jsonwebtoken.*;
-import io.jsonwebtoken.security.Keys;
 import io.jsonwebtoken.security.SecurityException;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
+import java.security.Key;
 import java.time.Instant;
 import java.util.Date;
 
+/**
+ * JWT 서명 검증과 클레임 추출.
+ * - JwtParser 는 시작 시 한 번만 만들고 모든 요청이 공유한다 (JwtParser 는 thread-safe)
+ * - 검증 키는 JWS 헤더의 kid 로 키 링에서 바로 찾는다 (키 교체 시 parser 를 다시 만들 필요 없음)
+ * - 요청 경로에서는 {@link #verify(String)} 한 번으로 검증과 클레임 추출을 함께 끝낸다
+ */
 @Slf4j
 @Component
-@RequiredArgsConstructor
 public class JwtTokenParser {
-    private final JwtProperties jwtProperties;
+    private final JwtParser parser;
+
+    public JwtTokenParser(JwtKeyRing keyRing) {
+        this.parser = Jwts.parser()
+                .keyLocator(new LocatorAdapter<Key>() {
+                    @Override
+                    protected Key locate(JwsHeader header) {
+                        Key key = keyRing.verificationKey(header.getKeyId());
+                        if (key == null) {
+                            throw new SecurityException("Unknown JWT key id: " + header.getKeyId());
+                        }
+                        return key;
+                    }
+                })
+                .build();
+    }
 
     /**
-     * JWT 토큰에서 Claims 정보 추출
+     * JWT 토큰을 검증하고 클레임을 추출
+     *
+     * @return 유효하지 않으면 null
      */
-    private Claims getClaims(String token) {
-        return Jwts.parser()
-                .verifyWith(Keys.hmacShaKeyFor(jwtProperties.getSecret().getBytes()))
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
+    public JwtClaims verify(String token) {
+        try {
+            return toClaims(parser.parseSignedClaims(token));
+        } catch (SecurityException | MalformedJwtException e) {
+            log.warn("잘못된 JWT 서명입니다: {}", e.getMessage());
+        } catch (ExpiredJwtException e) {
+            log.warn("만료된 JWT 토큰입니다: {}", e.getMessage());
+        } catch (UnsupportedJwtException e) {
+            log.warn("지원되지 않는 JWT 토큰입니다: {}", e.getMessage());
+        } catch (JwtException | IllegalArgumentException e) {
+            log.warn("JWT 토큰이 잘못되었습니다: {}", e.getMessage());
+        }
+        return null;
     }
 
     /**
      * JWT 토큰에서 사용자명 추출
      */
     public String getUsername(String token) {
-        try {
-            Claims claims = getClaims(token);
-            return claims.getSubject();
-        } catch (JwtException | IllegalArgumentException e) {
-            log.warn("JwtTokenParser.getUsername: 토큰에서 사용자명 추출 실패. message={}", e.getMessage());
-            return null;
-        }
+        JwtClaims claims = verify(token);
+        return claims != null ? claims.subject() : null;
     }
 
     /**
-     * JWT 토큰에서 권한 정보 추출
+     * JWT 토큰에서 세션 ID 추출
      */
     public String getCredential(String token) {
-        try {
-            Claims claims = getClaims(token);
-            return claims.get(JwtClaimNames.SESSION_ID.getName(), String.class);
-        } catch (JwtException | IllegalArgumentException e) {
-            log.warn("getCredential 실패: {}", e.getMessage());
-            return null;
-        }
+        JwtClaims claims = verify(token);
+        return claims != null ? claims.sessionId() : null;
     }
 
     /**
      * JWT 토큰에서 권한 정보 추출
      */
     public String getAuthorities(String token) {
-        try {
-            Claims claims = getClaims(token);
-            return claims.get(JwtClaimNames.ROLES.getName(), String.class);
-        } catch (JwtException | IllegalArgumentException e) {
-            log.warn("토큰에서 권한 정보 추출 실패: {}", e.getMessage());
-            return null;
-        }
+        JwtClaims claims = verify(token);
+        return claims != null ? claims.roles() : null;
     }
 
     /**
      * JWT 토큰에서 만료 시각(exp) 추출
      */
     public Instant getExpiration(String token) {
-        try {
-            Date expiration = getClaims(token).getExpiration();
-            return expiration != null ? expiration.toInstant() : null;
-        } catch (JwtException | IllegalArgumentException e) {
-            log.warn("JwtTokenParser.getExpiration: 토큰에서 만료 시각 추출 실패. message={}", e.getMessage());
-            return null;
-        }
+        JwtClaims claims = verify(token);
+        return claims != null ? claims.expiration() : null;
     }
 
     /**
      * JWT 토큰 유효성 검증
      */
     public boolean isValid(String token) {
-        try {
-            getClaims(token);
-            return true;
-        } catch (SecurityException | MalformedJwtException e) {
-            log.warn("잘못된 JWT 서명입니다: {}", e.getMessage());
-        } catch (ExpiredJwtException e) {
-            log.warn("만료된 JWT 토큰입니다: {}", e.getMessage());
-        } catch (UnsupportedJwtException e) {
-            log.warn("지원되지 않는 JWT 토큰입니다: {}", e.getMessage());
-        } catch (IllegalArgumentException e) {
-            log.warn("JWT 토큰이 잘못되었습니다: {}", e.getMessage());
-        }
-
-        return false;
+        return verify(token) != null;
     }
 
     /**
@@ -116,12 +110,28 @@ public class JwtTokenParser {
      * 토큰 타입 확인 (access/refresh)
      */
     public String getTokenType(String token) {
-        try {
-            Claims claims = getClaims(token);
-            return claims.get(JwtClaimNames.TYPE.getName(), String.class);
-        } catch (JwtException | IllegalArgumentException e) {
-            log.warn("토큰 타입 확인 실패: {}", e.getMessage());
-            return null;
-        }
+        JwtClaims claims = verify(token);
+        return claims != null ? claims.type() : null;
+    }
+
+    /**
+     * JWT 토큰에서 Claims 정보 추출
+     */
+    private Claims getClaims(String token) {
+        return parser.parseSignedClaims(token).getPayload();
+    }
+
+    private static JwtClaims toClaims(Jws<Claims> jws) {
+        Claims claims = jws.getPayload();
+        Date expiration = claims.getExpiration();
+        String keyId = jws.getHeader().getKeyId();
+        return new JwtClaims(
+                claims.getSubject(),
+                claims.get(JwtClaimNames.ROLES.getName(), String.class),
+                claims.get(JwtClaimNames.SESSION_ID.getName(), String.class),
+                claims.get(JwtClaimNames.TYPE.getName(), String.class),
+                claims.getId(),
+                expiration != null ? expiration.toInstant() : null,
+                keyId != null ? keyId : JwtKeyRing.DEFAULT_KID);
     }
 }
@@ -2,6 +2,13 @@ package com.system.sse.application.auth.provider;
 
 import lombok.Builder;
 
+import java.time.Instant;
+
+/**
+ * @param refreshTokenId         refresh token 의 jti (저장소 등록용)
+ * @param refreshTokenExpiration refresh token 의 exp
+ */
 @Builder
-public record JwtTokenResult(String accessToken, String refreshToken) {
+public record JwtTokenResult(String accessToken, String refreshToken,
+                             String refreshTokenId, Instant refreshTokenExpiration) {
 }
@@ -7,8 +7,8 @@ import org.springframework.stereotype.Component;
 @Component
 public class RefreshTokenProvider extends BaseTokenProvider {
 
-    public RefreshTokenProvider(JwtProperties jwtProperties) {
-        super(jwtProperties, jwtProperties.getRefreshTokenValidityInMs());
+    public RefreshTokenProvider(JwtProperties jwtProperties, CompactJwsSigner signer) {
+        super(signer, jwtProperties.getRefreshTokenValidityInMs());
     }
 
     @Override
@@ -20,6 +20,13 @@ public class RefreshTokenProvider extends BaseTokenProvider {
      * Refresh Token 생성 (Refresh Token 특화 메서드)
      */
     public String createRefreshToken(Authentication authentication) {
-        return createBaseTokenBuilder(authentication).compact();
+        return issueRefreshToken(authentication).token();
+    }
+
+    /**
+     * Refresh Token 발급 (jti / exp 포함)
+     */
+    public IssuedToken issueRefreshToken(Authentication authentication) {
+        return issue(authentication, null);
     }
 }
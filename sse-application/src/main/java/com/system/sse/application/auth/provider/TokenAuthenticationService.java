@@ -2,35 +2,46 @@ package com.system.sse.application.auth.provider;
 
 import com.system.sse.application.auth.entity.AuthRequest;
 import com.system.sse.application.auth.entity.AuthResponse;
+import com.system.sse.application.auth.refresh.RefreshTokenStore;
+import com.system.sse.application.auth.refresh.RefreshTokenStore.RotationResult;
+import com.system.sse.application.auth.refresh.SessionRevocationBroadcaster;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.stereotype.Service;
 
-import java.util.Collection;
 import java.util.List;
+import java.util.UUID;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class TokenAuthenticationService {
+    private static final List<GrantedAuthority> USER_AUTHORITIES = List.of(new SimpleGrantedAuthority("ROLE_USER"));
+
     private final TokenProviderFacade tokenProviderFacade;
-//    private final RefreshTokenCacheService refreshTokenCacheService;
+    private final RefreshTokenStore refreshTokenStore;
     private final JwtTokenParser jwtTokenParser;
+    private final SessionRevocationBroadcaster sessionRevocationBroadcaster;
 
     /**
      * 로그인 처리 및 토큰 발급
      */
     public AuthResponse authenticate(AuthRequest request) {
-        String sessionId = request.getCredential();
-
-        Collection<? extends GrantedAuthority> authorities = List.of(new SimpleGrantedAuthority("ROLE_USER"));
+        // 세션 ID 는 로그인마다 서버가 새로 만든다. 요청의 sessionId 는 클라이언트가 고를 수 있어
+        // 폐기 키로 쓰면 재로그인한 세션이나 같은 값을 쓴 다른 사용자의 토큰까지 거부하게 된다
+        String sessionId = UUID.randomUUID().toString();
 
-        final JwtTokenResult token = tokenProviderFacade.createToken(request.getUsername(), sessionId, authorities);
+        final JwtTokenResult token = tokenProviderFacade.createToken(request.getUsername(), sessionId, USER_AUTHORITIES);
 
-        // Refresh Token 저장
-//        refreshTokenCacheService.store(request.getUsername(), token.refreshToken());
+        // Refresh Token 저장 (새 rotation family 시작)
+        int evicted = refreshTokenStore.issue(
+                request.getUsername(), token.refreshTokenId(), token.refreshTokenExpiration());
+        if (evicted > 0) {
+            log.info("Session limit reached for {}, revoked {} oldest refresh token families",
+                    request.getUsername(), evicted);
+        }
 
         return new AuthResponse(token.accessToken(), token.refreshToken());
     }
@@ -39,27 +50,50 @@ public class TokenAuthenticationService {
      * Access Token 갱신
      */
     public AuthResponse refreshAccessToken(String refreshToken) {
-        // Refresh Token 유효성 검사
-        if (!jwtTokenParser.isValid(refreshToken)) {
+        // Refresh Token 유효성 검사와 클레임 추출을 한 번에
+        JwtClaims claims = jwtTokenParser.verify(refreshToken);
+        if (claims == null || !claims.isRefreshToken()) {
             throw new IllegalArgumentException("유효하지 않은 Refresh Token입니다.");
         }
 
         // 사용자명과 세션 아이디 추출
-        String username = jwtTokenParser.getUsername(refreshToken);
-        String sessionId = jwtTokenParser.getCredential(refreshToken);
-
-        // 저장된 리프레시 토큰과 일치 여부 확인
-//        String cachedRefreshToken = refreshTokenCacheService.get(username);
-//        if (!refreshToken.equals(cachedRefreshToken)) {
-//            throw new IllegalArgumentException("저장된 Refresh Token과 일치하지 않습니다.");
-//        }
-
-        Collection<? extends GrantedAuthority> authorities = List.of(new SimpleGrantedAuthority("ROLE_USER"));
+        String username = claims.subject();
+        String sessionId = claims.sessionId();
 
         // 새 토큰 생성
-        JwtTokenResult token = tokenProviderFacade.createToken(username, sessionId, authorities);
+        JwtTokenResult token = tokenProviderFacade.createToken(username, sessionId, USER_AUTHORITIES);
+
+        // 저장된 현재 Refresh Token 과 일치할 때만 새 토큰으로 교체
+        RotationResult result = refreshTokenStore.rotate(
+                username, claims.tokenId(), token.refreshTokenId(), token.refreshTokenExpiration());
+        if (result == RotationResult.REUSED) {
+            // 탈취된 토큰일 수 있으므로 같은 세션으로 발급된 access token 도 모든 노드에서 폐기
+            sessionRevocationBroadcaster.revokeSession(username, sessionId);
+        }
+        if (result != RotationResult.ROTATED) {
+            throw new IllegalArgumentException("저장된 Refresh Token과 일치하지 않습니다.");
+        }
 
         // Access 및 Refresh 토큰을 담아 반환
         return new AuthResponse(token.accessToken(), token.refreshToken());
     }
+
+    /**
+     * 로그아웃: refresh token family 를 폐기하고 같은 세션의 access token 을 모든 노드에서 거부
+     *
+     * @param allSessions true 이면 사용자의 모든 family 폐기 (다른 세션의 access token 은 만료될 때까지 유효)
+     */
+    public void logout(String refreshToken, boolean allSessions) {
+        JwtClaims claims = jwtTokenParser.verify(refreshToken);
+        if (claims == null || !claims.isRefreshToken()) {
+            throw new IllegalArgumentException("유효하지 않은 Refresh Token입니다.");
+        }
+
+        if (allSessions) {
+            refreshTokenStore.revokeUser(claims.subject());
+        } else {
+            refreshTokenStore.revokeFamily(claims.subject(), claims.tokenId());
+        }
+        sessionRevocationBroadcaster.revokeSession(claims.subject(), claims.sessionId());
+    }
 }
@@ -22,14 +22,16 @@ public class TokenProviderFacade {
         );
 
         // accessToken 생성
-        String accessToken = accessTokenProvider.createAccessToken(auth);
+        IssuedToken accessToken = accessTokenProvider.issueAccessToken(auth);
 
         // refreshToken 생성
-        String refreshToken = refreshTokenProvider.createRefreshToken(auth);
+        IssuedToken refreshToken = refreshTokenProvider.issueRefreshToken(auth);
 
         return JwtTokenResult.builder()
-                .accessToken(accessToken)
-                .refreshToken(refreshToken)
+                .accessToken(accessToken.token())
+                .refreshToken(refreshToken.token())
+                .refreshTokenId(refreshToken.tokenId())
+                .refreshTokenExpiration(refreshToken.expiration())
                 .build();
     }
 }
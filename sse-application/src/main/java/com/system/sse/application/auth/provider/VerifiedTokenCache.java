@@ -0,0 +1,165 @@
+package com.system.sse.application.auth.provider;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.system.sse.application.auth.config.JwtProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Objects;
+
+/**
+ * 검증을 마친 토큰의 클레임 캐시.
+ * - 같은 access token 으로 재연결/API 호출이 반복될 때 HMAC 검증과 JSON 파싱을 건너뛴다
+ * - 키는 토큰 원문이 아닌 SHA-256 digest (메모리에 토큰을 남기지 않음)
+ * - 항목 TTL 은 min(verifiedCacheTtl, exp - now) 이므로 만료된 토큰은 캐시에서 먼저 사라진다
+ * - jti / (사용자, 세션 ID) 로 폐기하면 해당 항목을 지우고, 폐기 목록에 남겨 같은 토큰이 다시 통과하지 않게 한다
+ * - 서명 키(kid)가 키 링에서 제거되면 그 키로 검증된 항목도 지운다 (적중 시에도 kid 가 남아 있는지 다시 확인)
+ */
+@Slf4j
+@Component
+public class VerifiedTokenCache {
+
+    private final JwtTokenParser jwtTokenParser;
+    private final JwtKeyRing keyRing;
+    private final boolean enabled;
+    private final Cache<String, JwtClaims> verified;
+    // 폐기된 jti / 세션 ID. 토큰이 자연 만료될 때까지만 기억하면 된다 (항목 수는 revoked-cache-size 로 제한)
+    private final Cache<String, Boolean> revoked;
+
+    public VerifiedTokenCache(JwtTokenParser jwtTokenParser, JwtKeyRing keyRing, JwtProperties jwtProperties,
+                              MeterRegistry meterRegistry) {
+        this.jwtTokenParser = jwtTokenParser;
+        this.keyRing = keyRing;
+        this.enabled = jwtProperties.getVerifiedCacheSize() > 0;
+        long maxTtlNanos = jwtProperties.getVerifiedCacheTtl().toNanos();
+        this.verified = Caffeine.newBuilder()
+                .maximumSize(Math.max(jwtProperties.getVerifiedCacheSize(), 0))
+                .expireAfter(new Expiry<String, JwtClaims>() {
+                    @Override
+                    public long expireAfterCreate(String key, JwtClaims claims, long currentTime) {
+                        if (claims.expiration() == null) {
+                            return maxTtlNanos;
+                        }
+                        long untilExp = Duration.between(Instant.now(), claims.expiration()).toNanos();
+                        return Math.max(0, Math.min(maxTtlNanos, untilExp));
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String key, JwtClaims claims, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+
+                    @Override
+                    public long expireAfterRead(String key, JwtClaims claims, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .recordStats()
+                .build();
+        this.revoked = Caffeine.newBuilder()
+                .maximumSize(jwtProperties.getRevokedCacheSize())
+                .recordStats()
+                .expireAfterWrite(Duration.ofMillis(Math.max(
+                        jwtProperties.getAccessTokenValidityInMs(), jwtProperties.getRefreshTokenValidityInMs())))
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, verified, "sse.auth.verified-token");
+        // eviction 수가 늘면 revoked-cache-size 가 부족하다는 뜻
+        CaffeineCacheMetrics.monitor(meterRegistry, revoked, "sse.auth.revoked-token");
+    }
+
+    /**
+     * 캐시된 클레임을 돌려주고, 없으면 검증 후 캐시
+     *
+     * @return 유효하지 않거나 폐기된 토큰이면 null
+     */
+    public JwtClaims verify(String token) {
+        if (!enabled) {
+            JwtClaims claims = jwtTokenParser.verify(token);
+            return isRevoked(claims) ? null : claims;
+        }
+        String key = digest(token);
+        JwtClaims cached = verified.getIfPresent(key);
+        if (cached != null) {
+            if (isKeyRegistered(cached)) {
+                return cached;
+            }
+            verified.invalidate(key);
+            return null;
+        }
+
+        JwtClaims claims = jwtTokenParser.verify(token);
+        if (claims == null || isRevoked(claims)) {
+            return null;
+        }
+        verified.put(key, claims);
+        // 검증하는 사이 폐기되었거나 키가 제거되었으면 방금 넣은 항목을 되돌린다
+        if (isRevoked(claims) || !isKeyRegistered(claims)) {
+            verified.invalidate(key);
+            return null;
+        }
+        return claims;
+    }
+
+    /**
+     * 토큰 ID(jti) 폐기
+     */
+    public void revokeTokenId(String tokenId) {
+        revoked.put("jti:" + tokenId, Boolean.TRUE);
+        verified.asMap().values().removeIf(claims -> Objects.equals(tokenId, claims.tokenId()));
+        log.info("Revoked token {}", tokenId);
+    }
+
+    /**
+     * 사용자의 세션 ID 로 발급된 모든 토큰 폐기 (같은 세션 ID 를 가진 다른 사용자의 토큰은 그대로)
+     */
+    public void revokeSession(String subject, String sessionId) {
+        revoked.put(sessionKey(subject, sessionId), Boolean.TRUE);
+        verified.asMap().values().removeIf(claims ->
+                Objects.equals(subject, claims.subject()) && Objects.equals(sessionId, claims.sessionId()));
+        log.info("Revoked tokens of session {} for {}", sessionId, subject);
+    }
+
+    /**
+     * 키 링에서 제거된 kid 로 검증된 항목 제거
+     */
+    public void evictKey(String keyId) {
+        verified.asMap().values().removeIf(claims -> Objects.equals(keyId, claims.keyId()));
+        log.info("Evicted cached tokens of key {}", keyId);
+    }
+
+    private boolean isKeyRegistered(JwtClaims claims) {
+        return keyRing.verificationKey(claims.keyId()) != null;
+    }
+
+    private boolean isRevoked(JwtClaims claims) {
+        if (claims == null) {
+            return false;
+        }
+        return (claims.tokenId() != null && revoked.getIfPresent("jti:" + claims.tokenId()) != null)
+                || (claims.sessionId() != null
+                    && revoked.getIfPresent(sessionKey(claims.subject(), claims.sessionId())) != null);
+    }
+
+    private static String sessionKey(String subject, String sessionId) {
+        return "sid:" + subject + '\n' + sessionId;
+    }
+
+    private static String digest(String token) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.US_ASCII));
+            return Base64.getEncoder().withoutPadding().encodeToString(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
@@ -0,0 +1,214 @@
+package com.system.sse.application.auth.refresh;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 메모리 refresh token 저장소 (jwt.refresh-store.backend=memory, 기본값)
+ * - 사용자명 hash 로 stripe 를 고르고, 한 사용자의 토큰/family 는 항상 같은 stripe 의 lock 아래에서 바뀐다
+ * - 조회는 stripe lock 한 번 + HashMap 조회 두 번이라 경합이 없으면 수백 ns 수준
+ * - 폐기된 family 의 토큰은 만료될 때까지 남겨 두어 다시 제시되면 REVOKED 로 응답한다
+ * - 만료된 family 는 해당 사용자를 건드릴 때와, stripe 마다 일정 횟수의 쓰기마다 정리한다
+ * - 단일 노드 환경용, 재시작 시 유실 (모든 refresh token 이 UNKNOWN 이 되어 재로그인 필요)
+ */
+@Slf4j
+public class InMemoryRefreshTokenStore implements RefreshTokenStore {
+
+    private static final int SWEEP_INTERVAL = 1024;
+
+    private final Stripe[] stripes;
+    private final int maxSessionsPerUser;
+    private final Clock clock;
+
+    public InMemoryRefreshTokenStore(int stripeCount, int maxSessionsPerUser, Clock clock) {
+        if (stripeCount <= 0 || maxSessionsPerUser <= 0) {
+            throw new IllegalArgumentException("stripes and maxSessionsPerUser must be positive");
+        }
+        this.stripes = new Stripe[stripeCount];
+        for (int i = 0; i < stripeCount; i++) {
+            stripes[i] = new Stripe();
+        }
+        this.maxSessionsPerUser = maxSessionsPerUser;
+        this.clock = clock;
+    }
+
+    @Override
+    public int issue(String username, String tokenId, Instant expiresAt) {
+        Stripe stripe = stripe(username);
+        stripe.lock.lock();
+        try {
+            Instant now = clock.instant();
+            stripe.maybeSweep(now);
+            stripe.purgeExpired(username, now);
+            Map<String, Family> families = stripe.users.computeIfAbsent(username, u -> new LinkedHashMap<>());
+
+            Family family = new Family(username, tokenId, tokenId, expiresAt);
+            families.put(tokenId, family);
+            stripe.tokens.put(tokenId, family);
+
+            // 가장 오래 갱신되지 않은 family 부터 (LinkedHashMap 순서 = 마지막 갱신 순)
+            int evicted = 0;
+            Iterator<Family> oldest = families.values().iterator();
+            while (families.size() > maxSessionsPerUser && oldest.hasNext()) {
+                oldest.next().revoked = true;
+                oldest.remove();
+                evicted++;
+            }
+            return evicted;
+        } finally {
+            stripe.lock.unlock();
+        }
+    }
+
+    @Override
+    public RotationResult rotate(String username, String presentedTokenId, String nextTokenId, Instant nextExpiresAt) {
+        Stripe stripe = stripe(username);
+        stripe.lock.lock();
+        try {
+            Family family = stripe.tokens.get(presentedTokenId);
+            if (family == null || !family.username.equals(username)) {
+                return RotationResult.UNKNOWN;
+            }
+            if (family.expiresAt.isBefore(clock.instant())) {
+                stripe.revoke(family);
+                stripe.forget(family);
+                return RotationResult.UNKNOWN;
+            }
+            if (family.revoked) {
+                return RotationResult.REVOKED;
+            }
+            if (!family.currentTokenId.equals(presentedTokenId)) {
+                log.warn("Refresh token reuse detected: user={} family={}", username, family.familyId);
+                stripe.revoke(family);
+                return RotationResult.REUSED;
+            }
+
+            family.currentTokenId = nextTokenId;
+            family.expiresAt = nextExpiresAt;
+            family.tokenIds.add(nextTokenId);
+            stripe.tokens.put(nextTokenId, family);
+            // 최근 갱신 순서 유지
+            Map<String, Family> families = stripe.users.get(username);
+            families.remove(family.familyId);
+            families.put(family.familyId, family);
+            return RotationResult.ROTATED;
+        } finally {
+            stripe.lock.unlock();
+        }
+    }
+
+    @Override
+    public void revokeFamily(String username, String tokenId) {
+        Stripe stripe = stripe(username);
+        stripe.lock.lock();
+        try {
+            Family family = stripe.tokens.get(tokenId);
+            if (family != null && family.username.equals(username)) {
+                stripe.revoke(family);
+            }
+        } finally {
+            stripe.lock.unlock();
+        }
+    }
+
+    @Override
+    public void revokeUser(String username) {
+        Stripe stripe = stripe(username);
+        stripe.lock.lock();
+        try {
+            Map<String, Family> families = stripe.users.remove(username);
+            if (families != null) {
+                families.values().forEach(family -> family.revoked = true);
+            }
+        } finally {
+            stripe.lock.unlock();
+        }
+    }
+
+    private Stripe stripe(String username) {
+        return stripes[Math.floorMod(username.hashCode(), stripes.length)];
+    }
+
+    /**
+     * 하나의 로그인 세션. 교체된 이전 jti 도 재사용 감지를 위해 family 가 사라질 때까지 기억한다
+     */
+    private static final class Family {
+        final String username;
+        final String familyId;
+        final List<String> tokenIds = new ArrayList<>(4);
+        String currentTokenId;
+        Instant expiresAt;
+        boolean revoked;
+
+        Family(String username, String familyId, String currentTokenId, Instant expiresAt) {
+            this.username = username;
+            this.familyId = familyId;
+            this.currentTokenId = currentTokenId;
+            this.expiresAt = expiresAt;
+            tokenIds.add(currentTokenId);
+        }
+    }
+
+    private static final class Stripe {
+        final ReentrantLock lock = new ReentrantLock();
+        final Map<String, Family> tokens = new HashMap<>();                // jti → family
+        final Map<String, Map<String, Family>> users = new HashMap<>();    // username → familyId → family
+        int writes;
+
+        /** 사용자 목록에서만 빼고, 토큰은 만료까지 REVOKED 판정용으로 남긴다 */
+        void revoke(Family family) {
+            family.revoked = true;
+            Map<String, Family> families = users.get(family.username);
+            if (families != null && families.remove(family.familyId) != null && families.isEmpty()) {
+                users.remove(family.username);
+            }
+        }
+
+        void forget(Family family) {
+            family.tokenIds.forEach(tokens::remove);
+        }
+
+        void purgeExpired(String username, Instant now) {
+            Map<String, Family> families = users.get(username);
+            if (families == null) {
+                return;
+            }
+            Iterator<Family> it = families.values().iterator();
+            while (it.hasNext()) {
+                Family family = it.next();
+                if (family.expiresAt.isBefore(now)) {
+                    forget(family);
+                    it.remove();
+                }
+            }
+            if (families.isEmpty()) {
+                users.remove(username);
+            }
+        }
+
+        void maybeSweep(Instant now) {
+            if (++writes % SWEEP_INTERVAL != 0) {
+                return;
+            }
+            // 폐기된 family 는 사용자 목록에 없으므로 토큰 쪽에서 정리
+            tokens.values().removeIf(family -> family.expiresAt.isBefore(now));
+            Iterator<Map<String, Family>> it = users.values().iterator();
+            while (it.hasNext()) {
+                Map<String, Family> families = it.next();
+                families.values().removeIf(family -> family.expiresAt.isBefore(now));
+                if (families.isEmpty()) {
+                    it.remove();
+                }
+            }
+        }
+    }
+}
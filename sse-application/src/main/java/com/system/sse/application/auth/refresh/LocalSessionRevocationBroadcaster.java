@@ -0,0 +1,18 @@
+package com.system.sse.application.auth.refresh;
+
+import com.system.sse.application.auth.provider.VerifiedTokenCache;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 단일 노드용. 이 노드의 검증 캐시에만 반영한다.
+ */
+@RequiredArgsConstructor
+public class LocalSessionRevocationBroadcaster implements SessionRevocationBroadcaster {
+
+    private final VerifiedTokenCache verifiedTokenCache;
+
+    @Override
+    public void revokeSession(String subject, String sessionId) {
+        verifiedTokenCache.revokeSession(subject, sessionId);
+    }
+}
@@ -0,0 +1,147 @@
+package com.system.sse.application.auth.refresh;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Redis 기반 refresh token 저장소 (jwt.refresh-store.backend=redis)
+ * - 어느 노드에서 refresh 해도 같은 family 상태를 보므로 재사용 감지가 클러스터 전체에 적용된다
+ * - 키는 사용자명을 hash tag 로 써서 ({prefix:username}) 한 사용자의 키는 같은 slot 에 놓이고,
+ *   발급/교체/폐기는 Lua 스크립트 하나로 원자적으로 실행한다 (스크립트가 건드리는 키는 모두 KEYS 로 넘겨 Redis Cluster 에서도 동작)
+ *   · tok:{jti}   → family ID (family 수명 동안 유지, 교체된 이전 토큰도 재사용 감지용으로 남음)
+ *   · current     → hash fid=현재 jti (필드가 없으면 폐기된 family)
+ *   · families    → zset fid, score=만료 시각 (가장 오래 갱신되지 않은 family 가 앞)
+ * - 모든 키는 PX TTL 을 가지고, 만료된 family 필드는 발급 시 families 의 score 로 찾아 정리한다
+ */
+@Slf4j
+public class RedisRefreshTokenStore implements RefreshTokenStore {
+
+    // KEYS: families, current, tok:{jti} / ARGV: jti, 만료 시각, TTL, 사용자 한도, 현재 시각
+    private static final RedisScript<Long> ISSUE_SCRIPT = new DefaultRedisScript<>("""
+            local expired = redis.call('ZRANGEBYSCORE', KEYS[1], '-inf', '(' .. ARGV[5])
+            for _, fid in ipairs(expired) do redis.call('HDEL', KEYS[2], fid) end
+            redis.call('ZREMRANGEBYSCORE', KEYS[1], '-inf', '(' .. ARGV[5])
+            redis.call('SET', KEYS[3], ARGV[1], 'PX', ARGV[3])
+            redis.call('HSET', KEYS[2], ARGV[1], ARGV[1])
+            redis.call('ZADD', KEYS[1], ARGV[2], ARGV[1])
+            redis.call('PEXPIRE', KEYS[1], ARGV[3])
+            redis.call('PEXPIRE', KEYS[2], ARGV[3])
+            local excess = redis.call('ZCARD', KEYS[1]) - tonumber(ARGV[4])
+            if excess <= 0 then return 0 end
+            local oldest = redis.call('ZRANGE', KEYS[1], 0, excess - 1)
+            for _, fid in ipairs(oldest) do redis.call('HDEL', KEYS[2], fid) end
+            redis.call('ZREMRANGEBYRANK', KEYS[1], 0, excess - 1)
+            return excess
+            """, Long.class);
+
+    // KEYS: families, current, tok:{제시된 jti}, tok:{새 jti} / ARGV: 제시된 jti, 새 jti, 만료 시각, TTL, 현재 시각
+    private static final RedisScript<String> ROTATE_SCRIPT = new DefaultRedisScript<>("""
+            local fid = redis.call('GET', KEYS[3])
+            if not fid then return 'UNKNOWN' end
+            local current = redis.call('HGET', KEYS[2], fid)
+            if not current then return 'REVOKED' end
+            local expiresAt = redis.call('ZSCORE', KEYS[1], fid)
+            if not expiresAt or tonumber(expiresAt) < tonumber(ARGV[5]) then
+              redis.call('HDEL', KEYS[2], fid)
+              redis.call('ZREM', KEYS[1], fid)
+              return 'UNKNOWN'
+            end
+            if current ~= ARGV[1] then
+              redis.call('HDEL', KEYS[2], fid)
+              redis.call('ZREM', KEYS[1], fid)
+              return 'REUSED'
+            end
+            redis.call('HSET', KEYS[2], fid, ARGV[2])
+            redis.call('SET', KEYS[4], fid, 'PX', ARGV[4])
+            redis.call('PEXPIRE', KEYS[3], ARGV[4])
+            redis.call('ZADD', KEYS[1], ARGV[3], fid)
+            redis.call('PEXPIRE', KEYS[1], ARGV[4])
+            redis.call('PEXPIRE', KEYS[2], ARGV[4])
+            return 'ROTATED'
+            """, String.class);
+
+    // KEYS: families, current, tok:{jti}
+    private static final RedisScript<Long> REVOKE_FAMILY_SCRIPT = new DefaultRedisScript<>("""
+            local fid = redis.call('GET', KEYS[3])
+            if not fid then return 0 end
+            redis.call('ZREM', KEYS[1], fid)
+            return redis.call('HDEL', KEYS[2], fid)
+            """, Long.class);
+
+    // KEYS: families, current
+    private static final RedisScript<Long> REVOKE_USER_SCRIPT = new DefaultRedisScript<>("""
+            local count = redis.call('ZCARD', KEYS[1])
+            redis.call('DEL', KEYS[1], KEYS[2])
+            return count
+            """, Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final String keyPrefix;
+    private final String maxSessionsPerUser;
+    private final Clock clock;
+
+    public RedisRefreshTokenStore(StringRedisTemplate redisTemplate, String keyPrefix,
+                                  int maxSessionsPerUser, Clock clock) {
+        this.redisTemplate = redisTemplate;
+        this.keyPrefix = keyPrefix;
+        this.maxSessionsPerUser = Integer.toString(maxSessionsPerUser);
+        this.clock = clock;
+    }
+
+    @Override
+    public int issue(String username, String tokenId, Instant expiresAt) {
+        String base = base(username);
+        long now = clock.millis();
+        Long evicted = redisTemplate.execute(ISSUE_SCRIPT,
+                List.of(base + "families", base + "current", base + "tok:" + tokenId),
+                tokenId, Long.toString(expiresAt.toEpochMilli()), ttl(expiresAt, now),
+                maxSessionsPerUser, Long.toString(now));
+        return evicted == null ? 0 : evicted.intValue();
+    }
+
+    @Override
+    public RotationResult rotate(String username, String presentedTokenId, String nextTokenId, Instant nextExpiresAt) {
+        String base = base(username);
+        long now = clock.millis();
+        String result = redisTemplate.execute(ROTATE_SCRIPT,
+                List.of(base + "families", base + "current", base + "tok:" + presentedTokenId,
+                        base + "tok:" + nextTokenId),
+                presentedTokenId, nextTokenId, Long.toString(nextExpiresAt.toEpochMilli()),
+                ttl(nextExpiresAt, now), Long.toString(now));
+        if (result == null) {
+            throw new IllegalStateException("Redis returned no rotation result");
+        }
+        RotationResult rotation = RotationResult.valueOf(result);
+        if (rotation == RotationResult.REUSED) {
+            log.warn("Refresh token reuse detected: user={} token={}", username, presentedTokenId);
+        }
+        return rotation;
+    }
+
+    @Override
+    public void revokeFamily(String username, String tokenId) {
+        String base = base(username);
+        redisTemplate.execute(REVOKE_FAMILY_SCRIPT,
+                List.of(base + "families", base + "current", base + "tok:" + tokenId));
+    }
+
+    @Override
+    public void revokeUser(String username) {
+        String base = base(username);
+        redisTemplate.execute(REVOKE_USER_SCRIPT, List.of(base + "families", base + "current"));
+    }
+
+    private String base(String username) {
+        return "{" + keyPrefix + ":" + username + "}:";
+    }
+
+    private static String ttl(Instant expiresAt, long now) {
+        return Long.toString(Math.max(1, expiresAt.toEpochMilli() - now));
+    }
+}
@@ -0,0 +1,50 @@
+package com.system.sse.application.auth.refresh;
+
+import com.system.sse.application.auth.provider.VerifiedTokenCache;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Redis Pub/Sub 으로 세션 폐기를 전파.
+ * - 메시지는 "사용자\n세션 ID" (세션 ID 는 서버가 만든 UUID 라 줄바꿈이 없으므로 마지막 줄바꿈으로 나눈다)
+ * - 발행한 노드는 먼저 자신의 캐시에 반영하고, 자신에게 돌아온 메시지는 같은 폐기를 한 번 더 할 뿐이다 (멱등)
+ * - Pub/Sub 은 전달을 보장하지 않는다. 메시지를 놓친(구독이 끊겼던) 노드에서는 access token 이 만료될 때까지 통과할 수 있다
+ */
+@Slf4j
+public class RedisSessionRevocationBroadcaster implements SessionRevocationBroadcaster {
+
+    private final StringRedisTemplate redisTemplate;
+    private final VerifiedTokenCache verifiedTokenCache;
+    private final String channel;
+
+    public RedisSessionRevocationBroadcaster(StringRedisTemplate redisTemplate,
+                                             RedisMessageListenerContainer container,
+                                             VerifiedTokenCache verifiedTokenCache, String channel) {
+        this.redisTemplate = redisTemplate;
+        this.verifiedTokenCache = verifiedTokenCache;
+        this.channel = channel;
+        container.addMessageListener((message, pattern) -> {
+            String body = new String(message.getBody(), StandardCharsets.UTF_8);
+            int separator = body.lastIndexOf('\n');
+            if (separator < 0) {
+                log.warn("Ignoring malformed session revocation message");
+                return;
+            }
+            verifiedTokenCache.revokeSession(body.substring(0, separator), body.substring(separator + 1));
+        }, new ChannelTopic(channel));
+    }
+
+    @Override
+    public void revokeSession(String subject, String sessionId) {
+        verifiedTokenCache.revokeSession(subject, sessionId);
+        try {
+            redisTemplate.convertAndSend(channel, subject + '\n' + sessionId);
+        } catch (Exception e) {
+            log.warn("Failed to broadcast revocation of session {}: {}", sessionId, e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package com.system.sse.application.auth.refresh;
+
+import java.time.Instant;
+
+/**
+ * Refresh token 저장소 SPI.
+ * - 로그인 한 번이 하나의 family 를 시작하고, refresh 할 때마다 family 의 현재 토큰(jti)이 새 토큰으로 교체된다
+ * - 이미 교체된(이전) 토큰이 다시 제시되면 탈취로 보고 family 전체를 폐기한다 (reuse detection)
+ * - 사용자별 family 수가 한도를 넘으면 가장 오래 갱신되지 않은 family 부터 폐기한다
+ * - backend 는 jwt.refresh-store.backend 로 선택 (memory | redis)
+ */
+public interface RefreshTokenStore {
+
+    /**
+     * 새 family 를 시작 (family ID = 첫 토큰의 jti)
+     *
+     * @return 사용자 한도로 폐기된 family 수
+     */
+    int issue(String username, String tokenId, Instant expiresAt);
+
+    /**
+     * 제시된 토큰을 새 토큰으로 교체
+     */
+    RotationResult rotate(String username, String presentedTokenId, String nextTokenId, Instant nextExpiresAt);
+
+    /**
+     * tokenId 가 속한 family 폐기 (로그아웃). family 의 어느 토큰(이미 교체된 토큰 포함)으로도 찾는다
+     */
+    void revokeFamily(String username, String tokenId);
+
+    /**
+     * 사용자의 모든 family 폐기
+     */
+    void revokeUser(String username);
+
+    enum RotationResult {
+        /** 교체 성공 */
+        ROTATED,
+        /** 이미 교체된 토큰의 재사용: family 를 폐기함 */
+        REUSED,
+        /** family 가 폐기되었거나 한도로 밀려남 */
+        REVOKED,
+        /** 저장소에 없는 토큰 (만료되었거나 발급 기록 없음) */
+        UNKNOWN
+    }
+}
@@ -0,0 +1,63 @@
+package com.system.sse.application.auth.refresh;
+
+import com.system.sse.application.auth.provider.VerifiedTokenCache;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.time.Clock;
+
+@Slf4j
+@Configuration
+public class RefreshTokenStoreConfiguration {
+
+    @Bean
+    @ConditionalOnProperty(prefix = "jwt.refresh-store", name = "backend", havingValue = "memory", matchIfMissing = true)
+    public RefreshTokenStore inMemoryRefreshTokenStore(RefreshTokenStoreProperties properties) {
+        log.info("RefreshTokenStoreConfiguration.inMemoryRefreshTokenStore: Using striped in-memory refresh token store");
+        return new InMemoryRefreshTokenStore(properties.getStripes(), properties.getMaxSessionsPerUser(),
+                Clock.systemUTC());
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "jwt.refresh-store", name = "backend", havingValue = "redis")
+    public RefreshTokenStore redisRefreshTokenStore(StringRedisTemplate redisTemplate,
+                                                    RefreshTokenStoreProperties properties) {
+        log.info("RefreshTokenStoreConfiguration.redisRefreshTokenStore: Using Redis refresh token store");
+        return new RedisRefreshTokenStore(redisTemplate, properties.getRedisKeyPrefix(),
+                properties.getMaxSessionsPerUser(), Clock.systemUTC());
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "jwt.refresh-store", name = "backend", havingValue = "memory", matchIfMissing = true)
+    public SessionRevocationBroadcaster localSessionRevocationBroadcaster(VerifiedTokenCache verifiedTokenCache) {
+        return new LocalSessionRevocationBroadcaster(verifiedTokenCache);
+    }
+
+    @Configuration
+    @ConditionalOnProperty(prefix = "jwt.refresh-store", name = "backend", havingValue = "redis")
+    static class Redis {
+
+        @Bean
+        public RedisMessageListenerContainer revocationListenerContainer(RedisConnectionFactory connectionFactory) {
+            RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+            container.setConnectionFactory(connectionFactory);
+            return container;
+        }
+
+        @Bean
+        public SessionRevocationBroadcaster redisSessionRevocationBroadcaster(
+                StringRedisTemplate redisTemplate,
+                @Qualifier("revocationListenerContainer") RedisMessageListenerContainer revocationListenerContainer,
+                VerifiedTokenCache verifiedTokenCache, RefreshTokenStoreProperties properties) {
+            log.info("RefreshTokenStoreConfiguration.redisSessionRevocationBroadcaster: Broadcasting session revocations over Redis Pub/Sub");
+            return new RedisSessionRevocationBroadcaster(redisTemplate, revocationListenerContainer,
+                    verifiedTokenCache, properties.getRedisKeyPrefix() + ":revoked-sessions");
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package com.system.sse.application.auth.refresh;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Setter
+@Getter
+@ConfigurationProperties(prefix = "jwt.refresh-store")
+public class RefreshTokenStoreProperties {
+
+    /** refresh token 저장소 backend (memory: 단일 노드, redis: 클러스터 공유) */
+    private Backend backend = Backend.MEMORY;
+
+    /** 사용자별 동시 로그인(family) 최대 수 */
+    private int maxSessionsPerUser = 10;
+
+    /** memory: 사용자 단위 lock stripe 수 */
+    private int stripes = 64;
+
+    /** redis: 키 prefix (사용자명을 hash tag 로 써서 한 사용자의 키는 같은 slot) */
+    private String redisKeyPrefix = "sse-refresh";
+
+    public enum Backend {
+        MEMORY, REDIS
+    }
+}
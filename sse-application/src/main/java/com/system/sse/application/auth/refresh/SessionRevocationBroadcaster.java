@@ -0,0 +1,14 @@
+package com.system.sse.application.auth.refresh;
+
+/**
+ * 세션 폐기를 모든 노드의 검증 캐시(VerifiedTokenCache)에 전파.
+ * refresh token 재사용 감지나 로그아웃은 한 노드에서 일어나지만, 같은 세션의 access token 은 어느 노드로든 올 수 있다.
+ * backend 는 jwt.refresh-store.backend 를 따른다 (memory: 이 노드만, redis: Pub/Sub 으로 전체 노드)
+ */
+public interface SessionRevocationBroadcaster {
+
+    /**
+     * 사용자의 세션 ID 로 발급된 토큰 폐기 (이 노드에는 반환 전에 반영)
+     */
+    void revokeSession(String subject, String sessionId);
+}
@@ -1,18 +1,36 @@
 package com.system.sse.application.auth.resolver;
 
+import com.system.sse.application.auth.config.JwtProperties;
+import com.system.sse.application.auth.config.SecurityConfig;
 import jakarta.servlet.http.HttpServletRequest;
-import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
+import java.util.EnumMap;
 import java.util.List;
+import java.util.Map;
 
+/**
+ * 라우트별 순서로 TokenResolver 를 호출해 첫 번째로 찾은 토큰을 돌려준다.
+ * - SSE 구독 엔드포인트(SecurityConfig 의 STREAM_ENDPOINTS)와 그 외 API 요청의 조회 순서를 따로 둔다
+ *   (jwt.stream-token-sources / jwt.api-token-sources)
+ */
 @Component
-@RequiredArgsConstructor
-public class CompositeTokenResolver implements TokenResolver {
-    private final List<TokenResolver> resolvers;
+public class CompositeTokenResolver {
 
-    public String resolve(HttpServletRequest request) {
+    private final TokenResolver[] streamResolvers;
+    private final TokenResolver[] apiResolvers;
+
+    public CompositeTokenResolver(List<TokenResolver> resolvers, JwtProperties jwtProperties) {
+        Map<TokenSource, TokenResolver> bySource = new EnumMap<>(TokenSource.class);
         for (TokenResolver resolver : resolvers) {
+            bySource.put(resolver.source(), resolver);
+        }
+        this.streamResolvers = ordered(bySource, jwtProperties.getStreamTokenSources());
+        this.apiResolvers = ordered(bySource, jwtProperties.getApiTokenSources());
+    }
+
+    public String resolve(HttpServletRequest request) {
+        for (TokenResolver resolver : SecurityConfig.isStreamRequest(request) ? streamResolvers : apiResolvers) {
             String token = resolver.resolve(request);
 
             if (token != null) {
@@ -22,4 +40,17 @@ public class CompositeTokenResolver implements TokenResolver {
 
         return null;
     }
-}
\ No newline at end of file
+
+    private static TokenResolver[] ordered(Map<TokenSource, TokenResolver> bySource, List<TokenSource> order) {
+        return order.stream()
+                .distinct()
+                .map(source -> {
+                    TokenResolver resolver = bySource.get(source);
+                    if (resolver == null) {
+                        throw new IllegalStateException("No TokenResolver registered for " + source);
+                    }
+                    return resolver;
+                })
+                .toArray(TokenResolver[]::new);
+    }
+}
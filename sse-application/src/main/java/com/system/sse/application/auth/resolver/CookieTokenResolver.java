@@ -9,6 +9,11 @@ import org.springframework.util.StringUtils;
 public class CookieTokenResolver implements TokenResolver {
     private static final String ACCESS_TOKEN = "access_token";
 
+    @Override
+    public TokenSource source() {
+        return TokenSource.COOKIE;
+    }
+
     @Override
     public String resolve(HttpServletRequest request) {
         Cookie[] cookies = request.getCookies();
@@ -17,7 +22,8 @@ public class CookieTokenResolver implements TokenResolver {
         }
 
         for (Cookie cookie : cookies) {
-            if (!ACCESS_TOKEN.equalsIgnoreCase(cookie.getName())) {
+            // 쿠키 이름은 대소문자를 구분한다 (RFC 6265)
+            if (!ACCESS_TOKEN.equals(cookie.getName())) {
                 continue;
             }
 
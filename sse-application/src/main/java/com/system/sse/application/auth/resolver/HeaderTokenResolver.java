@@ -9,6 +9,11 @@ public class HeaderTokenResolver implements TokenResolver {
     private static final String AUTHORIZATION_HEADER = "Authorization";
     private static final String BEARER_PREFIX = "Bearer ";
 
+    @Override
+    public TokenSource source() {
+        return TokenSource.HEADER;
+    }
+
     @Override
     public String resolve(HttpServletRequest request) {
         String header = request.getHeader(AUTHORIZATION_HEADER);
@@ -8,6 +8,11 @@ import org.springframework.util.StringUtils;
 public class QueryParamTokenResolver implements TokenResolver {
     private static final String PARAM_NAME = "token";
 
+    @Override
+    public TokenSource source() {
+        return TokenSource.QUERY_PARAM;
+    }
+
     @Override
     public String resolve(HttpServletRequest request) {
         String token = request.getParameter(PARAM_NAME);
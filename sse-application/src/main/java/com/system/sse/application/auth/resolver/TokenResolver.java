@@ -3,6 +3,11 @@ package com.system.sse.application.auth.resolver;
 import jakarta.servlet.http.HttpServletRequest;
 
 public interface TokenResolver {
+    /**
+     * 이 resolver 가 읽는 위치 (라우트별 조회 순서 설정에 사용)
+     */
+    TokenSource source();
+
     /**
      * 요청에서 JWT 토큰을 추출합니다.
      * @param request HTTP 요청
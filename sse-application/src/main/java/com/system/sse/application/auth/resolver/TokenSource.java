@@ -0,0 +1,13 @@
+package com.system.sse.application.auth.resolver;
+
+/**
+ * 요청에서 토큰을 찾는 위치
+ */
+public enum TokenSource {
+    /** Authorization: Bearer 헤더 */
+    HEADER,
+    /** access_token 쿠키 */
+    COOKIE,
+    /** token query parameter (EventSource) */
+    QUERY_PARAM
+}
@@ -0,0 +1,25 @@
+package com.system.sse.application.channel;
+
+import java.util.function.Consumer;
+
+/**
+ * 노드 간 채널 메시지 중계 backend.
+ * 노드는 로컬 구독자가 있는 채널만 broker 에 구독하고, 수신한 메시지를 로컬 구독자에게 fan-out 한다.
+ */
+public interface ChannelBroker {
+
+    /**
+     * 채널에 메시지 발행 (모든 노드의 구독자에게 전달)
+     */
+    void publish(String channel, String message);
+
+    /**
+     * 이 노드가 채널을 구독. 채널당 하나의 listener 만 유지한다
+     */
+    void subscribe(String channel, Consumer<String> listener);
+
+    /**
+     * 이 노드의 채널 구독 해제
+     */
+    void unsubscribe(String channel);
+}
@@ -0,0 +1,48 @@
+package com.system.sse.application.channel;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.util.concurrent.ExecutorService;
+
+@Slf4j
+@Configuration
+public class ChannelBrokerConfiguration {
+
+    @Bean
+    @ConditionalOnProperty(prefix = "sse.channel", name = "backend", havingValue = "local", matchIfMissing = true)
+    public ChannelBroker localChannelBroker() {
+        log.info("ChannelBrokerConfiguration.localChannelBroker: Using in-memory channel broker");
+        return new LocalChannelBroker();
+    }
+
+    @Configuration
+    @ConditionalOnProperty(prefix = "sse.channel", name = "backend", havingValue = "redis")
+    static class Redis {
+
+        @Bean
+        public RedisMessageListenerContainer channelListenerContainer(RedisConnectionFactory connectionFactory,
+                                                                      ExecutorService virtualThreadExecutor) {
+            RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+            container.setConnectionFactory(connectionFactory);
+            // 메시지 처리(fan-out 제출)는 가상 스레드에서, 구독 연결은 컨테이너가 하나만 유지
+            container.setTaskExecutor(virtualThreadExecutor);
+            return container;
+        }
+
+        @Bean
+        public ChannelBroker redisChannelBroker(StringRedisTemplate redisTemplate,
+                                                @Qualifier("channelListenerContainer")
+                                                RedisMessageListenerContainer channelListenerContainer,
+                                                ChannelProperties properties) {
+            log.info("ChannelBrokerConfiguration.redisChannelBroker: Using Redis Pub/Sub channel broker");
+            return new RedisChannelBroker(redisTemplate, channelListenerContainer, properties.getRedisPrefix());
+        }
+    }
+}
@@ -0,0 +1,130 @@
+package com.system.sse.application.channel;
+
+import com.system.sse.application.config.BoundedFanOutExecutor;
+import com.system.sse.application.config.FanOutResult;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 채널 단위 SSE fan-out.
+ * - 로컬 구독자는 채널별 emitter 집합으로 관리
+ * - 채널의 첫 로컬 구독자가 생길 때만 broker 를 구독하고, 마지막 구독자가 떠나면 해제
+ * - broker 구독/해제(Redis 는 네트워크 I/O)는 map compute 밖에서, 채널별 lock stripe 아래 수행해
+ *   같은 bin 의 다른 채널 갱신을 막지 않으면서 구독 상태와 broker 상태를 맞춘다
+ * - broker 에서 받은 메시지는 frame 을 한 번만 만들어 해당 채널의 로컬 구독자에게만 전송
+ */
+@Slf4j
+@Service
+public class ChannelFanOutService {
+
+    private final ChannelBroker broker;
+    private final BoundedFanOutExecutor fanOutExecutor;
+    private static final int BROKER_LOCK_STRIPES = 64;
+
+    private final Map<String, Set<SseEmitter>> subscribers = new ConcurrentHashMap<>();
+    // broker 에 구독되어 있는 채널 (변경은 해당 채널의 stripe lock 안에서만)
+    private final Set<String> brokerChannels = ConcurrentHashMap.newKeySet();
+    private final Object[] brokerLocks = new Object[BROKER_LOCK_STRIPES];
+
+    public ChannelFanOutService(ChannelBroker broker, BoundedFanOutExecutor fanOutExecutor, MeterRegistry meterRegistry) {
+        this.broker = broker;
+        this.fanOutExecutor = fanOutExecutor;
+        for (int i = 0; i < brokerLocks.length; i++) {
+            brokerLocks[i] = new Object();
+        }
+        Gauge.builder("sse.channel.count", subscribers, Map::size)
+                .description("로컬 구독자가 있는 채널 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * emitter 를 채널 구독자로 등록. 연결 종료 시 자동 해제
+     */
+    public void subscribe(String channel, SseEmitter emitter) {
+        subscribers.compute(channel, (c, emitters) -> {
+            Set<SseEmitter> current = emitters != null ? emitters : ConcurrentHashMap.newKeySet();
+            current.add(emitter);
+            return current;
+        });
+        syncBroker(channel);
+
+        emitter.onCompletion(() -> unsubscribe(channel, emitter));
+        emitter.onTimeout(() -> unsubscribe(channel, emitter));
+        emitter.onError(error -> unsubscribe(channel, emitter));
+    }
+
+    /**
+     * 채널 구독 해제. 마지막 로컬 구독자면 broker 구독도 해제
+     */
+    public void unsubscribe(String channel, SseEmitter emitter) {
+        subscribers.computeIfPresent(channel, (c, emitters) -> {
+            emitters.remove(emitter);
+            return emitters.isEmpty() ? null : emitters;
+        });
+        syncBroker(channel);
+    }
+
+    /**
+     * 채널에 메시지 발행 (broker 를 거쳐 모든 노드의 구독자에게 전달)
+     */
+    public void publish(String channel, String message) {
+        broker.publish(channel, message);
+    }
+
+    /**
+     * 이 노드의 채널 구독자 수
+     */
+    public int localSubscriberCount(String channel) {
+        Set<SseEmitter> emitters = subscribers.get(channel);
+        return emitters != null ? emitters.size() : 0;
+    }
+
+    /**
+     * 로컬 구독 여부에 broker 구독 상태를 맞춘다.
+     * 상태를 바꾼 스레드는 항상 이 메서드를 호출하고, lock 안에서 최신 상태를 다시 읽으므로
+     * 마지막 호출이 끝나면 broker 상태는 로컬 구독 상태와 일치한다.
+     * lock 밖에서 두 상태를 비교해 건너뛰지 않는다: 다른 스레드가 lock 안에서 읽은 뒤 아직 반영하지 않은
+     * 상태를 보고 돌아가면, 그 스레드가 마지막에 반대로 반영해 구독자가 있는 채널의 broker 구독이 끊길 수 있다
+     */
+    private void syncBroker(String channel) {
+        synchronized (brokerLocks[Math.floorMod(channel.hashCode(), brokerLocks.length)]) {
+            boolean wanted = subscribers.containsKey(channel);
+            if (wanted && brokerChannels.add(channel)) {
+                broker.subscribe(channel, message -> deliver(channel, message));
+            } else if (!wanted && brokerChannels.remove(channel)) {
+                broker.unsubscribe(channel);
+            }
+        }
+    }
+
+    private void deliver(String channel, String message) {
+        Set<SseEmitter> emitters = subscribers.get(channel);
+        if (emitters == null || emitters.isEmpty()) {
+            return;
+        }
+
+        Set<ResponseBodyEmitter.DataWithMediaType> frame = SseEmitter.event().name(channel).data(message).build();
+        FanOutResult result = fanOutExecutor.fanOut(emitters, emitter -> {
+            try {
+                emitter.send(frame);
+            } catch (IOException e) {
+                unsubscribe(channel, emitter);
+                emitter.completeWithError(e);
+                log.warn("Failed to send channel {} message: {}", channel, e.getMessage());
+            }
+        });
+
+        if (!result.isFullyAccepted()) {
+            log.warn("Channel {} fan-out throttled: submitted={} rejected={}", channel, result.submitted(), result.rejected());
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package com.system.sse.application.channel;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Setter
+@Getter
+@ConfigurationProperties(prefix = "sse.channel")
+public class ChannelProperties {
+
+    /** 채널 메시지 중계 backend (local: 단일 노드 메모리, redis: Redis Pub/Sub) */
+    private Backend backend = Backend.LOCAL;
+
+    /** Redis Pub/Sub 채널 이름 prefix */
+    private String redisPrefix = "sse:channel:";
+
+    public enum Backend {
+        LOCAL, REDIS
+    }
+}
@@ -0,0 +1,35 @@
+package com.system.sse.application.channel;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+/**
+ * 단일 노드용 메모리 broker. 발행한 메시지를 같은 JVM 의 채널 listener 에 바로 전달한다.
+ */
+public class LocalChannelBroker implements ChannelBroker {
+
+    private final Map<String, Consumer<String>> listeners = new ConcurrentHashMap<>();
+
+    @Override
+    public void publish(String channel, String message) {
+        Consumer<String> listener = listeners.get(channel);
+        if (listener != null) {
+            listener.accept(message);
+        }
+    }
+
+    @Override
+    public void subscribe(String channel, Consumer<String> listener) {
+        listeners.put(channel, listener);
+    }
+
+    @Override
+    public void unsubscribe(String channel) {
+        listeners.remove(channel);
+    }
+
+    boolean isSubscribed(String channel) {
+        return listeners.containsKey(channel);
+    }
+}
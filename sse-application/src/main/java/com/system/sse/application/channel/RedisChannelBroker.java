@@ -0,0 +1,57 @@
+package com.system.sse.application.channel;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+/**
+ * Redis Pub/Sub broker.
+ * 모든 채널 구독은 하나의 {@link RedisMessageListenerContainer} 에 등록되어 노드당 하나의 구독 연결로 multiplexing 된다.
+ */
+@Slf4j
+public class RedisChannelBroker implements ChannelBroker {
+
+    private final StringRedisTemplate redisTemplate;
+    private final RedisMessageListenerContainer container;
+    private final String prefix;
+    private final Map<String, MessageListener> listeners = new ConcurrentHashMap<>();
+
+    public RedisChannelBroker(StringRedisTemplate redisTemplate, RedisMessageListenerContainer container, String prefix) {
+        this.redisTemplate = redisTemplate;
+        this.container = container;
+        this.prefix = prefix;
+    }
+
+    @Override
+    public void publish(String channel, String message) {
+        redisTemplate.convertAndSend(prefix + channel, message);
+    }
+
+    @Override
+    public void subscribe(String channel, Consumer<String> listener) {
+        MessageListener redisListener = (message, pattern) ->
+                listener.accept(new String(message.getBody(), StandardCharsets.UTF_8));
+        MessageListener previous = listeners.put(channel, redisListener);
+        if (previous != null) {
+            container.removeMessageListener(previous);
+        }
+        container.addMessageListener(redisListener, new ChannelTopic(prefix + channel));
+        log.debug("Subscribed Redis channel {}", prefix + channel);
+    }
+
+    @Override
+    public void unsubscribe(String channel) {
+        MessageListener listener = listeners.remove(channel);
+        if (listener != null) {
+            container.removeMessageListener(listener, new ChannelTopic(prefix + channel));
+            log.debug("Unsubscribed Redis channel {}", prefix + channel);
+        }
+    }
+}
@@ -0,0 +1,145 @@
+package com.system.sse.application.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+/**
+ * 가상 스레드 실행자 앞단의 admission 레이어.
+ * in-flight 전송 작업 수를 Semaphore 로 제한해 발행 폭주 시 대기 작업(과 작업이 잡고 있는 payload)이
+ * 무한히 쌓이지 않도록 하고, 상한 초과분은 호출자에게 거절 결과로 돌려준다.
+ */
+@Slf4j
+public class BoundedFanOutExecutor {
+
+    private final Executor delegate;
+    private final Semaphore permits;
+    private final int maxInFlight;
+    private final long acquireTimeoutNanos;
+
+    private final Timer admissionTimer;
+    private final Timer queueTimer;
+    private final Timer sendTimer;
+    private final Timer broadcastTimer;
+    private final Counter rejectedCounter;
+
+    public BoundedFanOutExecutor(Executor delegate, FanOutProperties properties, MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.maxInFlight = properties.getMaxInFlight();
+        this.permits = new Semaphore(maxInFlight);
+        this.acquireTimeoutNanos = properties.getAcquireTimeout().toNanos();
+
+        // 브로드캐스트 한 건의 시간이 어디에 쓰였는지: 수락 루프 → 실행 대기 → 전송
+        this.admissionTimer = histogram("sse.fanout.admission", "fan-out 수락 루프 소요 시간", meterRegistry);
+        this.queueTimer = histogram("sse.fanout.queue", "전송 작업 수락부터 실행 시작까지의 대기 시간", meterRegistry);
+        this.sendTimer = histogram("sse.fanout.send", "emitter 단건 전송 시간", meterRegistry);
+        this.broadcastTimer = histogram("sse.fanout.broadcast", "fan-out 시작부터 마지막 전송 완료까지의 시간", meterRegistry);
+        this.rejectedCounter = Counter.builder("sse.fanout.rejected")
+                .description("in-flight 상한으로 거절된 전송 작업 수")
+                .register(meterRegistry);
+        Gauge.builder("sse.fanout.in-flight", this, BoundedFanOutExecutor::inFlight)
+                .description("현재 대기/실행 중인 전송 작업 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 대상마다 하나의 전송 작업을 수락 가능한 만큼만 실행자에 넘긴다.
+     *
+     * @param targets 전송 대상
+     * @param action  대상별 전송 로직 (가상 스레드에서 실행)
+     * @return 수락/거절 건수
+     */
+    public <T> FanOutResult fanOut(Iterable<T> targets, Consumer<? super T> action) {
+        long start = System.nanoTime();
+        long deadline = start + acquireTimeoutNanos;
+        // 수락 루프가 끝나기 전에 작업이 모두 끝나도 broadcast 시간이 기록되지 않도록 1로 시작
+        AtomicInteger pending = new AtomicInteger(1);
+        int submitted = 0;
+        int rejected = 0;
+
+        for (T target : targets) {
+            if (!acquire(deadline)) {
+                rejected++;
+                continue;
+            }
+
+            long admittedAt = System.nanoTime();
+            pending.incrementAndGet();
+            try {
+                delegate.execute(() -> run(target, action, admittedAt, start, pending));
+                submitted++;
+            } catch (RejectedExecutionException e) {
+                permits.release();
+                complete(start, pending);
+                rejected++;
+            }
+        }
+
+        admissionTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        complete(start, pending);
+
+        if (rejected > 0) {
+            rejectedCounter.increment(rejected);
+            log.warn("BoundedFanOutExecutor.fanOut: in-flight limit {} reached, submitted={} rejected={}",
+                    maxInFlight, submitted, rejected);
+        }
+        return new FanOutResult(submitted, rejected);
+    }
+
+    /**
+     * 현재 대기/실행 중인 전송 작업 수
+     */
+    public int inFlight() {
+        return maxInFlight - permits.availablePermits();
+    }
+
+    private <T> void run(T target, Consumer<? super T> action, long admittedAt, long start, AtomicInteger pending) {
+        long startedAt = System.nanoTime();
+        queueTimer.record(startedAt - admittedAt, TimeUnit.NANOSECONDS);
+        try {
+            action.accept(target);
+        } finally {
+            sendTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+            permits.release();
+            complete(start, pending);
+        }
+    }
+
+    private void complete(long start, AtomicInteger pending) {
+        if (pending.decrementAndGet() == 0) {
+            broadcastTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private boolean acquire(long deadline) {
+        if (permits.tryAcquire()) {
+            return true;
+        }
+        long remaining = deadline - System.nanoTime();
+        if (remaining <= 0) {
+            return false;
+        }
+        try {
+            return permits.tryAcquire(remaining, TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private static Timer histogram(String name, String description, MeterRegistry meterRegistry) {
+        return Timer.builder(name)
+                .description(description)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+}
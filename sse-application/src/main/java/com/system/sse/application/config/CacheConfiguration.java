@@ -22,7 +22,7 @@ public class CacheConfiguration {
 
     @Bean
     public CacheManager cacheManager(Caffeine<Object, Object> caffeine) {
-        CaffeineCacheManager manager = new CaffeineCacheManager("refreshTokens");
+        CaffeineCacheManager manager = new CaffeineCacheManager();
         manager.setCaffeine(caffeine);
 
         return manager;
@@ -0,0 +1,19 @@
+package com.system.sse.application.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Setter
+@Getter
+@ConfigurationProperties(prefix = "sse.fan-out")
+public class FanOutProperties {
+
+    /** 동시에 대기/실행 중일 수 있는 전송 작업 최대 수 */
+    private int maxInFlight = 10_000;
+
+    /** 한 번의 fan-out 에서 permit 을 기다릴 수 있는 최대 시간 (0이면 즉시 거절) */
+    private Duration acquireTimeout = Duration.ZERO;
+}
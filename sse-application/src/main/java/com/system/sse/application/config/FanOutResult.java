@@ -0,0 +1,14 @@
+package com.system.sse.application.config;
+
+/**
+ * fan-out 한 번의 수락 결과
+ *
+ * @param submitted 실행이 수락된 전송 작업 수
+ * @param rejected  in-flight 상한으로 거절된 전송 작업 수
+ */
+public record FanOutResult(int submitted, int rejected) {
+
+    public boolean isFullyAccepted() {
+        return rejected == 0;
+    }
+}
@@ -0,0 +1,40 @@
+package com.system.sse.application.config;
+
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.env.EnvironmentPostProcessor;
+import org.springframework.core.env.ConfigurableEnvironment;
+import org.springframework.core.env.MapPropertySource;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Redis 를 쓰는 backend 가 하나도 선택되지 않았으면 Redis health indicator 를 끈다.
+ * - spring-boot-starter-data-redis 는 항상 classpath 에 있으므로, 끄지 않으면 Redis 없이 띄운 노드가 DOWN 으로 보고된다
+ * - 가장 낮은 우선순위로 추가하므로 management.health.redis.enabled 를 직접 지정하면 그 값이 우선한다
+ */
+public class RedisHealthEnvironmentPostProcessor implements EnvironmentPostProcessor {
+
+    static final String PROPERTY = "management.health.redis.enabled";
+
+    private static final List<String> BACKEND_PROPERTIES = List.of(
+            "sse.channel.backend",
+            "sse.store.backend",
+            "jwt.refresh-store.backend"
+    );
+
+    @Override
+    public void postProcessEnvironment(ConfigurableEnvironment environment, SpringApplication application) {
+        if (usesRedis(environment)) {
+            return;
+        }
+        environment.getPropertySources().addLast(
+                new MapPropertySource("sseRedisHealthDefaults", Map.of(PROPERTY, "false")));
+    }
+
+    static boolean usesRedis(ConfigurableEnvironment environment) {
+        return BACKEND_PROPERTIES.stream()
+                .map(environment::getProperty)
+                .anyMatch("redis"::equalsIgnoreCase);
+    }
+}
@@ -1,5 +1,6 @@
 package com.system.sse.application.config;
 
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
 import org.springframework.boot.autoconfigure.thread.Threading;
@@ -30,6 +31,13 @@ public class VirtualThreadConfiguration {
         return new ExecutorLifecycle(virtualThreadExecutor);
     }
 
+    @Bean
+    public BoundedFanOutExecutor boundedFanOutExecutor(ExecutorService virtualThreadExecutor,
+                                                       FanOutProperties fanOutProperties,
+                                                       MeterRegistry meterRegistry) {
+        return new BoundedFanOutExecutor(virtualThreadExecutor, fanOutProperties, meterRegistry);
+    }
+
     private void handleUncaughtException(Thread thread, Throwable e) {
         log.error("VirtualThreadConfiguration.handleUncaughtException: Uncaught exception in thread {}: {}", thread.getName(), e.getMessage(), e);
 
@@ -1,6 +1,8 @@
 package com.system.sse.application.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.system.sse.application.limit.RateLimitRoute;
+import com.system.sse.application.limit.RateLimited;
 import com.system.sse.application.service.SseEmitterService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -26,6 +28,7 @@ public class PublishController {
      * Kafka를 통한 메시지 발행 (MSA Server 역할 시뮬레이션)
      * MSA Server → Kafka → Consumer → SSE → Client 플로우
      */
+    @RateLimited(RateLimitRoute.PUBLISH)
     @PostMapping("/publish")
     public ResponseEntity<Map<String, Object>> publishToKafka(@RequestBody KafkaPublishRequest request) {
 
@@ -6,6 +6,8 @@ import com.system.sse.application.auth.entity.AuthResponse;
 import com.system.sse.application.auth.provider.TokenAuthenticationService;
 import com.system.sse.application.cookie.CookieConfig;
 import com.system.sse.application.cookie.CookieUtils;
+import com.system.sse.application.limit.RateLimitRoute;
+import com.system.sse.application.limit.RateLimited;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
@@ -15,6 +17,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 @Slf4j
@@ -25,6 +28,7 @@ public class SseAuthController {
     private final JwtProperties jwtProperties;
     private final TokenAuthenticationService tokenAuthenticationService;
 
+    @RateLimited(RateLimitRoute.LOGIN)
     @PostMapping
     public ResponseEntity<AuthResponse> auth(@RequestBody AuthRequest request,
                                              HttpServletResponse response) {
@@ -66,6 +70,7 @@ public class SseAuthController {
     /**
      * 토큰 갱신 엔드포인트
      */
+    @RateLimited(RateLimitRoute.LOGIN)
     @PostMapping("/refresh")
     public ResponseEntity<AuthResponse> refresh(HttpServletRequest request,
                                                 HttpServletResponse response) {
@@ -113,4 +118,32 @@ public class SseAuthController {
             return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * 로그아웃 엔드포인트 (all=true 이면 사용자의 모든 세션)
+     */
+    @RateLimited(RateLimitRoute.LOGIN)
+    @PostMapping("/logout")
+    public ResponseEntity<Void> logout(@RequestParam(defaultValue = "false") boolean all,
+                                       HttpServletRequest request,
+                                       HttpServletResponse response) {
+        String refreshToken = CookieUtils.getCookieValue(
+                request,
+                new CookieConfig("refresh_token", "", 0, "Strict", true, true, "/")
+        ).orElse(null);
+        if (refreshToken != null) {
+            try {
+                tokenAuthenticationService.logout(refreshToken, all);
+            } catch (Exception e) {
+                // 이미 만료/폐기된 토큰이어도 쿠키는 지운다
+                log.warn("로그아웃 토큰 폐기 실패: {}", e.getMessage());
+            }
+        }
+
+        CookieUtils.deleteCookie(response,
+                new CookieConfig("access_token", "", 0, "Strict", false, false, "/"));
+        CookieUtils.deleteCookie(response,
+                new CookieConfig("refresh_token", "", 0, "Strict", true, true, "/"));
+        return ResponseEntity.noContent().build();
+    }
+}
@@ -1,9 +1,10 @@
 package com.system.sse.application.controller;
 
-import com.system.sse.application.cookie.CookieConfig;
-import com.system.sse.application.cookie.CookieUtils;
+import com.system.sse.application.auth.filter.JwtAuthenticationToken;
+import com.system.sse.application.limit.RateLimitRoute;
+import com.system.sse.application.limit.RateLimited;
+import com.system.sse.application.limit.ReconnectPolicy;
 import com.system.sse.application.service.SseEmitterService;
-import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.MediaType;
@@ -15,7 +16,7 @@ import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.io.IOException;
-import java.util.Optional;
+import java.time.Instant;
 
 @Slf4j
 @RestController
@@ -24,6 +25,7 @@ import java.util.Optional;
 public class SseController {
 
     private final SseEmitterService sseEmitterService;
+    private final ReconnectPolicy reconnectPolicy;
 
     /**
      * SSE 구독 엔드포인트
@@ -31,9 +33,9 @@ public class SseController {
      * @param authentication Spring Security의 Authentication 객체
      * @return SseEmitter 객체
      */
+    @RateLimited(RateLimitRoute.SUBSCRIBE)
     @GetMapping(value = "/subscribe", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
     public SseEmitter subscribe(
-            HttpServletRequest request,
             Authentication authentication,
             @RequestHeader(value = "last-event-id", required = false) String lastEventIdHeader) throws IOException {
 
@@ -46,21 +48,17 @@ public class SseController {
                 log.warn("유효하지 않은 Last-Event-ID: {}", lastEventIdHeader, ex);
             }
         }
+        // 연결 폭주 시 emitter 할당 전에 retry 힌트와 함께 거절
+        reconnectPolicy.admit();
+
         SseEmitter emitter = new SseEmitter(Long.MAX_VALUE);
         emitter.send(SseEmitter.event().name("INIT").data("connected"));
 
-        final Optional<String> cookieValue = CookieUtils.getCookieValue(request, new CookieConfig(
-                "access_token",
-                null,
-                0,
-                null,
-                false,
-                false,
-                null
-        ));
-
-        final String s = cookieValue.get();
+        // 인증 필터가 검증한 클레임의 만료 시각 (토큰 재파싱 없음)
+        Instant expiry = authentication instanceof JwtAuthenticationToken jwt
+                ? jwt.getClaims().expiration()
+                : null;
 
-        return sseEmitterService.addEmitter(userId, emitter, s,lastOffset);
+        return sseEmitterService.addEmitter(userId, emitter, expiry, lastOffset);
     }
 }
@@ -1,8 +1,15 @@
 package com.system.sse.application.controller;
 
+import com.system.sse.application.channel.ChannelFanOutService;
+import com.system.sse.application.config.FanOutResult;
+import com.system.sse.application.limit.RateLimitRoute;
+import com.system.sse.application.limit.RateLimited;
+import com.system.sse.application.limit.ReconnectPolicy;
 import com.system.sse.application.service.SseVirtualThreadService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
@@ -15,7 +22,10 @@ import java.util.concurrent.ExecutorService;
 public class SseVirtualThreadController {
     private final SseVirtualThreadService sseVirtualThreadService;
     private final ExecutorService executor;
+    private final ReconnectPolicy reconnectPolicy;
+    private final ChannelFanOutService channelFanOutService;
 
+    @RateLimited(RateLimitRoute.SUBSCRIBE)
     @GetMapping(value = "/subscribe", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
     public SseEmitter subscribe(@RequestParam String userId) {
         boolean isVirtual = Thread.currentThread().isVirtual();
@@ -25,14 +35,21 @@ public class SseVirtualThreadController {
         return sseVirtualThreadService.createEmitter(userId);
     }
 
+    @RateLimited(RateLimitRoute.PUBLISH)
     @GetMapping("/publish")
-    public String publish(@RequestParam(required = false) String message) {
+    public ResponseEntity<String> publish(@RequestParam(required = false) String message) {
         String msg = (message == null || message.isEmpty()) ? "Default virtual thread message" : message;
         // 모든 SSE 연결된 클라이언트에게 메시지 발송
-        sseVirtualThreadService.send(msg);
-        return "Published message [virtual]: " + msg;
+        FanOutResult result = sseVirtualThreadService.send(msg);
+        if (!result.isFullyAccepted()) {
+            // in-flight 상한 초과: 호출자가 재시도/속도 조절할 수 있도록 명시적으로 알림
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .body("Backpressure [virtual]: submitted=" + result.submitted() + ", rejected=" + result.rejected());
+        }
+        return ResponseEntity.ok("Published message [virtual]: " + msg);
     }
 
+    @RateLimited(RateLimitRoute.SUBSCRIBE)
     @GetMapping(value = "/{channel}", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
     public SseEmitter subscribe(
             @PathVariable String channel,
@@ -40,18 +57,29 @@ public class SseVirtualThreadController {
             @RequestHeader(value = "Last-Event-ID", required = false) String lastEventId) {
 
         String user = auth.getName();
+        reconnectPolicy.admit();
+
         SseEmitter emitter = new SseEmitter(0L);
+        long retryMillis = reconnectPolicy.retryMillis();
         executor.execute(() -> {
             try {
                 emitter.send(SseEmitter.event()
                         .id("init")
                         .name("connected")
+                        .reconnectTime(retryMillis)
                         .data("Hello " + user));
-                // TODO: Redis Pub/Sub subscribe logic
+                channelFanOutService.subscribe(channel, emitter);
             } catch (Exception e) {
                 emitter.completeWithError(e);
             }
         });
         return emitter;
     }
+
+    @RateLimited(RateLimitRoute.PUBLISH)
+    @PostMapping("/{channel}")
+    public ResponseEntity<String> publish(@PathVariable String channel, @RequestBody String message) {
+        channelFanOutService.publish(channel, message);
+        return ResponseEntity.accepted().body("Published to channel: " + channel);
+    }
 }
\ No newline at end of file
@@ -0,0 +1,40 @@
+package com.system.sse.application.drain;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+
+@Setter
+@Getter
+@ConfigurationProperties(prefix = "sse.drain")
+public class DrainProperties {
+
+    /** 한 wave 에서 종료할 연결 수 */
+    private int waveSize = 500;
+
+    /** wave 사이 간격 */
+    private Duration waveInterval = Duration.ofMillis(200);
+
+    /** 드레인 전체 최대 시간 (초과 시 남은 연결은 즉시 종료) */
+    private Duration maxDrainTime = Duration.ofSeconds(20);
+
+    /** 진행 중인 fan-out 작업이 비워지기를 기다리는 최대 시간 */
+    private Duration flushTimeout = Duration.ofSeconds(5);
+
+    /** 재연결 힌트(retry) 최소값 */
+    private Duration retryBase = Duration.ofSeconds(1);
+
+    /** 재연결 힌트에 더할 무작위 지연 상한 */
+    private Duration retryJitter = Duration.ofSeconds(10);
+
+    /**
+     * retryBase + [0, retryJitter] 범위의 무작위 재연결 간격
+     */
+    public long nextRetryMillis() {
+        long jitter = retryJitter.toMillis();
+        return retryBase.toMillis() + (jitter > 0 ? ThreadLocalRandom.current().nextLong(jitter + 1) : 0);
+    }
+}
@@ -0,0 +1,124 @@
+package com.system.sse.application.drain;
+
+import com.system.sse.application.config.BoundedFanOutExecutor;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 종료 시 SSE 연결을 한 번에 끊지 않고 단계적으로 드레인한다.
+ * 1. 신규 구독 수락 중단
+ * 2. 진행 중인 fan-out 전송 작업 flush
+ * 3. 연결마다 무작위 retry 힌트와 재개 커서를 보내고 wave 단위로 종료
+ * 클라이언트 재연결이 한 순간에 다음 노드로 몰리지 않도록 분산시키는 것이 목적.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SseDrainCoordinator implements SmartLifecycle {
+    private static final long FLUSH_POLL_MILLIS = 50;
+
+    private final List<SseDrainable> drainables;
+    private final DrainProperties properties;
+    private final ObjectProvider<BoundedFanOutExecutor> fanOutExecutor;
+    private final AtomicBoolean running = new AtomicBoolean(false);
+
+    @Override
+    public void start() {
+        running.set(true);
+    }
+
+    @Override
+    public void stop() {
+        if (!running.compareAndSet(true, false)) {
+            return;
+        }
+
+        log.info("SseDrainCoordinator.stop: Draining SSE connections ({} participants)", drainables.size());
+        drainables.forEach(SseDrainable::stopAccepting);
+        flushInFlight();
+        closeInWaves();
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running.get();
+    }
+
+    /**
+     * 웹 서버 graceful shutdown(DEFAULT_PHASE - 1024)보다 먼저, 연결이 살아있을 때 드레인.
+     * 가상 스레드 실행자(ExecutorLifecycle)는 이보다 나중에 종료된다.
+     */
+    @Override
+    public int getPhase() {
+        return SmartLifecycle.DEFAULT_PHASE - 512;
+    }
+
+    private void flushInFlight() {
+        BoundedFanOutExecutor executor = fanOutExecutor.getIfAvailable();
+        if (executor == null) {
+            return;
+        }
+
+        long deadline = System.nanoTime() + properties.getFlushTimeout().toNanos();
+        while (executor.inFlight() > 0 && System.nanoTime() < deadline) {
+            if (!sleep(FLUSH_POLL_MILLIS)) {
+                break;
+            }
+        }
+
+        if (executor.inFlight() > 0) {
+            log.warn("SseDrainCoordinator.flushInFlight: {} fan-out tasks still in flight after flush timeout", executor.inFlight());
+        }
+    }
+
+    private void closeInWaves() {
+        List<DrainTarget> targets = new ArrayList<>();
+        for (SseDrainable drainable : drainables) {
+            drainable.drainTargets().forEach(clientId -> targets.add(new DrainTarget(drainable, clientId)));
+        }
+        if (targets.isEmpty()) {
+            return;
+        }
+
+        int waveSize = Math.max(1, properties.getWaveSize());
+        long deadline = System.nanoTime() + properties.getMaxDrainTime().toNanos();
+        boolean paced = true;
+
+        for (int i = 0; i < targets.size(); i++) {
+            DrainTarget target = targets.get(i);
+            try {
+                target.drainable().closeWithHint(target.clientId(), properties.nextRetryMillis());
+            } catch (Exception e) {
+                log.warn("SseDrainCoordinator.closeInWaves: Failed to drain client {}: {}", target.clientId(), e.getMessage());
+            }
+
+            boolean waveEnd = (i + 1) % waveSize == 0 && i + 1 < targets.size();
+            if (paced && waveEnd) {
+                // 최대 드레인 시간을 넘기면 남은 연결은 간격 없이 종료
+                paced = System.nanoTime() < deadline && sleep(properties.getWaveInterval().toMillis());
+            }
+        }
+
+        log.info("SseDrainCoordinator.closeInWaves: Drained {} SSE connections", targets.size());
+    }
+
+    private boolean sleep(long millis) {
+        try {
+            TimeUnit.MILLISECONDS.sleep(millis);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private record DrainTarget(SseDrainable drainable, String clientId) {}
+}
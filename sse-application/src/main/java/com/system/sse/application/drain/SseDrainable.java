@@ -0,0 +1,27 @@
+package com.system.sse.application.drain;
+
+import java.util.Collection;
+
+/**
+ * 종료 시 드레인 대상이 되는 SSE 연결 보유자
+ */
+public interface SseDrainable {
+
+    /**
+     * 신규 구독 수락 중단
+     */
+    void stopAccepting();
+
+    /**
+     * 드레인 시점의 연결 clientId 스냅샷
+     */
+    Collection<String> drainTargets();
+
+    /**
+     * 재연결 힌트(retry, 재개 커서)를 보낸 뒤 연결 종료
+     *
+     * @param clientId    클라이언트 식별자
+     * @param retryMillis 클라이언트가 재연결 전에 기다릴 시간
+     */
+    void closeWithHint(String clientId, long retryMillis);
+}
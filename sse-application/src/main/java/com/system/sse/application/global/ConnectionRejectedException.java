@@ -0,0 +1,17 @@
+package com.system.sse.application.global;
+
+import lombok.Getter;
+
+/**
+ * SSE 연결을 수락하지 않을 때 사용하는 예외.
+ * retryAfterMillis 는 클라이언트에게 재연결 간격(retry 필드 / Retry-After 헤더)으로 전달된다.
+ */
+@Getter
+public class ConnectionRejectedException extends RuntimeException {
+    private final long retryAfterMillis;
+
+    public ConnectionRejectedException(String message, long retryAfterMillis) {
+        super(message);
+        this.retryAfterMillis = retryAfterMillis;
+    }
+}
@@ -1,7 +1,9 @@
 package com.system.sse.application.global;
 
 import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.security.core.AuthenticationException;
@@ -35,6 +37,57 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(body);
     }
 
+    /**
+     * 잘못된 topic/필터 입력만 400 으로 응답한다. 그 밖의 IllegalArgumentException 은 서버 오류로 취급한다.
+     */
+    @ExceptionHandler(InvalidTopicException.class)
+    public ResponseEntity<ErrorResponse> handleInvalidTopic(InvalidTopicException ex, HttpServletRequest request) {
+        ErrorResponse body = new ErrorResponse(
+                HttpStatus.BAD_REQUEST.value(),
+                ex.getMessage(),
+                request.getRequestURI(),
+                request.getMethod()
+        );
+
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(body);
+    }
+
+    /**
+     * SSE 연결 거절 시 재연결 간격 안내.
+     * EventSource 는 200 이외의 응답을 받으면 재연결을 포기하므로,
+     * text/event-stream 요청에는 retry 필드만 담은 스트림을 바로 닫아 지정 간격 뒤 재연결하도록 한다.
+     */
+    @ExceptionHandler(ConnectionRejectedException.class)
+    public ResponseEntity<String> handleConnectionRejected(ConnectionRejectedException ex, HttpServletRequest request) {
+        return retryLater(HttpStatus.SERVICE_UNAVAILABLE, ex.getMessage(), ex.getRetryAfterMillis(), request);
+    }
+
+    /**
+     * 요청 빈도 제한 초과. SSE 구독 요청은 연결 거절과 같이 retry 스트림으로, 그 외는 429 로 응답
+     */
+    @ExceptionHandler(RateLimitExceededException.class)
+    public ResponseEntity<String> handleRateLimitExceeded(RateLimitExceededException ex, HttpServletRequest request) {
+        return retryLater(HttpStatus.TOO_MANY_REQUESTS, ex.getMessage(), ex.getRetryAfterMillis(), request);
+    }
+
+    private static ResponseEntity<String> retryLater(HttpStatus status, String message, long retryMillis,
+                                                     HttpServletRequest request) {
+        String retryAfterSeconds = String.valueOf(Math.max(1, (retryMillis + 999) / 1000));
+
+        String accept = request.getHeader(HttpHeaders.ACCEPT);
+        if (accept != null && accept.contains(MediaType.TEXT_EVENT_STREAM_VALUE)) {
+            return ResponseEntity.ok()
+                    .header(HttpHeaders.RETRY_AFTER, retryAfterSeconds)
+                    .contentType(MediaType.TEXT_EVENT_STREAM)
+                    .body("retry: " + retryMillis + "\n\n");
+        }
+
+        return ResponseEntity.status(status)
+                .header(HttpHeaders.RETRY_AFTER, retryAfterSeconds)
+                .contentType(MediaType.TEXT_PLAIN)
+                .body(message);
+    }
+
     @ExceptionHandler(Exception.class)
     public ResponseEntity<String> handle(Exception e) {
         return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
@@ -0,0 +1,12 @@
+package com.system.sse.application.global;
+
+/**
+ * 클라이언트가 보낸 topic 또는 구독 필터의 형식 오류. 400 Bad Request 로 응답한다.
+ * 메시지는 입력값만 설명하므로 그대로 응답 본문에 담는다.
+ */
+public class InvalidTopicException extends RuntimeException {
+
+    public InvalidTopicException(String message) {
+        super(message);
+    }
+}
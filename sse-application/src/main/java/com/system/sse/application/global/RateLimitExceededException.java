@@ -0,0 +1,17 @@
+package com.system.sse.application.global;
+
+import lombok.Getter;
+
+/**
+ * 요청 빈도 제한 초과. 429 Too Many Requests 와 Retry-After 로 응답한다.
+ * 남용 클라이언트가 반복해서 발생시키므로 stack trace 를 만들지 않는다.
+ */
+@Getter
+public class RateLimitExceededException extends RuntimeException {
+    private final long retryAfterMillis;
+
+    public RateLimitExceededException(String message, long retryAfterMillis) {
+        super(message, null, false, false);
+        this.retryAfterMillis = retryAfterMillis;
+    }
+}
@@ -0,0 +1,20 @@
+package com.system.sse.application.limit;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.List;
+
+@Setter
+@Getter
+@ConfigurationProperties(prefix = "sse.client-ip")
+public class ClientIpProperties {
+
+    /**
+     * X-Forwarded-For 를 믿을 프록시(gateway/LB) 대역 (CIDR 또는 단일 주소).
+     * 기본값은 loopback 과 사설 대역 (Tomcat RemoteIpValve 의 internal-proxies 와 같은 범위)
+     */
+    private List<String> trustedProxies = List.of(
+            "127.0.0.0/8", "10.0.0.0/8", "172.16.0.0/12", "192.168.0.0/16", "::1/128", "fc00::/7");
+}
@@ -0,0 +1,79 @@
+package com.system.sse.application.limit;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.security.web.util.matcher.IpAddressMatcher;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.util.List;
+
+/**
+ * 제한 키로 쓸 클라이언트 IP.
+ * - 직접 연결한 상대가 신뢰하는 프록시일 때만 X-Forwarded-For 를 오른쪽(가까운 hop)부터 읽고,
+ *   신뢰하는 프록시가 아닌 첫 주소를 클라이언트로 본다
+ * - 클라이언트가 직접 넣은 왼쪽 값은 신뢰하는 프록시 뒤에 있지 않으므로 키를 위조할 수 없다
+ */
+@Component
+public class ClientIpResolver {
+
+    private static final String FORWARDED_FOR = "X-Forwarded-For";
+
+    private final List<IpAddressMatcher> trustedProxies;
+
+    public ClientIpResolver(ClientIpProperties properties) {
+        this.trustedProxies = properties.getTrustedProxies().stream()
+                .map(IpAddressMatcher::new)
+                .toList();
+    }
+
+    /**
+     * 현재 요청의 클라이언트 IP (요청 밖에서 호출되면 "unknown")
+     */
+    public String currentClientIp() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes instanceof ServletRequestAttributes servlet) {
+            return clientIp(servlet.getRequest());
+        }
+        return "unknown";
+    }
+
+    public String clientIp(HttpServletRequest request) {
+        String remoteAddr = request.getRemoteAddr();
+        if (!isTrusted(remoteAddr)) {
+            return remoteAddr;
+        }
+        String forwardedFor = request.getHeader(FORWARDED_FOR);
+        if (forwardedFor == null || forwardedFor.isBlank()) {
+            return remoteAddr;
+        }
+        String[] hops = forwardedFor.split(",");
+        String client = remoteAddr;
+        for (int i = hops.length - 1; i >= 0; i--) {
+            String hop = hops[i].trim();
+            if (hop.isEmpty()) {
+                continue;
+            }
+            client = hop;
+            if (!isTrusted(hop)) {
+                break;
+            }
+        }
+        return client;
+    }
+
+    private boolean isTrusted(String address) {
+        for (IpAddressMatcher proxy : trustedProxies) {
+            try {
+                if (proxy.matches(address)) {
+                    return true;
+                }
+            } catch (IllegalArgumentException e) {
+                // IP 형식이 아닌 값 (호스트명, "unknown" 등)
+                return false;
+            }
+        }
+        return false;
+    }
+}
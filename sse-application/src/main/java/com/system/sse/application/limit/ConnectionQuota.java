@@ -0,0 +1,160 @@
+package com.system.sse.application.limit;
+
+import com.system.sse.application.global.ConnectionRejectedException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 사용자 / IP / 노드 단위 동시 SSE 연결 수 제한.
+ * - 연결 요청은 emitter 를 만들기 전에 lease 를 받고, 상한을 넘으면 retry 힌트와 함께 거절
+ * - lease 는 emitter 가 끝날 때(완료/타임아웃/오류) 한 번만 반납된다
+ * - 카운터는 노드 AtomicInteger 하나와 principal 별 ConcurrentHashMap.merge 로 O(1) 원자 갱신,
+ *   연결이 0 이 된 principal 은 바로 제거되어 맵 크기는 현재 연결 중인 principal 수를 넘지 않는다
+ */
+@Slf4j
+@Component
+public class ConnectionQuota {
+
+    private final ConnectionQuotaProperties properties;
+    private final ReconnectPolicy reconnectPolicy;
+
+    private final AtomicInteger nodeConnections = new AtomicInteger();
+    private final Map<String, Integer> userConnections = new ConcurrentHashMap<>();
+    private final Map<String, Integer> ipConnections = new ConcurrentHashMap<>();
+
+    private final Counter nodeRejected;
+    private final Counter userRejected;
+    private final Counter ipRejected;
+
+    public ConnectionQuota(ConnectionQuotaProperties properties, ReconnectPolicy reconnectPolicy,
+                           MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.reconnectPolicy = reconnectPolicy;
+        this.nodeRejected = rejectedCounter("node", meterRegistry);
+        this.userRejected = rejectedCounter("user", meterRegistry);
+        this.ipRejected = rejectedCounter("ip", meterRegistry);
+        Gauge.builder("sse.connection.active", nodeConnections, AtomicInteger::get)
+                .description("현재 노드의 SSE 연결 수")
+                .register(meterRegistry);
+        Gauge.builder("sse.connection.quota.utilization", this, ConnectionQuota::nodeUtilization)
+                .description("노드 연결 상한 대비 사용률 (0 ~ 1)")
+                .register(meterRegistry);
+        Gauge.builder("sse.connection.principals", userConnections, Map::size)
+                .description("연결 중인 사용자 수")
+                .tag("scope", "user")
+                .register(meterRegistry);
+        Gauge.builder("sse.connection.principals", ipConnections, Map::size)
+                .description("연결 중인 클라이언트 IP 수")
+                .tag("scope", "ip")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 연결 lease 획득. 상한 초과 시 ConnectionRejectedException (emitter 할당 전에 호출)
+     *
+     * @param user 인증된 사용자명 (없으면 null, 사용자 상한 미적용)
+     * @param ip   클라이언트 IP
+     */
+    public Lease acquire(String user, String ip) {
+        if (!properties.isEnabled()) {
+            return Lease.NONE;
+        }
+        if (nodeConnections.incrementAndGet() > properties.getMaxPerNode()) {
+            nodeConnections.decrementAndGet();
+            throw reject(nodeRejected, "node", null);
+        }
+        if (!increment(ipConnections, ip, properties.getMaxPerIp())) {
+            nodeConnections.decrementAndGet();
+            throw reject(ipRejected, "ip", ip);
+        }
+        if (user != null && !increment(userConnections, user, properties.getMaxPerUser())) {
+            decrement(ipConnections, ip);
+            nodeConnections.decrementAndGet();
+            throw reject(userRejected, "user", user);
+        }
+        return new Lease(this, user, ip);
+    }
+
+    /**
+     * 노드 연결 상한 대비 사용률
+     */
+    public double nodeUtilization() {
+        return (double) nodeConnections.get() / properties.getMaxPerNode();
+    }
+
+    private void release(String user, String ip) {
+        if (user != null) {
+            decrement(userConnections, user);
+        }
+        decrement(ipConnections, ip);
+        nodeConnections.decrementAndGet();
+    }
+
+    private ConnectionRejectedException reject(Counter counter, String scope, String principal) {
+        counter.increment();
+        long retryMillis = reconnectPolicy.retryMillis();
+        log.debug("ConnectionQuota.acquire: {} quota exceeded for {}, retry={}ms", scope, principal, retryMillis);
+        return new ConnectionRejectedException("Too many open connections (" + scope + ")", retryMillis);
+    }
+
+    private static boolean increment(Map<String, Integer> counts, String key, int max) {
+        if (counts.merge(key, 1, Integer::sum) <= max) {
+            return true;
+        }
+        decrement(counts, key);
+        return false;
+    }
+
+    private static void decrement(Map<String, Integer> counts, String key) {
+        counts.computeIfPresent(key, (k, count) -> count > 1 ? count - 1 : null);
+    }
+
+    private static Counter rejectedCounter(String scope, MeterRegistry meterRegistry) {
+        return Counter.builder("sse.connection.quota.rejected")
+                .description("동시 연결 상한으로 거절된 SSE 연결 요청 수")
+                .tag("scope", scope)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 하나의 SSE 연결이 잡고 있는 quota. 여러 번 반납해도 한 번만 반영된다
+     */
+    public static final class Lease {
+        static final Lease NONE = new Lease(null, null, null);
+
+        private final ConnectionQuota quota;
+        private final String user;
+        private final String ip;
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        private Lease(ConnectionQuota quota, String user, String ip) {
+            this.quota = quota;
+            this.user = user;
+            this.ip = ip;
+        }
+
+        /**
+         * emitter 가 끝날 때 반납되도록 등록
+         */
+        public void bindTo(SseEmitter emitter) {
+            emitter.onCompletion(this::release);
+            emitter.onTimeout(this::release);
+            emitter.onError(error -> release());
+        }
+
+        public void release() {
+            if (quota != null && released.compareAndSet(false, true)) {
+                quota.release(user, ip);
+            }
+        }
+    }
+}
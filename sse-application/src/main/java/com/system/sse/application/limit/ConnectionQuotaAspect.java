@@ -0,0 +1,55 @@
+package com.system.sse.application.limit;
+
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * SSE 스트림 엔드포인트(SseEmitter 반환)마다 연결 lease 를 잡는다.
+ * 컨트롤러가 emitter 를 만들기 전에 상한을 확인하고, 반환된 emitter 가 끝날 때 lease 를 반납한다
+ * 요청 수 제한({@link RouteRateLimiterAspect})을 통과한 요청만 lease 를 잡도록 그 뒤에 실행한다
+ */
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 300)
+@RequiredArgsConstructor
+public class ConnectionQuotaAspect {
+
+    private final ConnectionQuota connectionQuota;
+    private final ClientIpResolver clientIpResolver;
+
+    @Around("within(@org.springframework.web.bind.annotation.RestController *)"
+            + " && execution(org.springframework.web.servlet.mvc.method.annotation.SseEmitter *(..))")
+    public Object applyConnectionQuota(ProceedingJoinPoint pjp) throws Throwable {
+        ConnectionQuota.Lease lease = connectionQuota.acquire(user(), clientIpResolver.currentClientIp());
+        try {
+            Object result = pjp.proceed();
+            if (result instanceof SseEmitter emitter) {
+                lease.bindTo(emitter);
+            } else {
+                lease.release();
+            }
+            return result;
+        } catch (Throwable t) {
+            lease.release();
+            throw t;
+        }
+    }
+
+    private static String user() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.isAuthenticated()
+                && !(authentication instanceof AnonymousAuthenticationToken)) {
+            return authentication.getName();
+        }
+        return null;
+    }
+}
@@ -0,0 +1,23 @@
+package com.system.sse.application.limit;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Setter
+@Getter
+@ConfigurationProperties(prefix = "sse.connection-quota")
+public class ConnectionQuotaProperties {
+
+    /** 동시 연결 수 제한 사용 여부 */
+    private boolean enabled = true;
+
+    /** 사용자당 동시 SSE 연결 수 (인증된 요청만) */
+    private int maxPerUser = 5;
+
+    /** 클라이언트 IP당 동시 SSE 연결 수 (NAT/프록시 뒤 사용자를 고려해 넉넉하게) */
+    private int maxPerIp = 100;
+
+    /** 노드 전체 동시 SSE 연결 수 */
+    private int maxPerNode = 50_000;
+}
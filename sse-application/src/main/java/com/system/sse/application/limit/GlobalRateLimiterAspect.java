@@ -1,32 +1,40 @@
 package com.system.sse.application.limit;
 
+import com.system.sse.application.global.RateLimitExceededException;
 import io.github.resilience4j.ratelimiter.RateLimiter;
 import io.github.resilience4j.ratelimiter.RateLimiterRegistry;
 import org.aspectj.lang.ProceedingJoinPoint;
 import org.aspectj.lang.annotation.Around;
 import org.aspectj.lang.annotation.Aspect;
-import org.springframework.http.ResponseEntity;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
 import org.springframework.stereotype.Component;
 
-import org.springframework.http.HttpStatus;
-
+/**
+ * 노드 전체 요청 상한. 클라이언트별 제한은 {@link RouteRateLimiterAspect} 가 라우트별로 따로 건다
+ */
 @Aspect
 @Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 200)
 public class GlobalRateLimiterAspect {
 
     private final RateLimiter rateLimiter;
+    private final long retryAfterMillis;
 
     public GlobalRateLimiterAspect(RateLimiterRegistry registry) {
         this.rateLimiter = registry.rateLimiter("global");
+        this.retryAfterMillis = rateLimiter.getRateLimiterConfig().getLimitRefreshPeriod().toMillis();
     }
 
-    @Around("within(@org.springframework.web.bind.annotation.RestController *)")
+    /**
+     * SSE 스트림 엔드포인트(SseEmitter 반환)는 제외: 연결 폭주는 ReconnectPolicy 가 retry 힌트와 함께 제한한다
+     */
+    @Around("within(@org.springframework.web.bind.annotation.RestController *)"
+            + " && !execution(org.springframework.web.servlet.mvc.method.annotation.SseEmitter *(..))")
     public Object applyRateLimiter(ProceedingJoinPoint pjp) throws Throwable {
         if (!rateLimiter.acquirePermission()) {
-            // Rate limit 초과 시 429 Too Many Requests 반환
-            return ResponseEntity
-                    .status(HttpStatus.TOO_MANY_REQUESTS)
-                    .body("Rate limit exceeded");
+            // Rate limit 초과 시 429 Too Many Requests (반환 타입과 무관하게 예외 처리기에서 응답)
+            throw new RateLimitExceededException("Rate limit exceeded", retryAfterMillis);
         }
         return pjp.proceed();
     }
@@ -0,0 +1,137 @@
+package com.system.sse.application.limit;
+
+import com.system.sse.application.global.RateLimitExceededException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 라우트별 키(사용자/IP) 단위 토큰 버킷 테이블.
+ * - 허용 경로는 ConcurrentHashMap 조회 한 번 + TokenBucket CAS 한 번 (lock 없음)
+ * - 버킷은 키가 처음 보일 때 만들고, idleTimeout 동안 가득 찬 채로 쓰이지 않은 버킷은 전용 스레드가 evictInterval 마다 정리
+ * - 키 수가 maxKeys 를 넘으면 (키를 바꿔 가며 우회하는 경우) 새 키들은 라우트 공용 overflow 버킷을 나눠 쓴다
+ */
+@Slf4j
+@Component
+public class KeyedRateLimiter implements SmartLifecycle {
+
+    private final Map<RateLimitRoute, Table> tables = new EnumMap<>(RateLimitRoute.class);
+    private final RateLimitProperties properties;
+    private final long idleNanos;
+    private final long evictIntervalMillis;
+
+    private ScheduledExecutorService scheduler;  // guarded by this
+    private volatile boolean running;
+
+    public KeyedRateLimiter(RateLimitProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.idleNanos = properties.getIdleTimeout().toNanos();
+        this.evictIntervalMillis = properties.getEvictInterval().toMillis();
+        for (RateLimitRoute route : RateLimitRoute.values()) {
+            Table table = new Table(properties.limit(route), properties.getMaxKeys(),
+                    Counter.builder("sse.rate-limit.rejected")
+                            .description("키 단위 제한으로 거절된 요청 수")
+                            .tag("route", route.name().toLowerCase())
+                            .register(meterRegistry));
+            Gauge.builder("sse.rate-limit.keys", table.buckets, Map::size)
+                    .description("추적 중인 limiter 키 수")
+                    .tag("route", route.name().toLowerCase())
+                    .register(meterRegistry);
+            tables.put(route, table);
+        }
+    }
+
+    /**
+     * permit 하나 획득. 초과 시 RateLimitExceededException (다음 permit 까지의 대기 시간 포함)
+     */
+    public void acquire(RateLimitRoute route, String key) {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        Table table = tables.get(route);
+        TokenBucket bucket = table.bucket(key);
+        if (bucket.tryAcquire()) {
+            return;
+        }
+        table.rejected.increment();
+        long retryMillis = Math.max(1, TimeUnit.NANOSECONDS.toMillis(bucket.nanosUntilAvailable()));
+        throw new RateLimitExceededException("Rate limit exceeded", retryMillis);
+    }
+
+    /**
+     * 유휴 버킷 정리
+     */
+    public void evictIdle() {
+        tables.forEach((route, table) -> {
+            int before = table.buckets.size();
+            table.buckets.values().removeIf(bucket -> bucket.isIdle(idleNanos));
+            int evicted = before - table.buckets.size();
+            if (evicted > 0) {
+                log.debug("KeyedRateLimiter.evictIdle: route={} evicted={} remaining={}",
+                        route, evicted, table.buckets.size());
+            }
+        });
+    }
+
+    @Override
+    public synchronized void start() {
+        scheduler = Executors.newSingleThreadScheduledExecutor(Thread.ofPlatform()
+                .name("rate-limit-evict")
+                .daemon(true)
+                .factory());
+        scheduler.scheduleWithFixedDelay(this::evictIdle, evictIntervalMillis, evictIntervalMillis,
+                TimeUnit.MILLISECONDS);
+        running = true;
+    }
+
+    @Override
+    public synchronized void stop() {
+        if (!running) {
+            return;
+        }
+        running = false;
+        scheduler.shutdown();
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private static final class Table {
+        final Map<String, TokenBucket> buckets = new ConcurrentHashMap<>();
+        final RateLimitProperties.Limit limit;
+        final int maxKeys;
+        final TokenBucket overflow;
+        final Counter rejected;
+
+        Table(RateLimitProperties.Limit limit, int maxKeys, Counter rejected) {
+            this.limit = limit;
+            this.maxKeys = maxKeys;
+            this.overflow = new TokenBucket(limit.getPermitsPerSecond(), limit.getBurst());
+            this.rejected = rejected;
+        }
+
+        TokenBucket bucket(String key) {
+            TokenBucket bucket = buckets.get(key);
+            if (bucket != null) {
+                return bucket;
+            }
+            if (buckets.size() >= maxKeys) {
+                return overflow;
+            }
+            return buckets.computeIfAbsent(key,
+                    k -> new TokenBucket(limit.getPermitsPerSecond(), limit.getBurst()));
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package com.system.sse.application.limit;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Setter
+@Getter
+@ConfigurationProperties(prefix = "sse.rate-limit")
+public class RateLimitProperties {
+
+    /** 라우트별 키 단위 제한 사용 여부 */
+    private boolean enabled = true;
+
+    /** 이 시간 동안 요청이 없던 키의 버킷은 정리 */
+    private Duration idleTimeout = Duration.ofMinutes(10);
+
+    /** 유휴 버킷 정리 주기 */
+    private Duration evictInterval = Duration.ofMinutes(1);
+
+    /** 라우트별 추적하는 최대 키 수. 넘으면 새 키들은 라우트 공용 버킷 하나를 같이 쓴다 */
+    private int maxKeys = 100_000;
+
+    /** SSE 구독: 사용자당 */
+    private Limit subscribe = new Limit(1, 10);
+
+    /** 이벤트 발행: 호출자(IP)당 */
+    private Limit publish = new Limit(2_000, 4_000);
+
+    /** 로그인/토큰 갱신: IP당 */
+    private Limit login = new Limit(0.2, 10);
+
+    public Limit limit(RateLimitRoute route) {
+        return switch (route) {
+            case SUBSCRIBE -> subscribe;
+            case PUBLISH -> publish;
+            case LOGIN -> login;
+        };
+    }
+
+    @Setter
+    @Getter
+    public static class Limit {
+        /** 초당 허용 요청 수 */
+        private double permitsPerSecond;
+
+        /** 순간 허용 burst */
+        private int burst;
+
+        public Limit() {
+        }
+
+        public Limit(double permitsPerSecond, int burst) {
+            this.permitsPerSecond = permitsPerSecond;
+            this.burst = burst;
+        }
+    }
+}
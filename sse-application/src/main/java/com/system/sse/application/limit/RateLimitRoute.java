@@ -0,0 +1,13 @@
+package com.system.sse.application.limit;
+
+/**
+ * 요청 빈도를 따로 제한하는 라우트 묶음
+ */
+public enum RateLimitRoute {
+    /** SSE 구독/연결 (사용자 단위) */
+    SUBSCRIBE,
+    /** 이벤트 발행 (내부 호출자 IP 단위) */
+    PUBLISH,
+    /** 로그인/토큰 갱신 (IP 단위) */
+    LOGIN
+}
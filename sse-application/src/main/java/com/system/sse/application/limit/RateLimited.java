@@ -0,0 +1,15 @@
+package com.system.sse.application.limit;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 컨트롤러 메서드를 라우트별 키 단위 limiter 로 보호한다 (인증된 요청은 사용자, 그 외는 IP 기준)
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface RateLimited {
+    RateLimitRoute value();
+}
@@ -0,0 +1,79 @@
+package com.system.sse.application.limit;
+
+import com.system.sse.application.global.ConnectionRejectedException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 서버가 제어하는 SSE 재연결 정책.
+ * - 연결 요청은 emitter 를 만들기 전에 토큰 버킷으로 수락 여부를 판단하고, 초과분은 retry 힌트와 함께 거절
+ * - 클라이언트에 내려주는 retry 값은 현재 연결 압력(버킷 소진율)에 비례:
+ *   유휴 상태면 minRetry 로 빠르게 복구, 연결이 몰리면 maxRetry 쪽으로 늘려 재연결을 분산
+ */
+@Slf4j
+@Component
+public class ReconnectPolicy {
+
+    private final ReconnectProperties properties;
+    private final TokenBucket connectBucket;
+    private final Counter admittedCounter;
+    private final Counter rejectedCounter;
+
+    public ReconnectPolicy(ReconnectProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.connectBucket = new TokenBucket(properties.getConnectsPerSecond(), properties.getBurst());
+        this.admittedCounter = Counter.builder("sse.connect.admitted")
+                .description("수락된 SSE 연결 요청 수")
+                .register(meterRegistry);
+        this.rejectedCounter = Counter.builder("sse.connect.rejected")
+                .description("연결 압력으로 거절된 SSE 연결 요청 수")
+                .register(meterRegistry);
+        Gauge.builder("sse.connect.pressure", this, ReconnectPolicy::pressure)
+                .description("SSE 연결 압력 (0: 유휴, 1: 포화)")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 연결 요청 수락. 초과 시 ConnectionRejectedException (emitter 할당 전에 호출)
+     */
+    public void admit() {
+        if (connectBucket.tryAcquire()) {
+            admittedCounter.increment();
+            return;
+        }
+
+        rejectedCounter.increment();
+        long waitMillis = TimeUnit.NANOSECONDS.toMillis(connectBucket.nanosUntilAvailable());
+        long retryMillis = Math.max(retryMillis(), waitMillis);
+        log.debug("ReconnectPolicy.admit: Connect rejected under pressure, retry={}ms", retryMillis);
+        throw new ConnectionRejectedException("Too many connection attempts", retryMillis);
+    }
+
+    /**
+     * 현재 부하 기준 클라이언트별 retry 값 (무작위 편차 포함)
+     */
+    public long retryMillis() {
+        long min = properties.getMinRetry().toMillis();
+        long max = properties.getMaxRetry().toMillis();
+        double base = min + (max - min) * pressure();
+
+        double jitter = properties.getJitterRatio();
+        if (jitter > 0) {
+            base *= 1 + ThreadLocalRandom.current().nextDouble(-jitter, jitter);
+        }
+        return Math.max(min, Math.round(base));
+    }
+
+    /**
+     * 연결 압력: 1 - (남은 토큰 / burst)
+     */
+    public double pressure() {
+        return 1.0 - (double) connectBucket.availableTokens() / connectBucket.capacity();
+    }
+}
@@ -0,0 +1,28 @@
+package com.system.sse.application.limit;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Setter
+@Getter
+@ConfigurationProperties(prefix = "sse.reconnect")
+public class ReconnectProperties {
+
+    /** 노드가 초당 수락하는 신규 SSE 연결 수 */
+    private double connectsPerSecond = 500;
+
+    /** 순간적으로 허용하는 연결 burst */
+    private int burst = 1_000;
+
+    /** 유휴 상태일 때 안내하는 retry 값 */
+    private Duration minRetry = Duration.ofSeconds(1);
+
+    /** 연결 압력이 최대일 때 안내하는 retry 값 */
+    private Duration maxRetry = Duration.ofSeconds(30);
+
+    /** retry 값에 적용할 무작위 편차 비율 (0.2 = ±20%) */
+    private double jitterRatio = 0.2;
+}
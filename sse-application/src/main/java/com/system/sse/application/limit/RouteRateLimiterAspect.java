@@ -0,0 +1,42 @@
+package com.system.sse.application.limit;
+
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+/**
+ * {@link RateLimited} 메서드에 라우트별 키 단위 제한 적용.
+ * 키는 인증된 요청이면 사용자명, 아니면 클라이언트 IP ("ip:" prefix 로 사용자명과 구분)
+ * 노드 전체 상한({@link GlobalRateLimiterAspect})보다 먼저 실행해, 한 키의 폭주가 공용 permit 을 쓰기 전에 거절한다
+ */
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 100)
+@RequiredArgsConstructor
+public class RouteRateLimiterAspect {
+
+    private final KeyedRateLimiter keyedRateLimiter;
+    private final ClientIpResolver clientIpResolver;
+
+    @Around("@annotation(rateLimited)")
+    public Object applyRateLimiter(ProceedingJoinPoint pjp, RateLimited rateLimited) throws Throwable {
+        keyedRateLimiter.acquire(rateLimited.value(), key());
+        return pjp.proceed();
+    }
+
+    private String key() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.isAuthenticated()
+                && !(authentication instanceof AnonymousAuthenticationToken)) {
+            return authentication.getName();
+        }
+        return "ip:" + clientIpResolver.currentClientIp();
+    }
+}
@@ -0,0 +1,74 @@
+package com.system.sse.application.limit;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Lock-free 토큰 버킷 (GCRA 방식).
+ * 상태를 "이론적 도착 시각(TAT)" 하나의 long 으로 유지하므로 permit 획득은 CAS 한 번으로 끝난다.
+ */
+public final class TokenBucket {
+    private final long intervalNanos;   // 토큰 하나가 채워지는 간격
+    private final long capacityNanos;   // 버킷 용량(burst)을 시간으로 환산한 값
+    private final int capacity;
+    private final AtomicLong theoreticalArrival;
+
+    public TokenBucket(double permitsPerSecond, int capacity) {
+        if (permitsPerSecond <= 0 || capacity <= 0) {
+            throw new IllegalArgumentException("permitsPerSecond and capacity must be positive");
+        }
+        this.intervalNanos = Math.max(1, (long) (TimeUnit.SECONDS.toNanos(1) / permitsPerSecond));
+        this.capacityNanos = intervalNanos * capacity;
+        this.capacity = capacity;
+        this.theoreticalArrival = new AtomicLong(System.nanoTime());
+    }
+
+    /**
+     * permit 하나를 즉시 획득 시도
+     */
+    public boolean tryAcquire() {
+        long now = System.nanoTime();
+        while (true) {
+            long tat = theoreticalArrival.get();
+            long next = (tat - now > 0 ? tat : now) + intervalNanos;
+            if (next - now > capacityNanos) {
+                return false;
+            }
+            if (theoreticalArrival.compareAndSet(tat, next)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * 현재 남은 토큰 수
+     */
+    public int availableTokens() {
+        long backlog = theoreticalArrival.get() - System.nanoTime();
+        if (backlog <= 0) {
+            return capacity;
+        }
+        return (int) Math.max(0, (capacityNanos - backlog) / intervalNanos);
+    }
+
+    /**
+     * 다음 permit 을 얻을 수 있을 때까지 남은 시간(ns), 바로 가능하면 0
+     */
+    public long nanosUntilAvailable() {
+        long now = System.nanoTime();
+        long tat = theoreticalArrival.get();
+        long next = (tat - now > 0 ? tat : now) + intervalNanos;
+        return Math.max(0, next - now - capacityNanos);
+    }
+
+    /**
+     * 버킷이 가득 찬 채로 idleNanos 이상 지났는지 (사용되지 않는 버킷 정리용)
+     */
+    public boolean isIdle(long idleNanos) {
+        return System.nanoTime() - theoreticalArrival.get() > idleNanos;
+    }
+
+    public int capacity() {
+        return capacity;
+    }
+}
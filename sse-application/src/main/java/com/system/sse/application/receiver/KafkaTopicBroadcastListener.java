@@ -0,0 +1,77 @@
+package com.system.sse.application.receiver;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.system.sse.application.sender.model.SseEmitterData;
+import com.system.sse.application.sender.service.TopicService;
+import com.system.sse.application.sender.topic.KafkaTopicBroadcastPublisher;
+import com.system.sse.application.sender.topic.TopicIndex;
+import com.system.sse.application.sender.topic.TopicTrie;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.springframework.context.annotation.Profile;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * 클러스터 topic 브로드캐스트 수신 후 이 노드의 구독자에게만 전송.
+ * - 노드마다 고유 consumer group 을 사용해 모든 노드가 모든 브로드캐스트를 받는다
+ *   (group 이름은 sse.node-id 에서 만들어, 재시작해도 같은 노드는 같은 group 을 이어서 쓴다)
+ * - record key(topic) 로 로컬 구독 여부를 먼저 확인하고, 구독자가 없으면 payload 를 역직렬화하지 않고 버린다
+ * - key 가 없거나 형식이 잘못된 record 는 예외 없이 버린다 (listener 가 같은 record 를 반복 실패하지 않도록)
+ */
+@Slf4j
+@Profile("kafka")
+@Component
+public class KafkaTopicBroadcastListener {
+    private final TopicIndex topicIndex;
+    private final TopicService topicService;
+    private final ObjectMapper objectMapper;
+    private final Counter skippedCounter;
+    private final Counter deliveredCounter;
+    private final Counter invalidCounter;
+
+    public KafkaTopicBroadcastListener(TopicIndex topicIndex, TopicService topicService,
+                                       ObjectMapper objectMapper, MeterRegistry meterRegistry) {
+        this.topicIndex = topicIndex;
+        this.topicService = topicService;
+        this.objectMapper = objectMapper;
+        this.skippedCounter = Counter.builder("sse.topic.cluster.skipped")
+                .description("로컬 구독자가 없어 역직렬화 없이 버린 브로드캐스트 수")
+                .register(meterRegistry);
+        this.deliveredCounter = Counter.builder("sse.topic.cluster.delivered")
+                .description("로컬 구독자에게 fan-out 한 브로드캐스트 수")
+                .register(meterRegistry);
+        this.invalidCounter = Counter.builder("sse.topic.cluster.invalid")
+                .description("key(topic) 가 없거나 잘못되어 버린 브로드캐스트 수")
+                .register(meterRegistry);
+    }
+
+    @KafkaListener(
+            topics = KafkaTopicBroadcastPublisher.BROADCAST_TOPIC,
+            groupId = "sse-topic-broadcast-${sse.node-id}",
+            properties = "auto.offset.reset=latest"
+    )
+    public void onBroadcast(ConsumerRecord<String, String> record) {
+        String topic = record.key();
+        if (!TopicTrie.isValidTopic(topic)) {
+            invalidCounter.increment();
+            log.warn("Dropping broadcast with invalid topic key '{}' (partition {}, offset {})",
+                    topic, record.partition(), record.offset());
+            return;
+        }
+        if (!topicIndex.hasSubscribers(topic)) {
+            skippedCounter.increment();
+            return;
+        }
+
+        try {
+            SseEmitterData data = objectMapper.readValue(record.value(), SseEmitterData.class);
+            topicService.broadcastLocal(topic, data);
+            deliveredCounter.increment();
+        } catch (Exception e) {
+            log.error("Failed to fan out broadcast for topic {} (offset {}): {}", topic, record.offset(), e.getMessage());
+        }
+    }
+}
@@ -1,5 +1,7 @@
 package com.system.sse.application.sender.controller;
 
+import com.system.sse.application.limit.RateLimitRoute;
+import com.system.sse.application.limit.RateLimited;
 import com.system.sse.application.sender.model.SseEmitterData;
 import com.system.sse.application.sender.service.BroadcastService;
 import com.system.sse.application.sender.service.ConnectionService;
@@ -23,6 +25,7 @@ public class SseEmitterController {
     private final SendService sendService;
     private final BroadcastService broadcastService;
 
+    @RateLimited(RateLimitRoute.SUBSCRIBE)
     @GetMapping(value = "/connect", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
     @CrossOrigin(origins = "*")
     public SseEmitter connect(@RequestParam String clientId,
@@ -30,11 +33,13 @@ public class SseEmitterController {
         return connectionService.connect(clientId, lastEventId);
     }
 
+    @RateLimited(RateLimitRoute.PUBLISH)
     @PostMapping("/send/{clientId}")
     public void send(@PathVariable String clientId, @RequestBody SseEmitterData data) {
         sendService.send(clientId, data);
     }
 
+    @RateLimited(RateLimitRoute.PUBLISH)
     @PostMapping("/broadcast")
     public void broadcast(@RequestBody SseEmitterData data) {
         broadcastService.broadcast(data);
@@ -1,5 +1,7 @@
 package com.system.sse.application.sender.controller;
 
+import com.system.sse.application.limit.RateLimitRoute;
+import com.system.sse.application.limit.RateLimited;
 import com.system.sse.application.sender.service.*;
 import com.system.sse.application.sender.model.SseEmitterData;
 import lombok.RequiredArgsConstructor;
@@ -32,6 +34,7 @@ public class SseEmitterControllerV2 {
      * @param clientId 클라이언트 식별자
      * @param lastEventId Last-Event-ID 헤더(Optional)
      */
+    @RateLimited(RateLimitRoute.SUBSCRIBE)
     @GetMapping(path = "/subscribe/{clientId}", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
     public SseEmitter subscribe(
             @PathVariable String clientId,
@@ -53,6 +56,7 @@ public class SseEmitterControllerV2 {
     /**
      * 전체 브로드캐스트
      */
+    @RateLimited(RateLimitRoute.PUBLISH)
     @PostMapping("/broadcast")
     public void broadcast(@RequestBody SseEmitterData data) {
         log.info("Broadcasting event type {}", data.getType());
@@ -62,6 +66,7 @@ public class SseEmitterControllerV2 {
     /**
      * 특정 클라이언트에게 전송
      */
+    @RateLimited(RateLimitRoute.PUBLISH)
     @PostMapping("/send/{clientId}")
     public void sendToClient(
             @PathVariable String clientId,
@@ -77,7 +82,7 @@ public class SseEmitterControllerV2 {
     @PostMapping("/replay/{clientId}")
     public void replayMissed(
             @PathVariable String clientId,
-            @RequestParam("lastEventId") String lastEventId
+            @RequestParam(value = "lastEventId", required = false) String lastEventId
     ) {
         log.info("Replaying missed events to client {} since {}", clientId, lastEventId);
         replayService.replayMissed(clientId, lastEventId);
@@ -97,15 +102,16 @@ public class SseEmitterControllerV2 {
     }
 
     /**
-     * 토픽 구독 등록
+     * 토픽 구독 등록 (filter 예: type=order&priority=high, URL 인코딩 필요)
      */
     @PostMapping("/topic/subscribe")
     public void subscribeTopic(
             @RequestParam String clientId,
-            @RequestParam String topic
+            @RequestParam String topic,
+            @RequestParam(required = false) String filter
     ) {
-        log.info("Client {} subscribes to topic {}", clientId, topic);
-        topicService.subscribe(clientId, topic);
+        log.info("Client {} subscribes to topic {} with filter {}", clientId, topic, filter);
+        topicService.subscribe(clientId, topic, filter);
     }
 
     /**
@@ -123,6 +129,7 @@ public class SseEmitterControllerV2 {
     /**
      * 토픽 브로드캐스트
      */
+    @RateLimited(RateLimitRoute.PUBLISH)
     @PostMapping("/topic/broadcast")
     public void broadcastTopic(
             @RequestParam String topic,
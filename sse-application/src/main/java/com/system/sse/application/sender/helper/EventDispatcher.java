@@ -1,15 +1,21 @@
 package com.system.sse.application.sender.helper;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
 import com.system.sse.application.sender.model.SseEmitterData;
+import com.system.sse.application.sender.registry.ClientHandle;
 import com.system.sse.application.sender.registry.SseEmitterRegistry;
-import com.system.sse.application.sender.store.LocalSseEventStore;
+import com.system.sse.application.sender.store.DeliveryCursorTracker;
+import com.system.sse.application.sender.store.SseEventStore;
+import com.system.sse.application.sender.store.StoredEvent;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.io.IOException;
-import java.util.UUID;
+import java.util.Collection;
+import java.util.Set;
 
 @Slf4j
 @Component
@@ -17,40 +23,115 @@ import java.util.UUID;
 public class EventDispatcher {
 
     private final SseEmitterRegistry registry;
-    private final LocalSseEventStore store;
+    private final SseEventStore store;
+    private final SseEventFactory eventFactory;
+    private final DeliveryCursorTracker cursorTracker;
 
     /**
      * 특정 클라이언트에게 이벤트 전송
      */
-    public void dispatch(String clientId, SseEmitter.SseEventBuilder eventBuilder) {
+    public void dispatch(String clientId, SseEmitterData data) {
+        send(clientId, store.append(data));
+    }
+
+    /**
+     * 모든 클라이언트에게 이벤트 전송 (한 번만 저장)
+     */
+    public void dispatchAll(SseEmitterData data) {
+        dispatchTo(registry.getAllClientIds(), data);
+    }
+
+    /**
+     * 여러 클라이언트에게 같은 이벤트 전송
+     * - 이벤트는 하나의 ID로 한 번만 저장하고, frame 도 한 번만 직렬화해 모든 연결이 공유
+     * - 연결 핸들은 Optional 없이 바로 조회하고, 끊긴 ID 는 건너뛴다
+     *
+     * @return 전송에 성공한 연결 수
+     */
+    public int dispatchTo(Collection<String> clientIds, SseEmitterData data) {
+        StoredEvent stored = store.append(data);
+        Set<ResponseBodyEmitter.DataWithMediaType> frame = encode(stored, data);
+        if (frame == null) {
+            return 0;
+        }
+
+        int delivered = 0;
+        for (String clientId : clientIds) {
+            SseEmitter emitter = registry.get(clientId);
+            if (emitter != null && sendFrame(clientId, emitter, stored, frame)) {
+                delivered++;
+            }
+        }
+        log.debug("Dispatched event {} to {}/{} clients", stored.id(), delivered, clientIds.size());
+        return delivered;
+    }
+
+    /**
+     * 구독 색인이 들고 있는 연결 핸들로 같은 이벤트 전송 (레지스트리 조회 없음)
+     * - 저장/직렬화는 {@link #dispatchTo(Collection, SseEmitterData)} 와 같이 한 번만 수행
+     * - 이미 제거된 연결의 핸들은 건너뛴다
+     *
+     * @return 전송에 성공한 연결 수
+     */
+    public int dispatchToHandles(Collection<ClientHandle> clients, SseEmitterData data) {
+        StoredEvent stored = store.append(data);
+        Set<ResponseBodyEmitter.DataWithMediaType> frame = encode(stored, data);
+        if (frame == null) {
+            return 0;
+        }
+
+        int delivered = 0;
+        for (ClientHandle client : clients) {
+            SseEmitter emitter = client.emitter();
+            if (emitter != null && sendFrame(client.clientId(), emitter, stored, frame)) {
+                delivered++;
+            }
+        }
+        log.debug("Dispatched event {} to {}/{} subscribers", stored.id(), delivered, clients.size());
+        return delivered;
+    }
+
+    private Set<ResponseBodyEmitter.DataWithMediaType> encode(StoredEvent stored, SseEmitterData data) {
+        try {
+            return eventFactory.createEncodedFrame(stored);
+        } catch (JsonProcessingException e) {
+            log.error("Failed to encode event {} of type {}: {}", stored.id(), data.getType(), e.getMessage());
+            return null;
+        }
+    }
+
+    private boolean sendFrame(String clientId, SseEmitter emitter, StoredEvent stored,
+                              Set<ResponseBodyEmitter.DataWithMediaType> frame) {
+        try {
+            emitter.send(frame);
+            cursorTracker.delivered(clientId, stored.sequence());
+            return true;
+        } catch (IOException e) {
+            log.warn("Failed to dispatch event {} to client {}: {}", stored.id(), clientId, e.getMessage());
+            cleanup(clientId, emitter);
+            return false;
+        }
+    }
+
+    private void send(String clientId, StoredEvent stored) {
         registry.find(clientId).ifPresentOrElse(emitter -> {
-            String eventId = UUID.randomUUID().toString();
             try {
-                emitter.send(eventBuilder.id(eventId).build());
-                store.store(eventId, (SseEmitterData) eventBuilder.build());
-                log.debug("Dispatched event {} to client {}", eventId, clientId);
+                emitter.send(eventFactory.createDataEvent(stored.data().getType(), stored.data()).id(stored.id()));
+                cursorTracker.delivered(clientId, stored.sequence());
+                log.debug("Dispatched event {} to client {}", stored.id(), clientId);
             } catch (IOException e) {
-                log.warn("Failed to dispatch event {} to client {}: {}", eventId, clientId, e.getMessage());
+                log.warn("Failed to dispatch event {} to client {}: {}", stored.id(), clientId, e.getMessage());
                 cleanup(clientId, emitter);
             }
         }, () -> log.warn("No active emitter for client {}", clientId));
     }
 
-    /**
-     * 모든 클라이언트에게 이벤트 전송
-     */
-    public void dispatchAll(SseEmitter.SseEventBuilder eventBuilder) {
-        registry.getAllClientIds().forEach(clientId ->
-                dispatch(clientId, eventBuilder)
-        );
-    }
-
     private void cleanup(String clientId, SseEmitter emitter) {
         try {
             emitter.complete();
         } catch (Exception ignore) {
         }
-        registry.remove(clientId);
+        registry.remove(clientId, emitter);
         log.info("Cleaned up emitter for client {}", clientId);
     }
 }
\ No newline at end of file
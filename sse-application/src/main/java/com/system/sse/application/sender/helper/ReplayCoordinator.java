@@ -0,0 +1,236 @@
+package com.system.sse.application.sender.helper;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.system.sse.application.sender.registry.LocalSseEmitterRegistry;
+import com.system.sse.application.sender.store.DeliveryCursorTracker;
+import com.system.sse.application.sender.store.SseEventStore;
+import com.system.sse.application.sender.store.StoredEvent;
+import com.system.sse.application.sender.store.ReplayCursor;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+
+/**
+ * 재연결 폭주 시 Last-Event-ID 재전송을 묶어서 처리하는 coordinator.
+ * - 직전 gather window 안에 다른 재전송 요청이 없었던 요청은 기다리지 않고 바로 {@link ReplayStreamer} 로 처리한다
+ * - 재연결이 몰리는 중이면 짧은 gather window 동안 들어온 재전송 요청을 하나의 그룹으로 모은다
+ * - 그룹에서 가장 오래된 위치부터 스토어를 한 번만 읽고, 각 이벤트를 한 번만 직렬화한다
+ * - 직렬화된 chunk 는 연결 목록으로 공유되며, 각 연결은 자기 위치 이후 이벤트만 자기 속도로 전송한다
+ * - 요청이 하나뿐인 그룹은 {@link ReplayStreamer} 로 개별 처리한다
+ * - 요청 시점부터 재전송이 끝날 때까지 delivery cursor 를 재전송 위치에 묶어 둔다 ({@link DeliveryCursorTracker#beginReplay})
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ReplayCoordinator {
+    private static final int CHUNK_SIZE = 64;
+    private static final Duration GATHER_WINDOW = Duration.ofMillis(50);
+
+    private final LocalSseEmitterRegistry registry;
+    private final SseEventStore store;
+    private final ReplayStreamer replayStreamer;
+    private final ExecutorService executor;
+    private final SseEventFactory eventFactory;
+    private final DeliveryCursorTracker cursorTracker;
+
+    private List<Member> gathering; // guarded by this
+    private long lastRequestNanos = System.nanoTime() - GATHER_WINDOW.toNanos(); // guarded by this
+
+    /**
+     * lastEventId 이후 이벤트 재전송을 예약
+     *
+     * @return 스토어가 발급한 ID가 아니어서 재전송할 수 없으면 false
+     */
+    public boolean replay(String clientId, SseEmitter emitter, String lastEventId) {
+        long after = SseEventStore.parseSequence(lastEventId);
+        if (after < 0) {
+            return false;
+        }
+        replay(clientId, emitter, after);
+        return true;
+    }
+
+    /**
+     * after sequence 이후 이벤트 재전송을 예약
+     */
+    public void replay(String clientId, SseEmitter emitter, long after) {
+        Member member = new Member(clientId, emitter, after, cursorTracker.beginReplay(clientId, after));
+        boolean alone = false;
+        boolean opened = false;
+        synchronized (this) {
+            long now = System.nanoTime();
+            if (gathering != null) {
+                gathering.add(member);
+            } else if (now - lastRequestNanos >= GATHER_WINDOW.toNanos()) {
+                // 조용한 상태의 단독 재연결: 묶을 상대가 없으므로 기다리지 않는다
+                alone = true;
+            } else {
+                // 직전에 다른 재전송이 있었으면 재연결 폭주로 보고 그룹을 연다
+                gathering = new ArrayList<>();
+                gathering.add(member);
+                opened = true;
+            }
+            lastRequestNanos = now;
+        }
+        if (alone) {
+            replayStreamer.stream(clientId, emitter, store.cursorAfter(after), member.hold());
+        } else if (opened) {
+            executor.execute(this::runPass);
+        }
+    }
+
+    private void runPass() {
+        try {
+            Thread.sleep(GATHER_WINDOW);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        List<Member> members;
+        synchronized (this) {
+            members = gathering;
+            gathering = null;
+        }
+
+        if (members.size() == 1) {
+            Member only = members.getFirst();
+            replayStreamer.stream(only.clientId(), only.emitter(), store.cursorAfter(only.after()), only.hold());
+            return;
+        }
+
+        long from = members.stream().mapToLong(Member::after).min().orElseThrow();
+        SharedPass pass = new SharedPass(store.cursorAfter(from));
+        // 각 연결은 시작 chunk 를 자기 Reader 로만 참조한다 (pass 는 목록의 앞부분을 잡고 있지 않음)
+        EncodedChunk start = new EncodedChunk(List.of());
+        for (Member member : members) {
+            Reader reader = new Reader(member, start);
+            executor.execute(() -> pass.deliver(reader));
+        }
+        log.info("Shared replay pass for {} clients from sequence {}", members.size(), from);
+    }
+
+    private void cleanup(String clientId, SseEmitter emitter) {
+        try {
+            emitter.complete();
+        } catch (Exception ignore) {
+            // ignore
+        }
+        registry.remove(clientId, emitter);
+    }
+
+    private record Member(String clientId, SseEmitter emitter, long after, DeliveryCursorTracker.ReplayHold hold) {
+    }
+
+    /**
+     * 한 연결의 공유 pass 진행 위치. 지나간 chunk 는 더 이상 참조하지 않는다
+     */
+    private static final class Reader {
+        private final Member member;
+        private EncodedChunk position;
+
+        private Reader(Member member, EncodedChunk position) {
+            this.member = member;
+            this.position = position;
+        }
+    }
+
+    private record EncodedEvent(long sequence, String id, Set<ResponseBodyEmitter.DataWithMediaType> frame) {
+    }
+
+    /**
+     * 직렬화된 chunk 연결 목록의 노드. 다음 chunk 는 처음 필요로 하는 연결이 읽어서 채운다.
+     */
+    private static final class EncodedChunk {
+        private final List<EncodedEvent> events;
+        private EncodedChunk next; // guarded by this
+        private boolean loaded;    // guarded by this
+
+        private EncodedChunk(List<EncodedEvent> events) {
+            this.events = events;
+        }
+    }
+
+    /**
+     * 하나의 그룹이 공유하는 재전송 pass.
+     * 가장 앞선 연결만 커서를 전진시키고, 뒤따르는 연결은 이미 직렬화된 chunk 를 재사용한다.
+     * pass 자체는 chunk 를 잡지 않으므로, 모든 연결이 지나간 chunk 는 참조가 끊겨 GC 대상이 된다.
+     */
+    private final class SharedPass {
+        private final ReplayCursor cursor;
+
+        private SharedPass(ReplayCursor cursor) {
+            this.cursor = cursor;
+        }
+
+        private void deliver(Reader reader) {
+            Member member = reader.member;
+            String lastSentId = null;
+            int sent = 0;
+            boolean completed = false;
+            try {
+                while ((reader.position = next(reader.position)) != null) {
+                    EncodedChunk chunk = reader.position;
+                    if (registry.find(member.clientId()).filter(current -> current == member.emitter()).isEmpty()) {
+                        log.debug("Replay to client {} stopped: connection replaced or closed (last sent {})",
+                                member.clientId(), lastSentId);
+                        return;
+                    }
+                    for (EncodedEvent event : chunk.events) {
+                        if (event.sequence() <= member.after()) {
+                            continue;
+                        }
+                        member.emitter().send(event.frame());
+                        member.hold().replayed(event.sequence());
+                        lastSentId = event.id();
+                        sent++;
+                    }
+                }
+                completed = true;
+                if (sent > 0) {
+                    log.debug("Replayed {} events to client {} (last sent {})", sent, member.clientId(), lastSentId);
+                }
+            } catch (IOException e) {
+                log.warn("Replay to client {} stopped after {} events, resume from {}: {}",
+                        member.clientId(), sent, lastSentId, e.getMessage());
+                cleanup(member.clientId(), member.emitter());
+            } finally {
+                member.hold().finish(completed);
+            }
+        }
+
+        /**
+         * current 다음 chunk. chunk 는 순서대로 한 번씩만 채워지므로 커서 접근은 항상 직렬화된다.
+         */
+        private EncodedChunk next(EncodedChunk current) {
+            synchronized (current) {
+                if (!current.loaded) {
+                    List<StoredEvent> chunk = cursor.next(CHUNK_SIZE);
+                    current.next = chunk.isEmpty() ? null : new EncodedChunk(encodeAll(chunk));
+                    current.loaded = true;
+                }
+                return current.next;
+            }
+        }
+
+        private List<EncodedEvent> encodeAll(List<StoredEvent> chunk) {
+            List<EncodedEvent> encoded = new ArrayList<>(chunk.size());
+            for (StoredEvent event : chunk) {
+                try {
+                    encoded.add(new EncodedEvent(event.sequence(), event.id(), eventFactory.createEncodedFrame(event)));
+                } catch (JsonProcessingException e) {
+                    log.error("Skipping replay of event {}: {}", event.id(), e.getMessage());
+                }
+            }
+            return encoded;
+        }
+    }
+}
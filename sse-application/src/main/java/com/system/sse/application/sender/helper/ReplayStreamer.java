@@ -0,0 +1,94 @@
+package com.system.sse.application.sender.helper;
+
+import com.system.sse.application.sender.registry.LocalSseEmitterRegistry;
+import com.system.sse.application.sender.store.DeliveryCursorTracker;
+import com.system.sse.application.sender.store.StoredEvent;
+import com.system.sse.application.sender.store.ReplayCursor;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+
+/**
+ * 재전송 커서를 chunk 단위로 읽어 연결에 흘려보낸다.
+ * - 이벤트는 저장 당시 ID 그대로 전송하므로 브라우저의 Last-Event-ID 가 실제 수신 위치를 가리킨다
+ * - 전송 실패 시 마지막으로 전송된 ID를 남기고 종료 → 재연결 시 그 지점부터 이어서 재전송
+ * - blocking send 는 가상 스레드에서 수행되어, 느린 클라이언트는 소켓 backpressure 로 자연스럽게 속도가 조절된다
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ReplayStreamer {
+    private static final int CHUNK_SIZE = 64;
+
+    private final LocalSseEmitterRegistry registry;
+    private final ExecutorService executor;
+    private final DeliveryCursorTracker cursorTracker;
+    private final SseEventFactory eventFactory;
+
+    /**
+     * 커서의 이벤트를 비동기로 전송 (시간 범위 재전송 등, delivery cursor 를 묶지 않음)
+     */
+    public void stream(String clientId, SseEmitter emitter, ReplayCursor cursor) {
+        stream(clientId, emitter, cursor, null);
+    }
+
+    /**
+     * 커서의 이벤트를 비동기로 전송하며 hold 로 delivery cursor 를 재전송 위치에 묶는다
+     *
+     * @param hold 재전송이 끝나면 해제 (null 이면 일반 전송 기록)
+     */
+    public void stream(String clientId, SseEmitter emitter, ReplayCursor cursor, DeliveryCursorTracker.ReplayHold hold) {
+        executor.execute(() -> drain(clientId, emitter, cursor, hold));
+    }
+
+    private void drain(String clientId, SseEmitter emitter, ReplayCursor cursor, DeliveryCursorTracker.ReplayHold hold) {
+        String lastSentId = null;
+        int sent = 0;
+        boolean completed = false;
+        try {
+            List<StoredEvent> chunk;
+            while (!(chunk = cursor.next(CHUNK_SIZE)).isEmpty()) {
+                // chunk 사이마다 연결이 여전히 같은 emitter 인지 확인 (재연결/종료 시 중단)
+                if (registry.find(clientId).filter(current -> current == emitter).isEmpty()) {
+                    log.debug("Replay to client {} stopped: connection replaced or closed (last sent {})", clientId, lastSentId);
+                    return;
+                }
+                for (StoredEvent event : chunk) {
+                    emitter.send(eventFactory.createEncodedFrame(event));
+                    if (hold != null) {
+                        hold.replayed(event.sequence());
+                    } else {
+                        cursorTracker.delivered(clientId, event.sequence());
+                    }
+                    lastSentId = event.id();
+                    sent++;
+                }
+            }
+            completed = true;
+            if (sent > 0) {
+                log.info("Replayed {} events to client {} (last sent {})", sent, clientId, lastSentId);
+            }
+        } catch (IOException e) {
+            log.warn("Replay to client {} stopped after {} events, resume from {}: {}", clientId, sent, lastSentId, e.getMessage());
+            cleanup(clientId, emitter);
+        } finally {
+            if (hold != null) {
+                hold.finish(completed);
+            }
+        }
+    }
+
+    private void cleanup(String clientId, SseEmitter emitter) {
+        try {
+            emitter.complete();
+        } catch (Exception ignore) {
+            // ignore
+        }
+        registry.remove(clientId, emitter);
+    }
+}
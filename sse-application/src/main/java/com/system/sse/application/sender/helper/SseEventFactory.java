@@ -1,12 +1,22 @@
 package com.system.sse.application.sender.helper;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.system.sse.application.sender.store.StoredEvent;
+import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.time.Duration;
+import java.util.Set;
 
 @Component
+@RequiredArgsConstructor
 public class SseEventFactory {
+
+    private final ObjectMapper objectMapper;
+
     /**
      * 새로운 SseEmitter 인스턴스를 생성합니다.
      *
@@ -34,6 +44,22 @@ public class SseEventFactory {
                 .data(data);
     }
 
+    /**
+     * 저장된 이벤트를 여러 연결에 그대로 보낼 수 있는 frame 으로 미리 직렬화합니다.
+     * payload 는 JSON 문자열로 한 번만 변환되므로 연결마다 message converter 를 다시 거치지 않습니다.
+     * 스토어가 저장한 JSON 이 있으면 다시 직렬화하지 않고 그대로 씁니다.
+     *
+     * @param event 스토어에 저장된 이벤트 (ID 포함)
+     * @return emitter.send(Set) 으로 전송할 frame
+     */
+    public Set<ResponseBodyEmitter.DataWithMediaType> createEncodedFrame(StoredEvent event) throws JsonProcessingException {
+        return SseEmitter.event()
+                .id(event.id())
+                .name(event.data().getType())
+                .data(event.json() != null ? event.json() : objectMapper.writeValueAsString(event.data()))
+                .build();
+    }
+
     /**
      * 연결 확인용 INIT 이벤트를 생성합니다.
      *
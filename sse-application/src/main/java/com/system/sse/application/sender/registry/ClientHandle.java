@@ -0,0 +1,46 @@
+package com.system.sse.application.sender.registry;
+
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * clientId 하나의 연결 핸들.
+ * - 같은 clientId 로 재연결(emitter 교체)되어도 같은 핸들이 유지되므로, 핸들을 들고 있는 색인은
+ *   레지스트리를 다시 조회하지 않고 현재 emitter 에 바로 접근한다
+ * - 연결이 제거되면 분리(detach)되어 emitter 가 null 이 되고, 이후 다시 연결되지 않는다
+ */
+public final class ClientHandle {
+
+    private final String clientId;
+    private volatile SseEmitter emitter;
+
+    public ClientHandle(String clientId, SseEmitter emitter) {
+        this.clientId = clientId;
+        this.emitter = emitter;
+    }
+
+    public String clientId() {
+        return clientId;
+    }
+
+    /**
+     * 현재 emitter
+     *
+     * @return 연결이 제거되었으면 null
+     */
+    public SseEmitter emitter() {
+        return emitter;
+    }
+
+    /**
+     * @return 교체된 이전 emitter
+     */
+    SseEmitter swap(SseEmitter replacement) {
+        SseEmitter previous = emitter;
+        emitter = replacement;
+        return previous;
+    }
+
+    void detach() {
+        emitter = null;
+    }
+}
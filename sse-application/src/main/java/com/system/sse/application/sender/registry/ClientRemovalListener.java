@@ -0,0 +1,11 @@
+package com.system.sse.application.sender.registry;
+
+/**
+ * 레지스트리에서 클라이언트 연결이 실제로 제거되었을 때 호출되는 콜백.
+ * 같은 clientId 로 재등록(emitter 교체)되는 경우에는 호출되지 않는다.
+ */
+@FunctionalInterface
+public interface ClientRemovalListener {
+
+    void onClientRemoved(String clientId);
+}
@@ -3,6 +3,7 @@ package com.system.sse.application.sender.registry;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.context.annotation.Profile;
 import org.springframework.kafka.annotation.KafkaListener;
 import org.springframework.kafka.core.KafkaTemplate;
@@ -21,6 +22,7 @@ import java.util.concurrent.ConcurrentHashMap;
 @RequiredArgsConstructor
 public class KafkaSseEmitterRegistry implements SseEmitterRegistry {
     private final KafkaRegistryPublisher publisher;
+    private final ObjectProvider<ClientRemovalListener> removalListeners;
     private final Map<String, SseEmitter> localCache = new ConcurrentHashMap<>();
 
     private static final String REGISTRY_TOPIC = "client-registry";
@@ -30,11 +32,10 @@ public class KafkaSseEmitterRegistry implements SseEmitterRegistry {
      */
     @Override
     public void register(String clientId, SseEmitter emitter) {
-        remove(clientId);
-        // 자동 정리 콜백
-        emitter.onCompletion(() -> remove(clientId));
-        emitter.onTimeout(() -> remove(clientId));
-        emitter.onError(error -> remove(clientId));
+        // 자동 정리 콜백 (교체된 이전 emitter 의 콜백이 새 emitter 를 지우지 않도록 조건부 제거)
+        emitter.onCompletion(() -> remove(clientId, emitter));
+        emitter.onTimeout(() -> remove(clientId, emitter));
+        emitter.onError(error -> remove(clientId, emitter));
 
         localCache.put(clientId, emitter);
         publisher.publishRegister(clientId);
@@ -49,6 +50,11 @@ public class KafkaSseEmitterRegistry implements SseEmitterRegistry {
         return Optional.ofNullable(localCache.get(clientId));
     }
 
+    @Override
+    public SseEmitter get(String clientId) {
+        return localCache.get(clientId);
+    }
+
     /**
      * 클라이언트 제거: 로컬 캐시에서 제거 후 Kafka에 REMOVE 이벤트 퍼블리시
      */
@@ -59,7 +65,22 @@ public class KafkaSseEmitterRegistry implements SseEmitterRegistry {
         log.info("Published REMOVE for client: {}", clientId);
         if (removed != null) {
             log.info("Removed emitter for client: {}", clientId);
+            notifyRemoved(clientId);
+        }
+    }
+
+    /**
+     * 현재 등록된 emitter 가 주어진 emitter 일 때만 제거 후 REMOVE 퍼블리시
+     */
+    @Override
+    public boolean remove(String clientId, SseEmitter emitter) {
+        if (!localCache.remove(clientId, emitter)) {
+            return false;
         }
+        publisher.publishRemove(clientId);
+        log.info("Removed emitter and published REMOVE for client: {}", clientId);
+        notifyRemoved(clientId);
+        return true;
     }
 
     /**
@@ -77,4 +98,14 @@ public class KafkaSseEmitterRegistry implements SseEmitterRegistry {
     public int getActiveConnectionCount() {
         return localCache.size();
     }
+
+    private void notifyRemoved(String clientId) {
+        removalListeners.orderedStream().forEach(listener -> {
+            try {
+                listener.onClientRemoved(clientId);
+            } catch (Exception e) {
+                log.warn("Client removal listener failed for client {}: {}", clientId, e.getMessage());
+            }
+        });
+    }
 }
\ No newline at end of file
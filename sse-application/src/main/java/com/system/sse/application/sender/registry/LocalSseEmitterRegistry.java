@@ -1,6 +1,8 @@
 package com.system.sse.application.sender.registry;
 
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.stereotype.Component;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
@@ -12,37 +14,52 @@ import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * 연결된 SSE Emitter를 관리하는 레지스트리 (스레드 안전)
+ * - clientId 마다 {@link ClientHandle} 을 두고, emitter 교체는 핸들 안에서 일어난다
  */
 @Slf4j
 @Component
+@RequiredArgsConstructor
 public class LocalSseEmitterRegistry implements SseEmitterRegistry {
 
-    private final Map<String, SseEmitter> emitters = new ConcurrentHashMap<>();
+    private final ObjectProvider<ClientRemovalListener> removalListeners;
+    private final Map<String, ClientHandle> handles = new ConcurrentHashMap<>();
 
     /**
-     * 클라이언트 ID에 해당하는 기존 Emitter 제거 후 새로 등록
+     * 클라이언트 ID에 해당하는 기존 Emitter 교체 등록
+     * - 교체는 연결 종료가 아니므로 removal listener 를 호출하지 않는다 (구독 유지)
      */
     @Override
     public void register(String clientId, SseEmitter emitter) {
-        // 기존 emitter 정리
-        remove(clientId);
-
-        // 자동 정리 콜백 등록
+        // 자동 정리 콜백 등록 (교체된 이전 emitter 의 콜백이 새 emitter 를 지우지 않도록 조건부 제거)
         emitter.onCompletion(() -> {
-            remove(clientId);
-            log.info("Emitter completed, removed client: {}", clientId);
+            if (remove(clientId, emitter)) {
+                log.info("Emitter completed, removed client: {}", clientId);
+            }
         });
         emitter.onTimeout(() -> {
-            remove(clientId);
-            log.info("Emitter timed out, removed client: {}", clientId);
+            if (remove(clientId, emitter)) {
+                log.info("Emitter timed out, removed client: {}", clientId);
+            }
         });
         emitter.onError(error -> {
-            remove(clientId);
-            log.error("Emitter error for client {}, removed emitter", clientId, error);
+            if (remove(clientId, emitter)) {
+                log.error("Emitter error for client {}, removed emitter", clientId, error);
+            }
         });
 
-        emitters.put(clientId, emitter);
-        log.info("Registered new emitter for client: {}", clientId);
+        SseEmitter[] previous = {null};
+        handles.compute(clientId, (id, handle) -> {
+            if (handle == null) {
+                return new ClientHandle(id, emitter);
+            }
+            previous[0] = handle.swap(emitter);
+            return handle;
+        });
+        if (previous[0] != null) {
+            log.info("Replaced existing emitter for client: {}", clientId);
+        } else {
+            log.info("Registered new emitter for client: {}", clientId);
+        }
     }
 
     /**
@@ -50,7 +67,22 @@ public class LocalSseEmitterRegistry implements SseEmitterRegistry {
      */
     @Override
     public Optional<SseEmitter> find(String clientId) {
-        return Optional.ofNullable(emitters.get(clientId));
+        return Optional.ofNullable(get(clientId));
+    }
+
+    @Override
+    public SseEmitter get(String clientId) {
+        ClientHandle handle = handles.get(clientId);
+        return handle != null ? handle.emitter() : null;
+    }
+
+    /**
+     * clientId 의 연결 핸들 (재연결되어도 같은 핸들)
+     *
+     * @return 연결되어 있지 않으면 null
+     */
+    public ClientHandle handle(String clientId) {
+        return handles.get(clientId);
     }
 
     /**
@@ -58,18 +90,40 @@ public class LocalSseEmitterRegistry implements SseEmitterRegistry {
      */
     @Override
     public void remove(String clientId) {
-        SseEmitter removed = emitters.remove(clientId);
+        ClientHandle removed = handles.remove(clientId);
         if (removed != null) {
+            removed.detach();
             log.info("Removed emitter for client: {}", clientId);
+            notifyRemoved(clientId);
         }
     }
 
+    /**
+     * 현재 등록된 Emitter 가 주어진 emitter 일 때만 제거
+     */
+    @Override
+    public boolean remove(String clientId, SseEmitter emitter) {
+        boolean[] removed = {false};
+        handles.computeIfPresent(clientId, (id, handle) -> {
+            if (handle.emitter() != emitter) {
+                return handle;
+            }
+            handle.detach();
+            removed[0] = true;
+            return null;
+        });
+        if (removed[0]) {
+            notifyRemoved(clientId);
+        }
+        return removed[0];
+    }
+
     /**
      * 등록된 모든 clientId 조회 (읽기 전용)
      */
     @Override
     public Set<String> getAllClientIds() {
-        return Collections.unmodifiableSet(emitters.keySet());
+        return Collections.unmodifiableSet(handles.keySet());
     }
 
     /**
@@ -77,6 +131,16 @@ public class LocalSseEmitterRegistry implements SseEmitterRegistry {
      */
     @Override
     public int getActiveConnectionCount() {
-        return emitters.size();
+        return handles.size();
+    }
+
+    private void notifyRemoved(String clientId) {
+        removalListeners.orderedStream().forEach(listener -> {
+            try {
+                listener.onClientRemoved(clientId);
+            } catch (Exception e) {
+                log.warn("Client removal listener failed for client {}: {}", clientId, e.getMessage());
+            }
+        });
     }
-}
\ No newline at end of file
+}
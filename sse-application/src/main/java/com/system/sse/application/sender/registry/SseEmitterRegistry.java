@@ -17,8 +17,22 @@ public interface SseEmitterRegistry {
 
     Optional<SseEmitter> find(String clientId);
 
+    /**
+     * Optional 할당 없이 emitter 조회 (fan-out 경로용)
+     *
+     * @return 없으면 null
+     */
+    SseEmitter get(String clientId);
+
     void remove(String clientId);
 
+    /**
+     * 현재 등록된 emitter 가 주어진 emitter 일 때만 제거 (교체된 이전 연결의 콜백용)
+     *
+     * @return 제거되었으면 true
+     */
+    boolean remove(String clientId, SseEmitter emitter);
+
     Set<String> getAllClientIds();
 
     int getActiveConnectionCount();
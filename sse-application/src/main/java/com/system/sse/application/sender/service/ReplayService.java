@@ -5,6 +5,7 @@ import java.time.Instant;
 public interface ReplayService {
     /**
      * 특정 클라이언트에 대해 lastEventId 이후의 누락 이벤트 전송
+     * - lastEventId 가 없으면 서버가 기록한 마지막 전달 위치 이후를 전송
      */
     void replayMissed(String clientId, String lastEventId);
 
@@ -5,16 +5,30 @@ import com.system.sse.application.sender.model.SseEmitterData;
 public interface TopicService {
     /**
      * 클라이언트를 특정 토픽에 구독 등록
+     * - '*'(한 단계), '#'(나머지 전체, 마지막 단계만) wildcard 패턴 구독 가능
      */
     void subscribe(String clientId, String topic);
 
+    /**
+     * 클라이언트를 특정 토픽에 서버 측 필터와 함께 구독 등록
+     * - 예: {@code type=order&priority=high&data.region=kr}, 이미 구독 중이면 필터만 교체
+     * - 이 노드에 연결되어 있지 않은 클라이언트는 구독할 수 없다 (IllegalArgumentException)
+     */
+    void subscribe(String clientId, String topic, String filter);
+
     /**
      * 클라이언트를 특정 토픽에서 구독 해제
      */
     void unsubscribe(String clientId, String topic);
 
     /**
-     * 특정 토픽에 속한 구독자 대상 브로드캐스트
+     * 특정 토픽에 속한 구독자 대상 브로드캐스트 (토픽에 일치하는 wildcard 구독자 포함)
+     * - kafka 프로필에서는 클러스터 전체 노드의 구독자에게 전달
      */
     void broadcastToTopic(String topic, SseEmitterData data);
+
+    /**
+     * 이 노드에 연결된 구독자에게만 브로드캐스트 (클러스터 수신 측에서 사용)
+     */
+    void broadcastLocal(String topic, SseEmitterData data);
 }
\ No newline at end of file
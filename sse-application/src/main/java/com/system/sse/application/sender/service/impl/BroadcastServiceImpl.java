@@ -1,7 +1,9 @@
 package com.system.sse.application.sender.service.impl;
 
 import com.system.sse.application.sender.registry.LocalSseEmitterRegistry;
-import com.system.sse.application.sender.store.LocalSseEventStore;
+import com.system.sse.application.sender.store.DeliveryCursorTracker;
+import com.system.sse.application.sender.store.SseEventStore;
+import com.system.sse.application.sender.store.StoredEvent;
 import com.system.sse.application.sender.model.SseEmitterData;
 import com.system.sse.application.sender.service.BroadcastService;
 import lombok.RequiredArgsConstructor;
@@ -10,7 +12,6 @@ import org.springframework.stereotype.Service;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.io.IOException;
-import java.util.UUID;
 
 /**
  * 전체 클라이언트에게 이벤트 전송
@@ -21,22 +22,24 @@ import java.util.UUID;
 public class BroadcastServiceImpl implements BroadcastService {
 
     private final LocalSseEmitterRegistry registry;
-    private final LocalSseEventStore store;
+    private final SseEventStore store;
+    private final DeliveryCursorTracker cursorTracker;
 
     @Override
     public void broadcast(SseEmitterData data) {
+        // 브로드캐스트 한 건은 하나의 ID로 한 번만 저장
+        StoredEvent stored = store.append(data);
         registry.getAllClientIds().forEach(clientId -> registry.find(clientId).ifPresent(emitter -> {
             try {
-                String eventId = UUID.randomUUID().toString();
                 SseEmitter.SseEventBuilder event = SseEmitter.event()
-                        .id(eventId)
+                        .id(stored.id())
                         .name(data.getType())
                         .data(data);
                 emitter.send(event);
-                store.store(eventId, data);
+                cursorTracker.delivered(clientId, stored.sequence());
             } catch (IOException e) {
                 log.warn("Failed to send broadcast to client {}: {}", clientId, e.getMessage());
-                registry.remove(clientId);
+                registry.remove(clientId, emitter);
             }
         }));
     }
@@ -1,7 +1,13 @@
 package com.system.sse.application.sender.service.impl;
 
+import com.system.sse.application.drain.DrainProperties;
+import com.system.sse.application.drain.SseDrainable;
+import com.system.sse.application.global.ConnectionRejectedException;
+import com.system.sse.application.limit.ReconnectPolicy;
+import com.system.sse.application.sender.helper.ReplayCoordinator;
 import com.system.sse.application.sender.registry.LocalSseEmitterRegistry;
-import com.system.sse.application.sender.store.LocalSseEventStore;
+import com.system.sse.application.sender.store.DeliveryCursorTracker;
+import com.system.sse.application.sender.store.SseEventStore;
 import com.system.sse.application.sender.service.ConnectionService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -9,7 +15,8 @@ import org.springframework.stereotype.Service;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.io.IOException;
-import java.util.UUID;
+import java.util.Collection;
+import java.util.List;
 
 /**
  * SSE 연결 관리 구현체
@@ -17,13 +24,25 @@ import java.util.UUID;
 @Slf4j
 @Service
 @RequiredArgsConstructor
-public class ConnectionServiceImpl implements ConnectionService {
+public class ConnectionServiceImpl implements ConnectionService, SseDrainable {
 
     private final LocalSseEmitterRegistry registry;
-    private final LocalSseEventStore store;
+    private final SseEventStore store;
+    private final DrainProperties drainProperties;
+    private final ReconnectPolicy reconnectPolicy;
+    private final ReplayCoordinator replayCoordinator;
+    private final DeliveryCursorTracker cursorTracker;
+
+    private volatile boolean accepting = true;
 
     @Override
     public SseEmitter connect(String clientId, String lastEventId){
+        if (!accepting) {
+            throw new ConnectionRejectedException("Node is draining", drainProperties.nextRetryMillis());
+        }
+        // 연결 폭주 시 emitter 할당 전에 거절
+        reconnectPolicy.admit();
+
         // 1. 새로운 emitter 생성 (타임아웃 무제한)
         SseEmitter emitter = new SseEmitter(0L);
 
@@ -52,51 +71,78 @@ public class ConnectionServiceImpl implements ConnectionService {
         registry.remove(clientId);
     }
 
+    @Override
+    public void stopAccepting() {
+        accepting = false;
+    }
+
+    @Override
+    public Collection<String> drainTargets() {
+        return List.copyOf(registry.getAllClientIds());
+    }
+
+    /**
+     * 재연결 간격과 재개 커서를 담은 DRAIN 이벤트 전송 후 종료.
+     * 커서는 스토어의 마지막 ID 가 아니라 이 클라이언트에게 실제로 전달된 마지막 sequence 이므로,
+     * 뒤처져 있던 클라이언트도 재연결 시 Last-Event-ID 로 받지 못한 이벤트부터 재전송받는다.
+     */
+    @Override
+    public void closeWithHint(String clientId, long retryMillis) {
+        registry.find(clientId).ifPresent(emitter -> {
+            SseEmitter.SseEventBuilder event = SseEmitter.event()
+                    .name("DRAIN")
+                    .reconnectTime(retryMillis)
+                    .data("draining");
+            cursorTracker.lastDelivered(clientId).ifPresent(delivered -> event.id(Long.toString(delivered)));
+            try {
+                emitter.send(event);
+                emitter.complete();
+            } catch (IOException e) {
+                log.debug("Failed to send drain hint to client {}: {}", clientId, e.getMessage());
+            }
+        });
+        registry.remove(clientId);
+    }
+
 
     /**
      * 초기 연결 이벤트 전송
+     * - ID를 붙이지 않아 클라이언트의 Last-Event-ID(재개 위치)를 덮어쓰지 않는다
      */
     private void sendInitEvent(String clientId, SseEmitter emitter) {
         try {
-            String eventId = UUID.randomUUID().toString();
             emitter.send(SseEmitter.event()
                     .name("INIT")
-                    .id(eventId)
+                    .reconnectTime(reconnectPolicy.retryMillis())
                     .data("connected"));
             log.debug("Initial event sent to client: {}", clientId);
         } catch (IOException e) {
             log.error("Failed to send initial event to client {}: {}", clientId, e.getMessage());
             emitter.completeWithError(e);
-            registry.remove(clientId);
+            registry.remove(clientId, emitter);
         }
     }
 
     /**
      * Last-Event-ID 이후 누락된 이벤트 재전송
+     * - 동시에 재연결한 클라이언트들과 하나의 재전송 pass 를 공유
+     * - 헤더가 없으면 서버가 기록한 마지막 전달 위치부터 재전송하고, 처음 연결한 클라이언트는 현재 위치를 기록
      */
     private void resendMissedEvents(String clientId, SseEmitter emitter, String lastEventId) {
         if (lastEventId == null || lastEventId.trim().isEmpty()) {
+            if (cursorTracker.initialize(clientId, store.lastSequence())) {
+                return;
+            }
+            long delivered = cursorTracker.lastDelivered(clientId).orElse(0);
+            replayCoordinator.replay(clientId, emitter, delivered);
+            log.info("Resending missed events to client {} from delivery cursor {}", clientId, delivered);
             return;
         }
 
-        try {
-            store.fetchSince(lastEventId).forEach(data -> {
-                try {
-                    String eventId = UUID.randomUUID().toString();
-                    emitter.send(SseEmitter.event()
-                            .id(eventId)
-                            .name(data.getType())
-                            .data(data));
-                } catch (IOException e) {
-                    log.warn("Failed to resend event to client {}: {}", clientId, e.getMessage());
-                    throw new RuntimeException(e); // forEach 중단을 위해 RuntimeException으로 변환
-                }
-            });
-            log.info("Resent missed events to client {} from lastEventId: {}", clientId, lastEventId);
-        } catch (Exception e) {
-            log.error("Error during event resend for client {}: {}", clientId, e.getMessage());
-            emitter.completeWithError(e);
-            registry.remove(clientId);
+        if (!replayCoordinator.replay(clientId, emitter, lastEventId)) {
+            log.warn("Ignoring unknown Last-Event-ID {} from client {}", lastEventId, clientId);
+            return;
         }
+        log.info("Resending missed events to client {} from lastEventId: {}", clientId, lastEventId);
     }
 }
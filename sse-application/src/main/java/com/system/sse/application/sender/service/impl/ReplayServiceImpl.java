@@ -1,18 +1,17 @@
 package com.system.sse.application.sender.service.impl;
 
-import com.system.sse.application.sender.model.SseEmitterData;
+import com.system.sse.application.sender.helper.ReplayCoordinator;
+import com.system.sse.application.sender.helper.ReplayStreamer;
 import com.system.sse.application.sender.registry.LocalSseEmitterRegistry;
-import com.system.sse.application.sender.store.LocalSseEventStore;
+import com.system.sse.application.sender.store.DeliveryCursorTracker;
+import com.system.sse.application.sender.store.SseEventStore;
+import com.system.sse.application.sender.store.ReplayCursor;
 import com.system.sse.application.sender.service.ReplayService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
-import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
-import java.io.IOException;
 import java.time.Instant;
-import java.util.List;
-import java.util.UUID;
 
 @Slf4j
 @Component
@@ -20,26 +19,27 @@ import java.util.UUID;
 public class ReplayServiceImpl implements ReplayService {
 
     private final LocalSseEmitterRegistry registry;
-    private final LocalSseEventStore store;
+    private final SseEventStore store;
+    private final ReplayStreamer replayStreamer;
+    private final ReplayCoordinator replayCoordinator;
+    private final DeliveryCursorTracker cursorTracker;
 
 
     /**
-     * lastEventId 이후의 누락된 이벤트를 re-send
+     * lastEventId 이후의 누락된 이벤트를 re-send (없으면 서버가 기록한 마지막 전달 위치 이후)
      */
     @Override
     public void replayMissed(String clientId, String lastEventId) {
-        if (lastEventId == null || lastEventId.isBlank()) {
-            log.debug("No lastEventId provided for client {}", clientId);
-            return;
-        }
         registry.find(clientId).ifPresentOrElse(emitter -> {
-            List<SseEmitterData> events = store.fetchSince(lastEventId);
-            if (events.isEmpty()) {
-                log.debug("No missed events to replay for client {}", clientId);
+            if (lastEventId == null || lastEventId.isBlank()) {
+                long delivered = cursorTracker.lastDelivered(clientId).orElse(0);
+                log.debug("No lastEventId provided for client {}, resuming from delivery cursor {}", clientId, delivered);
+                replayCoordinator.replay(clientId, emitter, delivered);
                 return;
             }
-            log.info("Replaying {} missed events to client {}", events.size(), clientId);
-            events.forEach(data -> sendEvent(emitter, clientId, data));
+            if (!replayCoordinator.replay(clientId, emitter, lastEventId)) {
+                log.warn("Cannot replay missed events for client {}; unknown lastEventId {}", clientId, lastEventId);
+            }
         }, () -> log.warn("Cannot replay missed events; no active connection for client {}", clientId));
     }
 
@@ -48,50 +48,13 @@ public class ReplayServiceImpl implements ReplayService {
      */
     @Override
     public void replayRange(String clientId, Instant from, Instant to) {
-        if (from == null || to == null || from.isAfter(to)) {
+        ReplayCursor cursor = store.cursorBetween(from, to);
+        if (cursor == null) {
             log.warn("Invalid replay range for client {}: from={} to={}", clientId, from, to);
             return;
         }
-        registry.find(clientId).ifPresentOrElse(emitter -> {
-            List<SseEmitterData> events = store.fetchBetween(from, to);
-            if (events.isEmpty()) {
-                log.debug("No events in range to replay for client {}", clientId);
-                return;
-            }
-            log.info("Replaying {} events to client {} between {} and {}", events.size(), clientId, from, to);
-            events.forEach(data -> sendEvent(emitter, clientId, data));
-        }, () -> log.warn("Cannot replay events; no active connection for client {}", clientId));
-    }
-
-    /**
-     * 개별 이벤트 전송 및 실패 시 정리
-     */
-    private void sendEvent(SseEmitter emitter, String clientId, SseEmitterData data) {
-        String eventId = UUID.randomUUID().toString(); // TODO: epoch + UUID 조합으로 고유 ID 생성
-        try {
-            emitter.send(SseEmitter.event()
-                    .id(eventId)
-                    .name(data.getType())
-                    .data(data));
-            log.debug("Replayed event {} to client {}", eventId, clientId);
-        } catch (IOException e) {
-            log.error("Failed to replay event {} to client {}: {}", eventId, clientId, e.getMessage());
-            cleanup(clientId, emitter);
-            // 중간 오류 시 더 이상의 재전송 중단
-            throw new RuntimeException(e);
-        }
-    }
-
-    /**
-     * 연결 실패 시 Emitter 종료 및 레지스트리에서 제거
-     */
-    private void cleanup(String clientId, SseEmitter emitter) {
-        try {
-            emitter.complete();
-        } catch (Exception ignore) {
-            // ignore
-        }
-        registry.remove(clientId);
-        log.info("Cleaned up SSE connection for client {}", clientId);
+        registry.find(clientId).ifPresentOrElse(
+                emitter -> replayStreamer.stream(clientId, emitter, cursor),
+                () -> log.warn("Cannot replay events; no active connection for client {}", clientId));
     }
 }
@@ -1,7 +1,9 @@
 package com.system.sse.application.sender.service.impl;
 
 import com.system.sse.application.sender.registry.LocalSseEmitterRegistry;
-import com.system.sse.application.sender.store.LocalSseEventStore;
+import com.system.sse.application.sender.store.DeliveryCursorTracker;
+import com.system.sse.application.sender.store.SseEventStore;
+import com.system.sse.application.sender.store.StoredEvent;
 import com.system.sse.application.sender.model.SseEmitterData;
 import com.system.sse.application.sender.service.SendService;
 import lombok.RequiredArgsConstructor;
@@ -10,7 +12,6 @@ import org.springframework.stereotype.Service;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.io.IOException;
-import java.util.UUID;
 
 /**
  * 특정 사용자에게 이벤트 전송
@@ -21,20 +22,22 @@ import java.util.UUID;
 public class SendServiceImpl implements SendService {
 
     private final LocalSseEmitterRegistry registry;
-    private final LocalSseEventStore store;
+    private final SseEventStore store;
+    private final DeliveryCursorTracker cursorTracker;
 
     @Override
     public void send(String clientId, SseEmitterData data) {
         registry.find(clientId).ifPresentOrElse(emitter -> {
-            String eventId = UUID.randomUUID().toString();
+            // 먼저 저장해 ID를 발급받고, 전송 실패 시에도 재연결 후 재전송 가능하도록 함
+            StoredEvent stored = store.append(data);
             SseEmitter.SseEventBuilder event = SseEmitter.event()
-                    .id(eventId)
+                    .id(stored.id())
                     .name(data.getType())
                     .data(data);
             try {
                 emitter.send(event);
-                store.store(eventId, data);
-                log.debug("Sent event {} to client {}", eventId, clientId);
+                cursorTracker.delivered(clientId, stored.sequence());
+                log.debug("Sent event {} to client {}", stored.id(), clientId);
             } catch (IOException e) {
                 log.warn("Error sending event to client {}: {}", clientId, e.getMessage());
                 cleanup(clientId, emitter);
@@ -48,7 +51,7 @@ public class SendServiceImpl implements SendService {
         } catch (Exception ignore) {
             // ignore
         }
-        registry.remove(clientId);
+        registry.remove(clientId, emitter);
         log.info("Cleaned up SSE connection for client {}", clientId);
     }
 }
@@ -1,58 +1,73 @@
 package com.system.sse.application.sender.service.impl;
 
 import com.system.sse.application.sender.helper.EventDispatcher;
-import com.system.sse.application.sender.helper.SseEventFactory;
 import com.system.sse.application.sender.model.SseEmitterData;
-import com.system.sse.application.sender.service.SubscriptionQueryService;
+import com.system.sse.application.sender.registry.ClientHandle;
+import com.system.sse.application.sender.registry.LocalSseEmitterRegistry;
 import com.system.sse.application.sender.service.TopicService;
+import com.system.sse.application.sender.topic.KafkaTopicBroadcastPublisher;
+import com.system.sse.application.sender.topic.SubscriberFilter;
+import com.system.sse.application.sender.topic.TopicIndex;
+import com.system.sse.application.sender.topic.TopicTrie;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.stereotype.Service;
 
-import java.util.Collections;
-import java.util.Map;
-import java.util.Set;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.Collection;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class TopicServiceImpl implements TopicService {
 
-    private final SubscriptionQueryService subscriptionQueryService;
+    private final TopicIndex topicIndex;
+    private final LocalSseEmitterRegistry registry;
     private final EventDispatcher dispatcher;
-    private final SseEventFactory eventFactory;
-
-    // Topic 별로 clientId 집합을 관리
-    private final Map<String, Set<String>> topicSubscribers = new ConcurrentHashMap<>();
+    private final ObjectProvider<KafkaTopicBroadcastPublisher> clusterPublisher;
 
     @Override
     public void subscribe(String clientId, String topic) {
-        topicSubscribers
-                .computeIfAbsent(topic, t -> ConcurrentHashMap.newKeySet())
-                .add(clientId);
-        log.info("Client {} subscribed to topic {}", clientId, topic);
+        subscribe(clientId, topic, null);
     }
 
     @Override
-    public void unsubscribe(String clientId, String topic) {
-        Set<String> subs = topicSubscribers.get(topic);
-        if (subs != null) {
-            subs.remove(clientId);
+    public void subscribe(String clientId, String topic, String filter) {
+        SubscriberFilter compiled = SubscriberFilter.compile(filter);
+        ClientHandle client = registry.handle(clientId);
+        if (client == null) {
+            throw new IllegalArgumentException("No active connection for client: " + clientId);
         }
+        topicIndex.subscribe(client, topic, compiled);
+        log.info("Client {} subscribed to topic {} with filter {}", clientId, topic, compiled);
+    }
+
+    @Override
+    public void unsubscribe(String clientId, String topic) {
+        topicIndex.unsubscribe(clientId, topic);
         log.info("Client {} unsubscribed from topic {}", clientId, topic);
     }
 
     @Override
     public void broadcastToTopic(String topic, SseEmitterData data) {
-        Set<String> clients = topicSubscribers.getOrDefault(topic, Collections.emptySet());
+        TopicTrie.validateTopic(topic);
+        KafkaTopicBroadcastPublisher publisher = clusterPublisher.getIfAvailable();
+        if (publisher != null) {
+            publisher.publish(topic, data);
+            log.debug("Published event type {} on topic {} to cluster", data.getType(), topic);
+            return;
+        }
+        broadcastLocal(topic, data);
+    }
+
+    @Override
+    public void broadcastLocal(String topic, SseEmitterData data) {
+        Collection<ClientHandle> clients = topicIndex.resolve(topic, data);
         if (clients.isEmpty()) {
             log.debug("No subscribers for topic {}", topic);
             return;
         }
         log.info("Broadcasting event type {} to {} subscribers on topic {}", data.getType(), clients.size(), topic);
-        for (String clientId : clients) {
-            dispatcher.dispatch(clientId, eventFactory.createDataEvent(data.getType(), data));
-        }
+        dispatcher.dispatchToHandles(clients, data);
     }
-}
\ No newline at end of file
+}
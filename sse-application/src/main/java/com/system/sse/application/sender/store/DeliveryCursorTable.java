@@ -0,0 +1,39 @@
+package com.system.sse.application.sender.store;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.OptionalLong;
+
+/**
+ * 크기 제한이 있는 delivery cursor 표 (가장 오래 갱신되지 않은 클라이언트부터 제거)
+ */
+final class DeliveryCursorTable {
+
+    private final Map<String, Long> cursors;
+
+    DeliveryCursorTable(int capacity) {
+        this.cursors = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Long> eldest) {
+                return size() > capacity;
+            }
+        };
+    }
+
+    synchronized void putAll(Map<String, Long> updates) {
+        cursors.putAll(updates);
+    }
+
+    synchronized OptionalLong get(String clientId) {
+        Long sequence = cursors.get(clientId);
+        return sequence != null ? OptionalLong.of(sequence) : OptionalLong.empty();
+    }
+
+    synchronized int size() {
+        return cursors.size();
+    }
+
+    synchronized Map<String, Long> snapshot() {
+        return new LinkedHashMap<>(cursors);
+    }
+}
@@ -0,0 +1,224 @@
+package com.system.sse.application.sender.store;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.OptionalLong;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 클라이언트별 마지막 전달 sequence(delivery cursor) 추적.
+ * - 전송이 성공할 때마다 메모리의 미반영 표에 최대값만 기록 (clientId → sequence 하나)
+ * - 주기적으로 스토어에 일괄 저장하고, 저장 뒤 바뀌지 않은 항목은 메모리에서 제거
+ * - 스토어에 저장된 값은 짧게 캐시해 조회마다 스토어(Redis 등)를 왕복하지 않는다
+ * - Last-Event-ID 없이 재연결한 클라이언트(새 탭, fetch 기반 클라이언트 등)는 이 값부터 재전송받는다
+ * - 재전송 중인 클라이언트의 cursor 는 재전송이 실제로 보낸 위치(low-water mark)에 묶어 두고,
+ *   그동안의 실시간 전송은 따로 모았다가 재전송이 끝까지 성공했을 때만 반영한다
+ */
+@Slf4j
+@Component
+public class DeliveryCursorTracker implements SmartLifecycle {
+
+    // 다른 노드가 같은 클라이언트의 cursor 를 바꿨을 수 있으므로 오래 믿지 않는다
+    private static final Duration PERSISTED_TTL = Duration.ofSeconds(30);
+
+    private final SseEventStore store;
+    private final long flushIntervalMillis;
+    private final Map<String, Long> pending = new ConcurrentHashMap<>();
+    private final Map<String, ReplayHold> replays = new ConcurrentHashMap<>();
+    private final Cache<String, Long> persisted;
+    private final Counter flushFailures;
+
+    private ScheduledExecutorService scheduler;  // guarded by this
+    private volatile boolean running;
+
+    public DeliveryCursorTracker(SseEventStore store, EventStoreProperties properties, MeterRegistry meterRegistry) {
+        this.store = store;
+        this.flushIntervalMillis = properties.getDeliveryCursorFlushInterval().toMillis();
+        this.persisted = Caffeine.newBuilder()
+                .maximumSize(properties.getDeliveryCursorCapacity())
+                .expireAfterWrite(PERSISTED_TTL)
+                .build();
+        this.flushFailures = Counter.builder("sse.delivery-cursor.flush.failures")
+                .description("delivery cursor 일괄 저장 실패 수")
+                .register(meterRegistry);
+        Gauge.builder("sse.delivery-cursor.pending", pending, Map::size)
+                .description("스토어에 아직 저장되지 않은 delivery cursor 수")
+                .register(meterRegistry);
+        Gauge.builder("sse.delivery-cursor.replays", replays, Map::size)
+                .description("cursor 를 재전송 위치에 묶어 둔 클라이언트 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 실시간 전송 성공 기록. 이전 값보다 큰 경우에만 반영하고, 재전송 중이면 재전송이 끝날 때까지 보류
+     */
+    public void delivered(String clientId, long sequence) {
+        if (!replays.isEmpty() && replays.computeIfPresent(clientId, (id, hold) -> hold.live(sequence)) != null) {
+            return;
+        }
+        pending.merge(clientId, sequence, Math::max);
+    }
+
+    /**
+     * after 이후 재전송 시작. 끝날 때까지 cursor 를 after 와 실제로 재전송한 위치에 묶어 둔다
+     * - 같은 클라이언트의 이전 재전송은 이 재전송으로 대체된다 (이전 hold 의 기록은 무시)
+     */
+    public ReplayHold beginReplay(String clientId, long after) {
+        ReplayHold hold = new ReplayHold(clientId, after);
+        replays.put(clientId, hold);
+        // Last-Event-ID 가 기록보다 뒤면 클라이언트가 실제로 받은 위치로 되돌린다
+        pending.put(clientId, after);
+        return hold;
+    }
+
+    /**
+     * 처음 연결한 클라이언트의 cursor 를 현재 위치로 초기화 (기록이 있으면 0 이어도 유지)
+     *
+     * @return 초기화했으면 true
+     */
+    public boolean initialize(String clientId, long sequence) {
+        if (pending.containsKey(clientId) || persistedCursor(clientId) != null) {
+            return false;
+        }
+        return pending.putIfAbsent(clientId, sequence) == null;
+    }
+
+    /**
+     * 마지막 전달 sequence
+     *
+     * @return 기록이 없으면 empty
+     */
+    public OptionalLong lastDelivered(String clientId) {
+        Long unflushed = pending.get(clientId);
+        if (unflushed != null) {
+            return OptionalLong.of(unflushed);
+        }
+        Long stored = persistedCursor(clientId);
+        return stored != null ? OptionalLong.of(stored) : OptionalLong.empty();
+    }
+
+    /**
+     * 미반영 cursor 를 스토어에 일괄 저장
+     */
+    public void flush() {
+        if (pending.isEmpty()) {
+            return;
+        }
+        Map<String, Long> batch = new HashMap<>(pending);
+        try {
+            store.saveDeliveryCursors(batch);
+        } catch (Exception e) {
+            flushFailures.increment();
+            log.warn("Failed to persist {} delivery cursors: {}", batch.size(), e.getMessage());
+            return;
+        }
+        persisted.putAll(batch);
+        // 저장 이후 더 전진한 항목은 다음 주기에 다시 저장
+        batch.forEach(pending::remove);
+    }
+
+    /**
+     * 스토어에 저장된 cursor (캐시, 없으면 null)
+     */
+    private Long persistedCursor(String clientId) {
+        return persisted.get(clientId, id -> {
+            OptionalLong stored = store.loadDeliveryCursor(id);
+            return stored.isPresent() ? stored.getAsLong() : null;
+        });
+    }
+
+    @Override
+    public synchronized void start() {
+        scheduler = Executors.newSingleThreadScheduledExecutor(Thread.ofPlatform()
+                .name("delivery-cursor-flush")
+                .daemon(true)
+                .factory());
+        scheduler.scheduleWithFixedDelay(this::flush, flushIntervalMillis, flushIntervalMillis, TimeUnit.MILLISECONDS);
+        running = true;
+    }
+
+    @Override
+    public synchronized void stop() {
+        if (!running) {
+            return;
+        }
+        running = false;
+        scheduler.shutdown();
+        flush();
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * 드레인(DEFAULT_PHASE - 512)이 연결을 닫고 마지막 전송을 기록한 뒤에 멈춰 최종 cursor 를 저장한다.
+     */
+    @Override
+    public int getPhase() {
+        return SmartLifecycle.DEFAULT_PHASE - 768;
+    }
+
+    /**
+     * 한 번의 재전송 동안 cursor 를 묶어 두는 hold.
+     * 재전송 스레드가 {@link #replayed(long)} 로 전진시키고, 끝나면 {@link #finish(boolean)} 로 해제한다.
+     */
+    public final class ReplayHold {
+        private final String clientId;
+        private long replayed;  // guarded by this
+        private long liveHigh;  // guarded by this
+
+        private ReplayHold(String clientId, long after) {
+            this.clientId = clientId;
+            this.replayed = after;
+        }
+
+        /**
+         * 재전송으로 sequence 까지 전달됨
+         */
+        public void replayed(long sequence) {
+            synchronized (this) {
+                replayed = Math.max(replayed, sequence);
+            }
+            if (replays.get(clientId) == this) {
+                pending.merge(clientId, sequence, Math::max);
+            }
+        }
+
+        /**
+         * 재전송 종료. 끝까지 보냈으면 그동안 보류한 실시간 전송 위치까지 cursor 를 전진시키고,
+         * 중단되었으면 재전송이 보낸 위치에 그대로 둔다
+         */
+        public void finish(boolean completed) {
+            if (!replays.remove(clientId, this)) {
+                return;
+            }
+            if (completed) {
+                long high;
+                synchronized (this) {
+                    high = Math.max(replayed, liveHigh);
+                }
+                pending.merge(clientId, high, Math::max);
+            }
+        }
+
+        private synchronized ReplayHold live(long sequence) {
+            liveHigh = Math.max(liveHigh, sequence);
+            return this;
+        }
+    }
+}
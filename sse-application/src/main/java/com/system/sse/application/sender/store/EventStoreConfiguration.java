@@ -0,0 +1,50 @@
+package com.system.sse.application.sender.store;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.nio.file.Path;
+
+@Slf4j
+@Configuration
+public class EventStoreConfiguration {
+
+    @Bean
+    @ConditionalOnProperty(prefix = "sse.store", name = "backend", havingValue = "memory", matchIfMissing = true)
+    public SseEventStore inMemorySseEventStore(EventStoreProperties properties, ObjectMapper objectMapper) {
+        log.info("EventStoreConfiguration.inMemorySseEventStore: capacity={} maxSize={} compressionThreshold={}",
+                properties.getCapacity(), properties.getMaxSize(), properties.getCompressionThreshold());
+        return new InMemorySseEventStore(
+                properties.getCapacity(),
+                properties.getMaxSize().toBytes(),
+                (int) properties.getCompressionThreshold().toBytes(),
+                properties.getDeliveryCursorCapacity(),
+                objectMapper);
+    }
+
+    @Bean(destroyMethod = "close")
+    @ConditionalOnProperty(prefix = "sse.store", name = "backend", havingValue = "mmap")
+    public SseEventStore mappedJournalSseEventStore(EventStoreProperties properties, ObjectMapper objectMapper) {
+        return new MappedJournalSseEventStore(
+                Path.of(properties.getJournalDirectory()),
+                (int) properties.getJournalSegmentSize().toBytes(),
+                properties.getJournalSegmentCount(),
+                properties.getDeliveryCursorCapacity(),
+                objectMapper);
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "sse.store", name = "backend", havingValue = "redis")
+    public SseEventStore redisStreamSseEventStore(EventStoreProperties properties,
+                                                  StringRedisTemplate redisTemplate,
+                                                  ObjectMapper objectMapper) {
+        log.info("EventStoreConfiguration.redisStreamSseEventStore: key={} maxLength={}",
+                properties.getRedisKeyPrefix(), properties.getRedisMaxLength());
+        return new RedisStreamSseEventStore(redisTemplate, objectMapper,
+                properties.getRedisKeyPrefix(), properties.getRedisMaxLength());
+    }
+}
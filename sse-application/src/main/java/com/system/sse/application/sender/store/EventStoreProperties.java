@@ -0,0 +1,51 @@
+package com.system.sse.application.sender.store;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+
+@Setter
+@Getter
+@ConfigurationProperties(prefix = "sse.store")
+public class EventStoreProperties {
+
+    /** 이벤트 스토어 backend (memory | mmap | redis) */
+    private Backend backend = Backend.MEMORY;
+
+    /** memory: 보관할 최근 이벤트 수 */
+    private int capacity = 1000;
+
+    /** memory: 보관할 이벤트 payload 최대 크기 (이벤트 수 한도와 함께 적용) */
+    private DataSize maxSize = DataSize.ofMegabytes(64);
+
+    /** memory: 이 크기 이상의 payload 는 압축해 보관 (0이면 압축하지 않음) */
+    private DataSize compressionThreshold = DataSize.ofKilobytes(4);
+
+    /** memory/mmap: 보관할 클라이언트 delivery cursor 수 (오래 갱신되지 않은 것부터 제거) */
+    private int deliveryCursorCapacity = 100_000;
+
+    /** delivery cursor 를 스토어에 일괄 저장하는 주기 */
+    private Duration deliveryCursorFlushInterval = Duration.ofSeconds(1);
+
+    /** mmap: journal 디렉터리 */
+    private String journalDirectory = "./data/sse-journal";
+
+    /** mmap: segment 파일 하나의 크기 */
+    private DataSize journalSegmentSize = DataSize.ofMegabytes(16);
+
+    /** mmap: 순환 사용하는 segment 수 (보존량 = 크기 x 개수) */
+    private int journalSegmentCount = 8;
+
+    /** redis: stream/sequence 키 hash tag */
+    private String redisKeyPrefix = "sse-events";
+
+    /** redis: stream 최대 길이 (MAXLEN ~) */
+    private long redisMaxLength = 100_000;
+
+    public enum Backend {
+        MEMORY, MMAP, REDIS
+    }
+}
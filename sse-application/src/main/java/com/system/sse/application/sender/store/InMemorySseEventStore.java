@@ -0,0 +1,190 @@
+package com.system.sse.application.sender.store;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.system.sse.application.sender.model.SseEmitterData;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalLong;
+
+/**
+ * 메모리 ring 기반 이벤트 스토어 (sse.store.backend=memory, 기본값)
+ * - 단일 노드 환경용, 재시작 시 유실
+ * - 이벤트 ID가 sequence 이므로 ID만으로 ring 위치를 바로 찾는다
+ * - ring 은 sequence 순이자 시간 순이므로 시간 범위의 양 끝도 ring 위에서 바로 이진 탐색한다
+ * - 이벤트는 객체가 아닌 직렬화된 JSON bytes 로 보관하고, 큰 payload 는 압축한다. 해제와 역직렬화는 재전송으로 읽을 때만 한다
+ * - 보존량은 이벤트 수(capacity)와 bytes(maxBytes) 중 먼저 닿는 쪽으로 제한되어 payload 크기와 무관하게 예측 가능하다
+ */
+@Slf4j
+public class InMemorySseEventStore implements SseEventStore {
+
+    // 이벤트 하나의 byte[] 외 대략적인 객체 오버헤드 (entry, 배열 헤더, Instant)
+    private static final int ENTRY_OVERHEAD_BYTES = 64;
+
+    private final int capacity;
+    private final long maxBytes;
+    private final Entry[] ring;
+    private final PayloadCodec codec;
+    private final DeliveryCursorTable cursors;
+    private long lastSequence = 0;    // guarded by this
+    private long firstRetained = 1;   // guarded by this
+    private long retainedBytes = 0;   // guarded by this
+    private Instant lastTimestamp = Instant.EPOCH;  // guarded by this
+
+    /**
+     * @param capacity             보관할 최대 이벤트 수
+     * @param maxBytes             보관할 최대 bytes (가장 최근 이벤트 하나는 항상 보관)
+     * @param compressionThreshold 압축할 최소 JSON 크기 (0 이하이면 압축하지 않음)
+     */
+    public InMemorySseEventStore(int capacity, long maxBytes, int compressionThreshold, int cursorCapacity,
+                                 ObjectMapper objectMapper) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("capacity must be positive: " + capacity);
+        }
+        if (maxBytes <= 0) {
+            throw new IllegalArgumentException("maxBytes must be positive: " + maxBytes);
+        }
+        this.capacity = capacity;
+        this.maxBytes = maxBytes;
+        this.ring = new Entry[capacity];
+        this.codec = new PayloadCodec(objectMapper, compressionThreshold);
+        this.cursors = new DeliveryCursorTable(cursorCapacity);
+    }
+
+    @Override
+    public StoredEvent append(SseEmitterData data) {
+        // 직렬화와 압축은 lock 밖에서
+        byte[] json = codec.serialize(data);
+        PayloadCodec.Encoded payload = codec.encode(json);
+
+        long sequence;
+        Instant timestamp;
+        synchronized (this) {
+            Instant now = Instant.now();
+            // 시계가 뒤로 가도 타임스탬프가 sequence 순서를 따르도록
+            lastTimestamp = now.isAfter(lastTimestamp) ? now : lastTimestamp;
+            sequence = ++lastSequence;
+            timestamp = lastTimestamp;
+
+            int slot = slot(sequence);
+            if (ring[slot] != null) {
+                retainedBytes -= ring[slot].size();
+            }
+            ring[slot] = new Entry(timestamp, payload);
+            retainedBytes += ring[slot].size();
+            firstRetained = Math.max(firstRetained, sequence - capacity + 1);
+            evictOverBudget();
+        }
+        return new StoredEvent(sequence, data, timestamp, PayloadCodec.toJson(json));
+    }
+
+    @Override
+    public synchronized long lastSequence() {
+        return lastSequence;
+    }
+
+    @Override
+    public List<StoredEvent> read(long afterSequence, long upToSequence, int maxEvents) {
+        long from;
+        Entry[] entries;
+        synchronized (this) {
+            from = Math.max(afterSequence + 1, firstRetained);
+            long to = Math.min(upToSequence, lastSequence);
+            if (from > to) {
+                return List.of();
+            }
+            entries = new Entry[(int) Math.min(maxEvents, to - from + 1)];
+            for (int i = 0; i < entries.length; i++) {
+                entries[i] = ring[slot(from + i)];
+            }
+        }
+
+        List<StoredEvent> chunk = new ArrayList<>(entries.length);
+        for (int i = 0; i < entries.length; i++) {
+            long sequence = from + i;
+            try {
+                byte[] json = codec.decode(entries[i].payload());
+                chunk.add(new StoredEvent(sequence, codec.deserialize(json), entries[i].timestamp(),
+                        PayloadCodec.toJson(json)));
+            } catch (IOException e) {
+                log.warn("Skipping unreadable stored event {}: {}", sequence, e.getMessage());
+            }
+        }
+        return chunk;
+    }
+
+    @Override
+    public synchronized long sequenceBefore(Instant time) {
+        // time 이전인 마지막 sequence: [firstRetained - 1, lastSequence] 안에서 탐색
+        long low = firstRetained - 1;
+        long high = lastSequence;
+        while (low < high) {
+            long mid = low + (high - low + 1) / 2;
+            if (ring[slot(mid)].timestamp().isBefore(time)) {
+                low = mid;
+            } else {
+                high = mid - 1;
+            }
+        }
+        return low;
+    }
+
+    @Override
+    public synchronized long sequenceAfter(Instant time) {
+        // time 이후인 첫 sequence: [firstRetained, lastSequence + 1] 안에서 탐색
+        long low = firstRetained;
+        long high = lastSequence + 1;
+        while (low < high) {
+            long mid = low + (high - low) / 2;
+            if (ring[slot(mid)].timestamp().isAfter(time)) {
+                high = mid;
+            } else {
+                low = mid + 1;
+            }
+        }
+        return high;
+    }
+
+    @Override
+    public void saveDeliveryCursors(Map<String, Long> updates) {
+        cursors.putAll(updates);
+    }
+
+    @Override
+    public OptionalLong loadDeliveryCursor(String clientId) {
+        return cursors.get(clientId);
+    }
+
+    /**
+     * 현재 보관 중인 이벤트의 대략적인 bytes
+     */
+    synchronized long retainedBytes() {
+        return retainedBytes;
+    }
+
+    private void evictOverBudget() {
+        while (retainedBytes > maxBytes && firstRetained < lastSequence) {
+            int slot = slot(firstRetained++);
+            retainedBytes -= ring[slot].size();
+            ring[slot] = null;
+        }
+    }
+
+    private int slot(long sequence) {
+        return (int) ((sequence - 1) % capacity);
+    }
+
+    /**
+     * ring 한 칸: 저장 시각과 (압축되었을 수 있는) JSON payload
+     */
+    private record Entry(Instant timestamp, PayloadCodec.Encoded payload) {
+
+        long size() {
+            return payload.bytes().length + ENTRY_OVERHEAD_BYTES;
+        }
+    }
+}
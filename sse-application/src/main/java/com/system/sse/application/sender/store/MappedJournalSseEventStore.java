@@ -0,0 +1,475 @@
+package com.system.sse.application.sender.store;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.system.sse.application.sender.model.SseEmitterData;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalLong;
+
+/**
+ * 로컬 mmap journal 기반 이벤트 스토어 (sse.store.backend=mmap)
+ * - 고정 크기 segment 파일 N개를 순환하며 기록하고, 가장 오래된 segment 를 재사용할 때 그 안의 이벤트가 밀려난다
+ * - record: [length int][sequence long][epochMillis long][JSON payload]. length 를 마지막에 써서 commit 표시로 쓴다
+ * - 기록은 page cache 에 반영되므로 프로세스 재시작 후에도 남고, 시작 시 segment 를 스캔해 sequence 와 offset 색인을 복구한다
+ * - OS 장애까지 보장하지는 않는다 (매 기록마다 force 하지 않음)
+ * - segment 마다 TIME_STRIDE 개 record 당 하나씩 타임스탬프를 heap 에 두는 희소 시간 색인을 유지한다.
+ *   시간 범위 조회는 segment 의 시간 구간 → 희소 색인 이진 탐색 → stride 하나 안의 header 만 읽어 양 끝 sequence 를 찾는다
+ * - 조회는 lock 안에서 record bytes 만 복사하고, JSON 역직렬화는 lock 밖에서 한다
+ * - delivery cursor 는 저장할 때마다 변경분만 log 파일에 덧붙이고, log 가 표 크기보다 커지면
+ *   snapshot 파일을 통째로 다시 써서(임시 파일 작성 후 atomic move) log 를 비운다. 시작 시 snapshot → log 순으로 복구한다
+ */
+@Slf4j
+public class MappedJournalSseEventStore implements SseEventStore, AutoCloseable {
+
+    private static final int HEADER_BYTES = Integer.BYTES + Long.BYTES + Long.BYTES;
+    private static final String CURSOR_FILE = "delivery-cursors";
+    private static final String CURSOR_LOG_FILE = "delivery-cursors.log";
+    private static final int CURSOR_COMPACT_MIN_ENTRIES = 1024;
+    private static final int TIME_STRIDE = 64;
+
+    private final ObjectMapper objectMapper;
+    private final int segmentBytes;
+    private final Segment[] segments;
+    private final DeliveryCursorTable cursors;
+    private final Path cursorFile;
+    private final Path cursorLogFile;
+    private FileChannel cursorLog;    // guarded by cursorFile
+    private long cursorLogEntries;    // guarded by cursorFile
+    private int current;              // guarded by this
+    private long lastSequence;        // guarded by this
+
+    public MappedJournalSseEventStore(Path directory, int segmentBytes, int segmentCount, int cursorCapacity,
+                                      ObjectMapper objectMapper) {
+        if (segmentCount < 2) {
+            throw new IllegalArgumentException("segmentCount must be at least 2: " + segmentCount);
+        }
+        if (segmentBytes <= HEADER_BYTES + Integer.BYTES) {
+            throw new IllegalArgumentException("segmentBytes too small: " + segmentBytes);
+        }
+        this.objectMapper = objectMapper;
+        this.segmentBytes = segmentBytes;
+        this.segments = new Segment[segmentCount];
+        this.cursors = new DeliveryCursorTable(cursorCapacity);
+        this.cursorFile = directory.resolve(CURSOR_FILE);
+        this.cursorLogFile = directory.resolve(CURSOR_LOG_FILE);
+        try {
+            Files.createDirectories(directory);
+            for (int i = 0; i < segmentCount; i++) {
+                segments[i] = Segment.open(directory.resolve("segment-" + i + ".journal"), segmentBytes);
+                if (segments[i].lastSequence() > lastSequence) {
+                    lastSequence = segments[i].lastSequence();
+                    current = i;
+                }
+            }
+            loadCursors();
+        } catch (IOException e) {
+            close();
+            throw new UncheckedIOException("Failed to open event journal at " + directory, e);
+        }
+        log.info("Opened event journal {} ({} segments x {} bytes), last sequence {}",
+                directory, segmentCount, segmentBytes, lastSequence);
+    }
+
+    @Override
+    public synchronized StoredEvent append(SseEmitterData data) {
+        byte[] payload;
+        try {
+            payload = objectMapper.writeValueAsBytes(data);
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Cannot serialize event: " + e.getMessage(), e);
+        }
+        int recordBytes = HEADER_BYTES + payload.length;
+        if (recordBytes + Integer.BYTES > segmentBytes) {
+            throw new IllegalArgumentException("Event of " + payload.length + " bytes exceeds journal segment size");
+        }
+
+        // 시계가 뒤로 가도 타임스탬프가 sequence 순서를 따르도록
+        long epochMillis = Math.max(System.currentTimeMillis(), segments[current].lastMillis);
+        Segment segment = segments[current];
+        if (!segment.fits(recordBytes)) {
+            current = (current + 1) % segments.length;
+            segment = segments[current];
+            segment.reset();
+        }
+
+        StoredEvent stored = new StoredEvent(lastSequence + 1, data, Instant.ofEpochMilli(epochMillis),
+                PayloadCodec.toJson(payload));
+        segment.write(stored.sequence(), stored.timestamp().toEpochMilli(), payload);
+        lastSequence = stored.sequence();
+        return stored;
+    }
+
+    @Override
+    public synchronized long lastSequence() {
+        return lastSequence;
+    }
+
+    @Override
+    public List<StoredEvent> read(long afterSequence, long upToSequence, int maxEvents) {
+        List<RawRecord> records = copyRecords(afterSequence, upToSequence, maxEvents);
+        List<StoredEvent> chunk = new ArrayList<>(records.size());
+        for (RawRecord record : records) {
+            StoredEvent event = decode(record);
+            if (event != null) {
+                chunk.add(event);
+            }
+        }
+        return chunk;
+    }
+
+    /**
+     * segment 가 재사용되기 전에 lock 안에서 record bytes 만 복사
+     */
+    private synchronized List<RawRecord> copyRecords(long afterSequence, long upToSequence, int maxEvents) {
+        long to = Math.min(upToSequence, lastSequence);
+        List<RawRecord> chunk = new ArrayList<>();
+        long next = afterSequence + 1;
+
+        // 가장 오래된 segment 부터 순서대로
+        for (int i = 1; i <= segments.length && chunk.size() < maxEvents && next <= to; i++) {
+            Segment segment = segments[(current + i) % segments.length];
+            if (segment.isEmpty() || segment.lastSequence() < next) {
+                continue;
+            }
+            long start = Math.max(next, segment.firstSequence);
+            for (long seq = start; seq <= Math.min(to, segment.lastSequence()) && chunk.size() < maxEvents; seq++) {
+                chunk.add(copy(segment, seq));
+                next = seq + 1;
+            }
+        }
+        return chunk;
+    }
+
+    /**
+     * 색인에 저장된 타임스탬프는 millisecond 단위이므로 time 을 내림한 값과 비교한다 (경계는 커서가 다시 거른다)
+     */
+    @Override
+    public synchronized long sequenceBefore(Instant time) {
+        long millis = time.toEpochMilli();
+        // time 이전에 시작한 가장 최근 segment
+        Segment found = null;
+        for (int i = 1; i <= segments.length; i++) {
+            Segment segment = segments[(current + i) % segments.length];
+            if (!segment.isEmpty() && segment.strideMillis[0] < millis) {
+                found = segment;
+            }
+        }
+        if (found == null) {
+            return 0;
+        }
+        int stride = found.lastStrideBefore(millis);
+        long sequence = found.firstSequence + (long) stride * TIME_STRIDE;
+        while (sequence < found.lastSequence() && found.millisAt(sequence + 1) < millis) {
+            sequence++;
+        }
+        return sequence;
+    }
+
+    @Override
+    public synchronized long sequenceAfter(Instant time) {
+        long millis = time.toEpochMilli();
+        // time 이후 기록이 처음 나타나는 가장 오래된 segment
+        for (int i = 1; i <= segments.length; i++) {
+            Segment segment = segments[(current + i) % segments.length];
+            if (segment.isEmpty() || segment.lastMillis <= millis) {
+                continue;
+            }
+            int stride = segment.lastStrideBefore(millis + 1);
+            if (stride < 0) {
+                return segment.firstSequence;
+            }
+            long sequence = segment.firstSequence + (long) stride * TIME_STRIDE;
+            while (segment.millisAt(sequence) <= millis) {
+                sequence++;
+            }
+            return sequence;
+        }
+        return lastSequence + 1;
+    }
+
+    @Override
+    public void saveDeliveryCursors(Map<String, Long> updates) {
+        if (updates.isEmpty()) {
+            return;
+        }
+        synchronized (cursorFile) {
+            // 표와 log 의 갱신 순서가 같도록 같은 lock 안에서
+            cursors.putAll(updates);
+            try {
+                appendCursorLog(updates);
+                cursorLogEntries += updates.size();
+                if (cursorLogEntries > Math.max(CURSOR_COMPACT_MIN_ENTRIES, cursors.size())) {
+                    compactCursors();
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException("Failed to write delivery cursors", e);
+            }
+        }
+    }
+
+    @Override
+    public OptionalLong loadDeliveryCursor(String clientId) {
+        return cursors.get(clientId);
+    }
+
+    @Override
+    public synchronized void close() {
+        for (Segment segment : segments) {
+            if (segment != null) {
+                segment.close();
+            }
+        }
+        synchronized (cursorFile) {
+            if (cursorLog != null) {
+                try {
+                    cursorLog.close();
+                } catch (IOException ignore) {
+                    // ignore
+                }
+            }
+        }
+    }
+
+    /**
+     * snapshot 을 읽고 log 의 변경분을 순서대로 덮어쓴 뒤, 바로 compact 해 잘린 마지막 record 도 정리한다
+     */
+    private void loadCursors() throws IOException {
+        if (Files.exists(cursorFile)) {
+            try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(cursorFile)))) {
+                int count = in.readInt();
+                Map<String, Long> loaded = new LinkedHashMap<>(count);
+                for (int i = 0; i < count; i++) {
+                    loaded.put(in.readUTF(), in.readLong());
+                }
+                cursors.putAll(loaded);
+            }
+        }
+        if (Files.exists(cursorLogFile)) {
+            try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(cursorLogFile)))) {
+                Map<String, Long> replayed = new LinkedHashMap<>();
+                try {
+                    while (true) {
+                        String clientId = in.readUTF();
+                        replayed.put(clientId, in.readLong());
+                    }
+                } catch (EOFException end) {
+                    // 마지막 record 가 기록 도중 끊겼으면 그 앞까지만 반영
+                }
+                cursors.putAll(replayed);
+            }
+        }
+        synchronized (cursorFile) {
+            cursorLog = FileChannel.open(cursorLogFile,
+                    StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+            compactCursors();
+        }
+    }
+
+    private void appendCursorLog(Map<String, Long> updates) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(updates.size() * 48);
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            for (Map.Entry<String, Long> entry : updates.entrySet()) {
+                out.writeUTF(entry.getKey());
+                out.writeLong(entry.getValue());
+            }
+        }
+        ByteBuffer buffer = ByteBuffer.wrap(bytes.toByteArray());
+        while (buffer.hasRemaining()) {
+            cursorLog.write(buffer);
+        }
+    }
+
+    /**
+     * 현재 표 전체를 snapshot 으로 교체하고 log 를 비운다 (snapshot 교체 후 log 를 비우기 전에 멈춰도
+     * 다시 읽을 때 log 의 마지막 값이 snapshot 의 값과 같아 결과가 달라지지 않는다)
+     */
+    private void compactCursors() throws IOException {
+        Map<String, Long> snapshot = cursors.snapshot();
+        Path temp = cursorFile.resolveSibling(CURSOR_FILE + ".tmp");
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temp)))) {
+            out.writeInt(snapshot.size());
+            for (Map.Entry<String, Long> entry : snapshot.entrySet()) {
+                out.writeUTF(entry.getKey());
+                out.writeLong(entry.getValue());
+            }
+        }
+        Files.move(temp, cursorFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        cursorLog.truncate(0);
+        cursorLogEntries = 0;
+    }
+
+    private RawRecord copy(Segment segment, long sequence) {
+        int offset = segment.offsetOf(sequence);
+        int length = segment.buffer.getInt(offset);
+        long epochMillis = segment.buffer.getLong(offset + Integer.BYTES + Long.BYTES);
+        byte[] payload = new byte[length];
+        segment.buffer.get(offset + HEADER_BYTES, payload);
+        return new RawRecord(sequence, epochMillis, payload);
+    }
+
+    private StoredEvent decode(RawRecord record) {
+        try {
+            return new StoredEvent(record.sequence(), objectMapper.readValue(record.payload(), SseEmitterData.class),
+                    Instant.ofEpochMilli(record.epochMillis()), PayloadCodec.toJson(record.payload()));
+        } catch (IOException e) {
+            log.warn("Skipping unreadable journal record {}: {}", record.sequence(), e.getMessage());
+            return null;
+        }
+    }
+
+    private record RawRecord(long sequence, long epochMillis, byte[] payload) {
+    }
+
+    /**
+     * 하나의 mmap segment 파일과 sequence → offset 색인, 희소 시간 색인
+     */
+    private static final class Segment {
+        private final FileChannel channel;
+        private final MappedByteBuffer buffer;
+        private long firstSequence;
+        private int[] offsets = new int[256];
+        private long[] strideMillis = new long[16];
+        private long lastMillis;
+        private int count;
+        private int writePosition;
+
+        private Segment(FileChannel channel, MappedByteBuffer buffer) {
+            this.channel = channel;
+            this.buffer = buffer;
+        }
+
+        static Segment open(Path file, int size) throws IOException {
+            FileChannel channel = FileChannel.open(file,
+                    StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+            Segment segment = new Segment(channel, channel.map(FileChannel.MapMode.READ_WRITE, 0, size));
+            segment.recover();
+            return segment;
+        }
+
+        /**
+         * commit 된 record 만 색인에 올린다. sequence 가 끊기면 그 지점에서 멈춘다
+         */
+        private void recover() {
+            int position = 0;
+            while (position + HEADER_BYTES <= buffer.capacity()) {
+                int length = buffer.getInt(position);
+                if (length <= 0 || position + HEADER_BYTES + length > buffer.capacity()) {
+                    break;
+                }
+                long sequence = buffer.getLong(position + Integer.BYTES);
+                if (count > 0 && sequence != lastSequence() + 1) {
+                    break;
+                }
+                index(sequence, position, buffer.getLong(position + Integer.BYTES + Long.BYTES));
+                position += HEADER_BYTES + length;
+            }
+            writePosition = position;
+        }
+
+        boolean fits(int recordBytes) {
+            // 다음 record 자리의 length(0) 표시까지 들어가야 한다
+            return writePosition + recordBytes + Integer.BYTES <= buffer.capacity();
+        }
+
+        void write(long sequence, long epochMillis, byte[] payload) {
+            int position = writePosition;
+            buffer.putLong(position + Integer.BYTES, sequence);
+            buffer.putLong(position + Integer.BYTES + Long.BYTES, epochMillis);
+            buffer.put(position + HEADER_BYTES, payload);
+            int end = position + HEADER_BYTES + payload.length;
+            buffer.putInt(end, 0);
+            buffer.putInt(position, payload.length);
+
+            index(sequence, position, epochMillis);
+            writePosition = end;
+        }
+
+        void reset() {
+            buffer.putInt(0, 0);
+            firstSequence = 0;
+            lastMillis = 0;
+            count = 0;
+            writePosition = 0;
+        }
+
+        boolean isEmpty() {
+            return count == 0;
+        }
+
+        long lastSequence() {
+            return count == 0 ? 0 : firstSequence + count - 1;
+        }
+
+        int offsetOf(long sequence) {
+            return offsets[(int) (sequence - firstSequence)];
+        }
+
+        long millisAt(long sequence) {
+            return buffer.getLong(offsetOf(sequence) + Integer.BYTES + Long.BYTES);
+        }
+
+        /**
+         * 시작 타임스탬프가 millis 보다 작은 마지막 stride (없으면 -1)
+         */
+        int lastStrideBefore(long millis) {
+            int low = -1;
+            int high = (count - 1) / TIME_STRIDE;
+            while (low < high) {
+                int mid = (low + high + 1) >>> 1;
+                if (strideMillis[mid] < millis) {
+                    low = mid;
+                } else {
+                    high = mid - 1;
+                }
+            }
+            return low;
+        }
+
+        void close() {
+            try {
+                channel.close();
+            } catch (IOException ignore) {
+                // ignore
+            }
+        }
+
+        private void index(long sequence, int position, long epochMillis) {
+            if (count == 0) {
+                firstSequence = sequence;
+            }
+            if (count == offsets.length) {
+                offsets = Arrays.copyOf(offsets, count * 2);
+            }
+            if (count % TIME_STRIDE == 0) {
+                int stride = count / TIME_STRIDE;
+                if (stride == strideMillis.length) {
+                    strideMillis = Arrays.copyOf(strideMillis, stride * 2);
+                }
+                strideMillis[stride] = epochMillis;
+            }
+            offsets[count++] = position;
+            lastMillis = epochMillis;
+        }
+    }
+}
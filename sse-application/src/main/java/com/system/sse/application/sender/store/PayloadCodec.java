@@ -0,0 +1,105 @@
+package com.system.sse.application.sender.store;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.system.sse.application.sender.model.SseEmitterData;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * 이벤트 payload 를 JSON bytes 로 직렬화하고, threshold 이상이면 deflate(BEST_SPEED)로 압축한다.
+ * 압축은 저장 시 한 번, 해제는 재전송으로 읽을 때만 일어난다.
+ */
+final class PayloadCodec {
+
+    private final ObjectMapper objectMapper;
+    private final int compressionThreshold;
+
+    /**
+     * @param compressionThreshold 압축을 시도할 최소 JSON 크기 (0 이하이면 압축하지 않음)
+     */
+    PayloadCodec(ObjectMapper objectMapper, int compressionThreshold) {
+        this.objectMapper = objectMapper;
+        this.compressionThreshold = compressionThreshold;
+    }
+
+    /**
+     * 직렬화된 payload. 압축했으면 rawLength 는 해제 후 크기, 아니면 -1
+     */
+    record Encoded(byte[] bytes, int rawLength) {
+
+        boolean compressed() {
+            return rawLength >= 0;
+        }
+    }
+
+    byte[] serialize(SseEmitterData data) {
+        try {
+            return objectMapper.writeValueAsBytes(data);
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Cannot serialize event: " + e.getMessage(), e);
+        }
+    }
+
+    Encoded encode(byte[] json) {
+        if (compressionThreshold <= 0 || json.length < compressionThreshold) {
+            return new Encoded(json, -1);
+        }
+        Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+        try {
+            deflater.setInput(json);
+            deflater.finish();
+            byte[] buffer = new byte[json.length];
+            int length = 0;
+            while (!deflater.finished() && length < buffer.length) {
+                length += deflater.deflate(buffer, length, buffer.length - length);
+            }
+            // 줄어들지 않으면 원본 그대로
+            if (!deflater.finished()) {
+                return new Encoded(json, -1);
+            }
+            return new Encoded(Arrays.copyOf(buffer, length), json.length);
+        } finally {
+            deflater.end();
+        }
+    }
+
+    byte[] decode(Encoded encoded) throws IOException {
+        if (!encoded.compressed()) {
+            return encoded.bytes();
+        }
+        Inflater inflater = new Inflater();
+        try {
+            inflater.setInput(encoded.bytes());
+            byte[] json = new byte[encoded.rawLength()];
+            int length = 0;
+            while (length < json.length && !inflater.finished()) {
+                int read = inflater.inflate(json, length, json.length - length);
+                if (read == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                    break;
+                }
+                length += read;
+            }
+            if (length != json.length) {
+                throw new IOException("Truncated compressed payload: " + length + " of " + json.length + " bytes");
+            }
+            return json;
+        } catch (DataFormatException e) {
+            throw new IOException("Corrupt compressed payload", e);
+        } finally {
+            inflater.end();
+        }
+    }
+
+    SseEmitterData deserialize(byte[] json) throws IOException {
+        return objectMapper.readValue(json, SseEmitterData.class);
+    }
+
+    static String toJson(byte[] json) {
+        return new String(json, StandardCharsets.UTF_8);
+    }
+}
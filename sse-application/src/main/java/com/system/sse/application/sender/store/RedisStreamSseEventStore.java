@@ -0,0 +1,136 @@
+package com.system.sse.application.sender.store;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.system.sse.application.sender.model.SseEmitterData;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.connection.Limit;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalLong;
+
+/**
+ * Redis Streams 기반 이벤트 스토어 (sse.store.backend=redis)
+ * - 여러 노드가 하나의 stream 을 공유하므로 어느 노드로 재연결해도 Last-Event-ID 재전송 가능
+ * - sequence 는 INCR 로 발급하고 stream entry ID 를 "{sequence}-0" 으로 지정해, ID 범위 조회(XRANGE)로 바로 읽는다
+ * - INCR 와 XADD 는 Lua 스크립트 하나로 실행해 노드 간 발급 순서와 stream 순서가 어긋나지 않게 한다
+ * - 타임스탬프도 노드 시계 대신 스크립트 안에서 Redis TIME 으로 찍고 직전 값 아래로 내려가지 않게 해, sequence 순서와 시간 순서가 같다.
+ *   시간 범위의 양 끝은 기본 구현대로 XRANGE 단건 조회를 이진 탐색해 찾는다
+ * - 보존 한도는 XADD MAXLEN ~ (근사 trim)
+ * - delivery cursor 는 같은 hash tag 의 hash 에 clientId → sequence 로 저장 (일괄 HSET)
+ * - 키들은 같은 hash tag 를 사용해 cluster 에서도 같은 slot 에 놓인다
+ */
+@Slf4j
+public class RedisStreamSseEventStore implements SseEventStore {
+
+    private static final String DATA_FIELD = "d";
+    private static final String TIME_FIELD = "t";
+
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> APPEND_SCRIPT = new DefaultRedisScript<>("""
+            local seq = redis.call('INCR', KEYS[2])
+            local time = redis.call('TIME')
+            local now = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000)
+            local last = tonumber(redis.call('GET', KEYS[3]) or '0')
+            if now < last then now = last end
+            redis.call('SET', KEYS[3], now)
+            redis.call('XADD', KEYS[1], 'MAXLEN', '~', ARGV[1], seq .. '-0', 'd', ARGV[2], 't', tostring(now))
+            return {seq, now}
+            """, List.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final String streamKey;
+    private final String sequenceKey;
+    private final String cursorKey;
+    private final String clockKey;
+    private final String maxLength;
+
+    public RedisStreamSseEventStore(StringRedisTemplate redisTemplate, ObjectMapper objectMapper,
+                                    String keyPrefix, long maxLength) {
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.streamKey = "{" + keyPrefix + "}:stream";
+        this.sequenceKey = "{" + keyPrefix + "}:seq";
+        this.cursorKey = "{" + keyPrefix + "}:cursors";
+        this.clockKey = "{" + keyPrefix + "}:clock";
+        this.maxLength = Long.toString(maxLength);
+    }
+
+    @Override
+    public StoredEvent append(SseEmitterData data) {
+        String payload;
+        try {
+            payload = objectMapper.writeValueAsString(data);
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Cannot serialize event: " + e.getMessage(), e);
+        }
+        List<?> result = redisTemplate.execute(APPEND_SCRIPT, List.of(streamKey, sequenceKey, clockKey),
+                maxLength, payload);
+        if (result == null || result.size() != 2) {
+            throw new IllegalStateException("Redis returned no sequence for appended event");
+        }
+        long sequence = ((Number) result.get(0)).longValue();
+        Instant timestamp = Instant.ofEpochMilli(((Number) result.get(1)).longValue());
+        return new StoredEvent(sequence, data, timestamp, payload);
+    }
+
+    @Override
+    public long lastSequence() {
+        String value = redisTemplate.opsForValue().get(sequenceKey);
+        return value == null ? 0 : Long.parseLong(value);
+    }
+
+    @Override
+    public List<StoredEvent> read(long afterSequence, long upToSequence, int maxEvents) {
+        if (afterSequence >= upToSequence) {
+            return List.of();
+        }
+        List<MapRecord<String, Object, Object>> records = redisTemplate.opsForStream().range(
+                streamKey,
+                Range.closed((afterSequence + 1) + "-0", upToSequence + "-0"),
+                Limit.limit().count(maxEvents));
+        if (records == null || records.isEmpty()) {
+            return List.of();
+        }
+
+        List<StoredEvent> chunk = new ArrayList<>(records.size());
+        for (MapRecord<String, Object, Object> record : records) {
+            long sequence = record.getId().getTimestamp();
+            try {
+                String payload = (String) record.getValue().get(DATA_FIELD);
+                SseEmitterData data = objectMapper.readValue(payload, SseEmitterData.class);
+                Instant timestamp = Instant.ofEpochMilli(Long.parseLong((String) record.getValue().get(TIME_FIELD)));
+                chunk.add(new StoredEvent(sequence, data, timestamp, payload));
+            } catch (IOException | RuntimeException e) {
+                log.warn("Skipping unreadable stream entry {}: {}", record.getId(), e.getMessage());
+            }
+        }
+        return chunk;
+    }
+
+    @Override
+    public void saveDeliveryCursors(Map<String, Long> cursors) {
+        if (cursors.isEmpty()) {
+            return;
+        }
+        Map<String, String> values = new HashMap<>(cursors.size());
+        cursors.forEach((clientId, sequence) -> values.put(clientId, Long.toString(sequence)));
+        redisTemplate.opsForHash().putAll(cursorKey, values);
+    }
+
+    @Override
+    public OptionalLong loadDeliveryCursor(String clientId) {
+        Object value = redisTemplate.opsForHash().get(cursorKey, clientId);
+        return value == null ? OptionalLong.empty() : OptionalLong.of(Long.parseLong((String) value));
+    }
+}
@@ -0,0 +1,68 @@
+package com.system.sse.application.sender.store;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 스토어를 chunk 단위로 읽는 재전송 커서.
+ * 전체 backlog 를 목록으로 만들지 않고, 호출할 때마다 최대 maxEvents 개만 가져온다.
+ * 커서를 연 시점의 마지막 sequence 까지만 읽고, 그 이후 이벤트는 실시간 전송 경로가 담당한다.
+ * 시간 범위가 있으면 구간 경계의 범위 밖 이벤트를 걸러내고, 범위를 지난 이벤트를 만나면 끝낸다.
+ */
+public final class ReplayCursor {
+
+    private final SseEventStore store;
+    private final long upperBound;
+    private final Instant from;
+    private final Instant to;
+    private long position;
+
+    ReplayCursor(SseEventStore store, long afterSequence, long upperBound, Instant from, Instant to) {
+        this.store = store;
+        this.position = afterSequence;
+        this.upperBound = upperBound;
+        this.from = from;
+        this.to = to;
+    }
+
+    /**
+     * 다음 chunk. 더 읽을 이벤트가 없으면 빈 목록
+     */
+    public List<StoredEvent> next(int maxEvents) {
+        while (position < upperBound) {
+            List<StoredEvent> chunk = store.read(position, upperBound, maxEvents);
+            if (chunk.isEmpty()) {
+                position = upperBound;
+                break;
+            }
+            position = chunk.getLast().sequence();
+
+            if (from == null) {
+                return chunk;
+            }
+            List<StoredEvent> matched = new ArrayList<>(chunk.size());
+            for (StoredEvent event : chunk) {
+                if (event.timestamp().isAfter(to)) {
+                    // 타임스탬프는 sequence 순이므로 이후 이벤트도 모두 범위 밖
+                    position = upperBound;
+                    break;
+                }
+                if (!event.timestamp().isBefore(from)) {
+                    matched.add(event);
+                }
+            }
+            if (!matched.isEmpty()) {
+                return matched;
+            }
+        }
+        return List.of();
+    }
+
+    /**
+     * 마지막으로 읽은 sequence
+     */
+    public long position() {
+        return position;
+    }
+}
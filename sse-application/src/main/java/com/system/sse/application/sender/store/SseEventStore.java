@@ -0,0 +1,145 @@
+package com.system.sse.application.sender.store;
+
+import com.system.sse.application.sender.model.SseEmitterData;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalLong;
+
+/**
+ * Last-Event-ID 재전송을 위한 이벤트 스토어 SPI.
+ * - 이벤트 ID는 스토어가 발급하는 단조 증가 sequence 이며, 문자열로는 10진수 표기
+ * - 오래된 이벤트는 backend 별 보존 한도에 따라 밀려나며, 읽기는 남아있는 구간만 반환한다
+ * - 타임스탬프는 sequence 순으로 감소하지 않으므로, 시간 범위는 sequence 범위로 바꿔 읽는다
+ * - 클라이언트별 마지막 전달 sequence(delivery cursor)도 함께 보관해, Last-Event-ID 없이 재연결해도 이어서 재전송한다
+ * - backend 는 sse.store.backend 로 선택 (memory | mmap | redis)
+ */
+public interface SseEventStore {
+
+    /**
+     * 이벤트를 저장하고 발급된 ID(sequence)와 함께 반환
+     */
+    StoredEvent append(SseEmitterData data);
+
+    /**
+     * 가장 최근에 발급된 sequence (없으면 0)
+     */
+    long lastSequence();
+
+    /**
+     * afterSequence 다음부터 upToSequence 까지 최대 maxEvents 개를 sequence 순으로 읽는다.
+     * 이미 밀려난 구간은 건너뛰고 남아있는 가장 오래된 이벤트부터 읽는다.
+     */
+    List<StoredEvent> read(long afterSequence, long upToSequence, int maxEvents);
+
+    /**
+     * time 보다 먼저 저장된 마지막 sequence (없으면 남아있는 가장 오래된 sequence 이전 값).
+     * backend 가 정확히 모르면 더 작은 값을 돌려줘도 된다. 기본 구현은 read 로 짚어가며 이진 탐색한다.
+     */
+    default long sequenceBefore(Instant time) {
+        long low = 0;
+        long high = lastSequence();
+        while (low < high) {
+            long mid = low + (high - low + 1) / 2;
+            List<StoredEvent> probe = read(mid - 1, high, 1);
+            if (!probe.isEmpty() && probe.getFirst().timestamp().isBefore(time)) {
+                low = probe.getFirst().sequence();
+            } else {
+                high = mid - 1;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * time 보다 나중에 저장된 첫 sequence (없으면 lastSequence() + 1).
+     * backend 가 정확히 모르면 더 큰 값을 돌려줘도 된다. 기본 구현은 read 로 짚어가며 이진 탐색한다.
+     */
+    default long sequenceAfter(Instant time) {
+        long low = 1;
+        long high = lastSequence() + 1;
+        while (low < high) {
+            long mid = low + (high - low) / 2;
+            List<StoredEvent> probe = read(mid - 1, high - 1, 1);
+            if (probe.isEmpty()) {
+                low = high;
+            } else if (probe.getFirst().timestamp().isAfter(time)) {
+                high = probe.getFirst().sequence();
+            } else {
+                low = probe.getFirst().sequence() + 1;
+            }
+        }
+        return high;
+    }
+
+    /**
+     * 클라이언트별 마지막 전달 sequence 를 일괄 저장 (기존 값보다 작아도 덮어쓴다)
+     */
+    void saveDeliveryCursors(Map<String, Long> cursors);
+
+    /**
+     * 저장된 클라이언트의 마지막 전달 sequence
+     *
+     * @return 기록이 없으면 empty (0 은 "빈 스토어에서 연결해 아직 받은 이벤트 없음" 이라는 유효한 기록)
+     */
+    OptionalLong loadDeliveryCursor(String clientId);
+
+    /**
+     * 가장 최근에 저장된 이벤트 ID (없으면 null)
+     */
+    default String lastEventId() {
+        long last = lastSequence();
+        return last == 0 ? null : Long.toString(last);
+    }
+
+    /**
+     * lastEventId 이후 이벤트를 읽는 커서. 현재 시점까지 저장된 이벤트만 대상으로 한다.
+     *
+     * @return 스토어가 발급한 ID가 아니면 null
+     */
+    default ReplayCursor cursorAfter(String lastEventId) {
+        long after = parseSequence(lastEventId);
+        if (after < 0) {
+            return null;
+        }
+        return cursorAfter(after);
+    }
+
+    /**
+     * afterSequence 이후 이벤트를 읽는 커서
+     */
+    default ReplayCursor cursorAfter(long afterSequence) {
+        return new ReplayCursor(this, afterSequence, lastSequence(), null, null);
+    }
+
+    /**
+     * from ~ to 타임스탬프 범위의 이벤트를 읽는 커서.
+     * 양 끝을 sequence 로 찾아 그 사이 구간만 읽는다.
+     *
+     * @return 범위가 잘못되었으면 null
+     */
+    default ReplayCursor cursorBetween(Instant from, Instant to) {
+        if (from == null || to == null || from.isAfter(to)) {
+            return null;
+        }
+        long after = sequenceBefore(from);
+        long upTo = Math.min(sequenceAfter(to) - 1, lastSequence());
+        return new ReplayCursor(this, after, upTo, from, to);
+    }
+
+    /**
+     * 스토어가 발급한 이벤트 ID의 sequence (발급한 ID 형식이 아니면 -1)
+     */
+    static long parseSequence(String eventId) {
+        if (eventId == null || eventId.isBlank()) {
+            return -1;
+        }
+        try {
+            long sequence = Long.parseLong(eventId.trim());
+            return sequence >= 0 ? sequence : -1;
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package com.system.sse.application.sender.store;
+
+import com.system.sse.application.sender.model.SseEmitterData;
+
+import java.time.Instant;
+
+/**
+ * 스토어에 저장된 이벤트
+ *
+ * @param sequence  스토어가 발급한 단조 증가 sequence (이벤트 ID)
+ * @param data      이벤트 payload
+ * @param timestamp 저장 시각
+ * @param json      스토어가 저장한 payload JSON (없으면 null). frame 을 만들 때 다시 직렬화하지 않고 그대로 쓴다
+ */
+public record StoredEvent(long sequence, SseEmitterData data, Instant timestamp, String json) {
+
+    public StoredEvent(long sequence, SseEmitterData data, Instant timestamp) {
+        this(sequence, data, timestamp, null);
+    }
+
+    public String id() {
+        return Long.toString(sequence);
+    }
+}
@@ -0,0 +1,40 @@
+package com.system.sse.application.sender.topic;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.system.sse.application.sender.model.SseEmitterData;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * topic 브로드캐스트를 모든 노드에 전달하기 위한 Kafka 퍼블리셔.
+ * record key 는 SSE topic 이름이므로, 수신 노드는 payload 를 역직렬화하기 전에 로컬 구독 여부를 판단할 수 있다.
+ */
+@Slf4j
+@Profile("kafka")
+@Component
+@RequiredArgsConstructor
+public class KafkaTopicBroadcastPublisher {
+    public static final String BROADCAST_TOPIC = "sse-topic-broadcast";
+
+    private final KafkaTemplate<String, String> kafkaTemplate;
+    private final ObjectMapper objectMapper;
+
+    public void publish(String topic, SseEmitterData data) {
+        String payload;
+        try {
+            payload = objectMapper.writeValueAsString(data);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Cannot serialize topic event: " + e.getMessage(), e);
+        }
+
+        kafkaTemplate.send(BROADCAST_TOPIC, topic, payload).whenComplete((result, ex) -> {
+            if (ex != null) {
+                log.error("Failed to publish broadcast for topic {}: {}", topic, ex.getMessage());
+            }
+        });
+    }
+}
@@ -0,0 +1,149 @@
+package com.system.sse.application.sender.topic;
+
+import com.system.sse.application.global.InvalidTopicException;
+import com.system.sse.application.sender.model.SseEmitterData;
+
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * 구독 시점에 한 번 컴파일되는 이벤트 필터.
+ * - 형식: {@code type=order&priority=high&data.region=kr} (모든 조건 AND, 값은 정확히 일치)
+ * - 대상 필드: type, subType, resourceId, priority, data.&lt;key&gt;
+ * - 가장 선택도가 높은 조건 하나를 index 조건으로 골라, 브로드캐스트 시 해당 값의 구독자만 평가한다
+ */
+public final class SubscriberFilter {
+
+    private static final String DATA_PREFIX = "data.";
+
+    // index 조건 우선순위 (앞쪽일수록 값의 종류가 많아 후보가 적다)
+    private static final List<String> INDEX_PRIORITY = List.of("resourceId", "subType", "type", "priority");
+
+    private final List<Clause> clauses;
+    private final String expression;
+
+    private SubscriberFilter(List<Clause> clauses) {
+        this.clauses = clauses;
+        this.expression = String.join("&", clauses.stream().map(c -> c.field() + "=" + c.value()).toList());
+    }
+
+    /**
+     * 필터 식 컴파일
+     *
+     * @return 빈 식이면 null (모든 이벤트 수신)
+     * @throws InvalidTopicException 형식 오류, 지원하지 않는 필드, 중복 필드
+     */
+    public static SubscriberFilter compile(String expression) {
+        if (expression == null || expression.isBlank()) {
+            return null;
+        }
+
+        Map<String, Clause> clauses = new LinkedHashMap<>();
+        for (String part : expression.split("&")) {
+            int eq = part.indexOf('=');
+            if (eq <= 0 || eq == part.length() - 1) {
+                throw new InvalidTopicException("Filter clause must be field=value: " + part);
+            }
+            String field = part.substring(0, eq).trim();
+            String value = part.substring(eq + 1).trim();
+            Clause clause = new Clause(field, value, extractor(field));
+            if (clauses.putIfAbsent(field, clause) != null) {
+                throw new InvalidTopicException("Duplicate filter field: " + field);
+            }
+        }
+
+        List<Clause> ordered = clauses.values().stream()
+                .sorted(Comparator.comparingInt(SubscriberFilter::rank).thenComparing(Clause::field))
+                .toList();
+        return new SubscriberFilter(ordered);
+    }
+
+    /**
+     * 모든 조건을 만족하는지
+     */
+    public boolean test(SseEmitterData data) {
+        for (Clause clause : clauses) {
+            if (!clause.matches(data)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 인덱싱에 사용할 필드
+     */
+    public String indexField() {
+        return clauses.getFirst().field();
+    }
+
+    /**
+     * 인덱싱에 사용할 값
+     */
+    public String indexValue() {
+        return clauses.getFirst().value();
+    }
+
+    /**
+     * 이벤트에서 index 필드 값을 꺼내는 함수 (값이 없으면 null 반환)
+     */
+    public Function<SseEmitterData, String> indexExtractor() {
+        return clauses.getFirst().extractor();
+    }
+
+    /**
+     * 정규화된 필터 식 (조건 순서 무관하게 같은 필터는 같은 식)
+     */
+    public String expression() {
+        return expression;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return o instanceof SubscriberFilter other && expression.equals(other.expression);
+    }
+
+    @Override
+    public int hashCode() {
+        return expression.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return expression;
+    }
+
+    private static int rank(Clause clause) {
+        int rank = INDEX_PRIORITY.indexOf(clause.field());
+        return rank >= 0 ? rank : INDEX_PRIORITY.size();
+    }
+
+    private static Function<SseEmitterData, String> extractor(String field) {
+        return switch (field) {
+            case "type" -> SseEmitterData::getType;
+            case "subType" -> SseEmitterData::getSubType;
+            case "resourceId" -> SseEmitterData::getResourceId;
+            case "priority" -> SseEmitterData::getPriority;
+            default -> {
+                if (!field.startsWith(DATA_PREFIX) || field.length() == DATA_PREFIX.length()) {
+                    throw new InvalidTopicException("Unsupported filter field: " + field);
+                }
+                String key = field.substring(DATA_PREFIX.length());
+                yield data -> {
+                    Object value = data.getData() != null ? data.getData().get(key) : null;
+                    return value != null ? value.toString() : null;
+                };
+            }
+        };
+    }
+
+    private record Clause(String field, String value, Function<SseEmitterData, String> extractor) {
+        boolean matches(SseEmitterData data) {
+            return Objects.equals(value, extractor.apply(data));
+        }
+    }
+}
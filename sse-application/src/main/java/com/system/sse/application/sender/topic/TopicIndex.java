@@ -0,0 +1,261 @@
+package com.system.sse.application.sender.topic;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.system.sse.application.sender.model.SseEmitterData;
+import com.system.sse.application.sender.registry.ClientHandle;
+import com.system.sse.application.sender.registry.ClientRemovalListener;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * topic ↔ client 양방향 구독 인덱스 (스레드 안전)
+ * - topic→clients 는 브로드캐스트 대상 조회용, client→topics 는 연결 종료 시 정리용
+ * - 두 맵의 갱신은 항상 client 엔트리 → topic 엔트리 순서로 compute 안에서 수행되어 서로 어긋나지 않는다
+ * - 구독자가 없어진 topic 엔트리는 즉시 제거한다
+ * - 구독 topic 은 wildcard 패턴일 수 있으며({@link TopicTrie}), 발행 topic → 일치 패턴 목록은 캐시하고
+ *   패턴이 추가/삭제될 때 영향받는 캐시 엔트리만 무효화한다
+ * - 구독마다 선택적으로 {@link SubscriberFilter} 를 가질 수 있으며, 필터는 topic 별로 필드 값 기준 색인된다
+ * - 구독 엔트리는 연결 핸들을 함께 보관해, 발행 시 구독자의 emitter 를 레지스트리 조회 없이 얻는다
+ */
+@Slf4j
+@Component
+public class TopicIndex implements ClientRemovalListener {
+
+    // 엔트리 하나당 대략적인 heap 사용량 (CHM Node + key set 엔트리, 문자열 자체는 제외)
+    private static final long MAP_ENTRY_BYTES = 64;
+    private static final long SET_ENTRY_BYTES = 48;
+    private static final int MATCH_CACHE_SIZE = 10_000;
+
+    private final Map<String, TopicSubscribers> topicToClients = new ConcurrentHashMap<>();
+    private final Map<String, Set<String>> clientToTopics = new ConcurrentHashMap<>();
+    private final AtomicLong subscriptions = new AtomicLong();
+
+    private final TopicTrie patterns = new TopicTrie();
+    private final Cache<String, List<String>> matchCache = Caffeine.newBuilder()
+            .maximumSize(MATCH_CACHE_SIZE)
+            .recordStats()
+            .build();
+    // 패턴 변경 세대. 캐시 적재 중 패턴이 바뀌면 적재한 결과를 버린다
+    private final AtomicLong patternGeneration = new AtomicLong();
+
+    public TopicIndex(MeterRegistry meterRegistry) {
+        CaffeineCacheMetrics.monitor(meterRegistry, matchCache, "sse.topic.match");
+        Gauge.builder("sse.topic.count", topicToClients, Map::size)
+                .description("구독자가 있는 topic 수")
+                .register(meterRegistry);
+        Gauge.builder("sse.topic.clients", clientToTopics, Map::size)
+                .description("하나 이상의 topic 을 구독 중인 클라이언트 수")
+                .register(meterRegistry);
+        Gauge.builder("sse.topic.subscriptions", subscriptions, AtomicLong::get)
+                .description("전체 (client, topic) 구독 수")
+                .register(meterRegistry);
+        Gauge.builder("sse.topic.index.estimated-bytes", this, TopicIndex::estimatedBytes)
+                .description("구독 인덱스의 대략적인 heap 사용량")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 필터 없는 구독 등록
+     *
+     * @return 새로 추가된 구독이면 true
+     */
+    public boolean subscribe(ClientHandle client, String topic) {
+        return subscribe(client, topic, null);
+    }
+
+    /**
+     * 구독 등록. 이미 구독 중이면 필터만 교체
+     * - 이미 제거된 연결의 핸들이면 거부한다. 검사와 등록이 client 엔트리 compute 안에서 이뤄지므로,
+     *   연결 제거 후 호출되는 {@link #removeClient} 와 어긋나 구독이 남는 일이 없다
+     *
+     * @param filter 서버 측 이벤트 필터 (null 이면 모든 이벤트 수신)
+     * @return 새로 추가된 구독이면 true
+     * @throws IllegalArgumentException 연결이 이미 제거된 경우
+     */
+    public boolean subscribe(ClientHandle client, String topic, SubscriberFilter filter) {
+        TopicTrie.validatePattern(topic);
+        String clientId = client.clientId();
+        boolean[] added = {false};
+        clientToTopics.compute(clientId, (c, topics) -> {
+            if (client.emitter() == null) {
+                throw new IllegalArgumentException("No active connection for client: " + clientId);
+            }
+            Set<String> current = topics != null ? topics : ConcurrentHashMap.newKeySet();
+            topicToClients.compute(topic, (t, clients) -> {
+                if (clients == null) {
+                    onPatternChanged(t, () -> patterns.add(t));
+                }
+                TopicSubscribers subscribers = clients != null ? clients : new TopicSubscribers();
+                added[0] = subscribers.put(client, filter);
+                return subscribers;
+            });
+            current.add(topic);
+            return current;
+        });
+        if (added[0]) {
+            subscriptions.incrementAndGet();
+        }
+        return added[0];
+    }
+
+    /**
+     * 구독 해제
+     *
+     * @return 구독 중이었으면 true
+     */
+    public boolean unsubscribe(String clientId, String topic) {
+        boolean[] removed = {false};
+        clientToTopics.computeIfPresent(clientId, (c, topics) -> {
+            if (topics.remove(topic)) {
+                removed[0] = detach(clientId, topic);
+            }
+            return topics.isEmpty() ? null : topics;
+        });
+        if (removed[0]) {
+            subscriptions.decrementAndGet();
+        }
+        return removed[0];
+    }
+
+    /**
+     * 클라이언트의 모든 구독 해제
+     *
+     * @return 해제된 구독 수
+     */
+    public int removeClient(String clientId) {
+        int[] removed = {0};
+        clientToTopics.computeIfPresent(clientId, (c, topics) -> {
+            for (String topic : topics) {
+                if (detach(clientId, topic)) {
+                    removed[0]++;
+                }
+            }
+            return null;
+        });
+        if (removed[0] > 0) {
+            subscriptions.addAndGet(-removed[0]);
+            log.debug("Removed {} topic subscriptions of client {}", removed[0], clientId);
+        }
+        return removed[0];
+    }
+
+    @Override
+    public void onClientRemoved(String clientId) {
+        removeClient(clientId);
+    }
+
+    /**
+     * topic(패턴) 의 구독자 스냅샷 (필터 여부 무관, 없으면 빈 집합)
+     */
+    public Set<String> subscribers(String topic) {
+        TopicSubscribers clients = topicToClients.get(topic);
+        return clients != null ? clients.clientIds() : Collections.emptySet();
+    }
+
+    /**
+     * 발행 topic 에 일치하는 구독 패턴이 하나라도 있는지 (캐시된 패턴 목록만 확인)
+     */
+    public boolean hasSubscribers(String topic) {
+        return !matchingPatterns(topic).isEmpty();
+    }
+
+    /**
+     * 발행 topic 의 이벤트를 받아야 하는 구독자의 연결 핸들 (읽기 전용, 구독자당 하나)
+     * - 일치하는 모든 패턴의 구독자 합집합이며, 필터 구독자는 이벤트 필드 값이 같은 후보만 평가한다
+     */
+    public Collection<ClientHandle> resolve(String topic, SseEmitterData data) {
+        List<String> matched = matchingPatterns(topic);
+        if (matched.isEmpty()) {
+            return Collections.emptyList();
+        }
+        if (matched.size() == 1) {
+            TopicSubscribers only = topicToClients.get(matched.getFirst());
+            if (only == null) {
+                return Collections.emptyList();
+            }
+            if (!only.hasFilters()) {
+                return only.unfiltered();
+            }
+        }
+        Map<String, ClientHandle> clients = new HashMap<>();
+        for (String pattern : matched) {
+            TopicSubscribers subscribers = topicToClients.get(pattern);
+            if (subscribers != null) {
+                subscribers.collect(data, clients);
+            }
+        }
+        return Collections.unmodifiableCollection(clients.values());
+    }
+
+    /**
+     * 클라이언트가 구독 중인 topic (읽기 전용, 없으면 빈 집합)
+     */
+    public Set<String> topicsOf(String clientId) {
+        Set<String> topics = clientToTopics.get(clientId);
+        return topics != null ? Collections.unmodifiableSet(topics) : Collections.emptySet();
+    }
+
+    /**
+     * 대략적인 heap 사용량 (양쪽 맵 엔트리 + 양쪽 집합 엔트리)
+     */
+    public long estimatedBytes() {
+        return (topicToClients.size() + clientToTopics.size()) * MAP_ENTRY_BYTES
+                + subscriptions.get() * 2 * SET_ENTRY_BYTES;
+    }
+
+    private boolean detach(String clientId, String topic) {
+        boolean[] removed = {false};
+        topicToClients.computeIfPresent(topic, (t, clients) -> {
+            removed[0] = clients.remove(clientId);
+            if (!clients.isEmpty()) {
+                return clients;
+            }
+            onPatternChanged(t, () -> patterns.remove(t));
+            return null;
+        });
+        return removed[0];
+    }
+
+    /**
+     * 캐시 조회. 적재 결과를 넣은 뒤 세대를 다시 확인해, 적재 도중 패턴이 바뀌었으면 직접 무효화한다.
+     * (trie 변경 → 세대 증가 → 캐시 무효화 순서와 맞물려, 변경 전 trie 로 만든 결과는
+     *  재확인에서 걸러지거나 이후의 무효화에 지워진다)
+     */
+    private List<String> matchingPatterns(String topic) {
+        List<String> cached = matchCache.getIfPresent(topic);
+        if (cached != null) {
+            return cached;
+        }
+        long generation = patternGeneration.get();
+        List<String> matched = List.copyOf(patterns.match(topic));
+        matchCache.put(topic, matched);
+        if (patternGeneration.get() != generation) {
+            matchCache.invalidate(topic);
+        }
+        return matched;
+    }
+
+    private void onPatternChanged(String pattern, Runnable change) {
+        change.run();
+        patternGeneration.incrementAndGet();
+        if (TopicTrie.isWildcard(pattern)) {
+            matchCache.asMap().keySet().removeIf(topic -> TopicTrie.matches(pattern, topic));
+        } else {
+            matchCache.invalidate(pattern);
+        }
+    }
+}
@@ -0,0 +1,150 @@
+package com.system.sse.application.sender.topic;
+
+import com.system.sse.application.sender.model.SseEmitterData;
+import com.system.sse.application.sender.registry.ClientHandle;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * 하나의 topic 패턴에 대한 구독자 집합.
+ * - 구독자마다 연결 핸들({@link ClientHandle})을 함께 보관해, fan-out 이 레지스트리를 조회하지 않는다
+ * - 필터 없는 구독자는 별도 집합으로 두어 항상 대상에 포함
+ * - 필터 구독자는 index 필드 → 값 → clientId 로 색인해, 이벤트의 해당 필드 값과 같은 구독자만 평가
+ * - 변경은 {@link TopicIndex} 의 topic 엔트리 compute 안에서만 일어나고, 조회는 lock 없이 수행된다
+ */
+final class TopicSubscribers {
+
+    private final Map<String, ClientHandle> unfiltered = new ConcurrentHashMap<>();
+    private final Map<String, Filtered> filters = new ConcurrentHashMap<>();
+    private final Map<String, FieldIndex> byField = new ConcurrentHashMap<>();
+
+    /**
+     * 구독 추가 또는 필터 교체
+     *
+     * @return 새로운 구독자면 true
+     */
+    boolean put(ClientHandle client, SubscriberFilter filter) {
+        String clientId = client.clientId();
+        boolean existed = detach(clientId);
+        if (filter == null) {
+            unfiltered.put(clientId, client);
+        } else {
+            filters.put(clientId, new Filtered(filter, client));
+            byField.computeIfAbsent(filter.indexField(), f -> new FieldIndex(filter.indexExtractor()))
+                    .add(filter.indexValue(), clientId);
+        }
+        return !existed;
+    }
+
+    /**
+     * 구독 제거
+     *
+     * @return 구독 중이었으면 true
+     */
+    boolean remove(String clientId) {
+        return detach(clientId);
+    }
+
+    boolean isEmpty() {
+        return unfiltered.isEmpty() && filters.isEmpty();
+    }
+
+    int size() {
+        return unfiltered.size() + filters.size();
+    }
+
+    boolean hasFilters() {
+        return !filters.isEmpty();
+    }
+
+    /**
+     * 필터 없는 구독자의 연결 핸들 (읽기 전용 live view)
+     */
+    Collection<ClientHandle> unfiltered() {
+        return Collections.unmodifiableCollection(unfiltered.values());
+    }
+
+    /**
+     * 전체 구독자 ID (스냅샷)
+     */
+    Set<String> clientIds() {
+        Set<String> all = new HashSet<>(unfiltered.keySet());
+        all.addAll(filters.keySet());
+        return all;
+    }
+
+    /**
+     * 이벤트를 받아야 하는 구독자를 clientId → 핸들로 out 에 추가
+     */
+    void collect(SseEmitterData data, Map<String, ClientHandle> out) {
+        out.putAll(unfiltered);
+        if (filters.isEmpty()) {
+            return;
+        }
+        for (FieldIndex index : byField.values()) {
+            String value = index.extractor.apply(data);
+            if (value == null) {
+                continue;
+            }
+            Set<String> candidates = index.clients.get(value);
+            if (candidates == null) {
+                continue;
+            }
+            for (String clientId : candidates) {
+                Filtered filtered = filters.get(clientId);
+                if (filtered != null && filtered.filter().test(data)) {
+                    out.put(clientId, filtered.client());
+                }
+            }
+        }
+    }
+
+    private boolean detach(String clientId) {
+        if (unfiltered.remove(clientId) != null) {
+            return true;
+        }
+        Filtered removed = filters.remove(clientId);
+        if (removed == null) {
+            return false;
+        }
+        SubscriberFilter previous = removed.filter();
+        FieldIndex index = byField.get(previous.indexField());
+        if (index != null && index.remove(previous.indexValue(), clientId)) {
+            byField.remove(previous.indexField());
+        }
+        return true;
+    }
+
+    private record Filtered(SubscriberFilter filter, ClientHandle client) {
+    }
+
+    private static final class FieldIndex {
+        private final Function<SseEmitterData, String> extractor;
+        private final Map<String, Set<String>> clients = new ConcurrentHashMap<>();
+
+        private FieldIndex(Function<SseEmitterData, String> extractor) {
+            this.extractor = extractor;
+        }
+
+        private void add(String value, String clientId) {
+            clients.computeIfAbsent(value, v -> ConcurrentHashMap.newKeySet()).add(clientId);
+        }
+
+        /**
+         * @return 색인이 비었으면 true
+         */
+        private boolean remove(String value, String clientId) {
+            clients.computeIfPresent(value, (v, ids) -> {
+                ids.remove(clientId);
+                return ids.isEmpty() ? null : ids;
+            });
+            return clients.isEmpty();
+        }
+    }
+}
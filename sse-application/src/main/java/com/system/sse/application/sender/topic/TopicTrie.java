@@ -0,0 +1,187 @@
+package com.system.sse.application.sender.topic;
+
+import com.system.sse.application.global.InvalidTopicException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * '.' 로 구분된 계층형 topic 패턴 trie.
+ * - '*' : 정확히 한 단계와 일치 (orders.*.store42)
+ * - '#' : 0개 이상의 나머지 단계와 일치, 마지막 단계에만 허용 (orders.#)
+ * - 발행 topic 에 일치하는 패턴 조회는 등록된 패턴 수가 아니라 topic 깊이에 비례한다
+ * - 조회는 lock 없이 수행되고, 패턴 추가/삭제만 직렬화된다
+ */
+public final class TopicTrie {
+
+    static final String SEPARATOR = ".";
+    static final String SINGLE_LEVEL = "*";
+    static final String MULTI_LEVEL = "#";
+
+    private final Node root = new Node();
+
+    /**
+     * 패턴 추가
+     *
+     * @return 새로 추가되었으면 true
+     */
+    public synchronized boolean add(String pattern) {
+        Node node = root;
+        for (String level : levels(pattern)) {
+            node = node.children.computeIfAbsent(level, l -> new Node());
+        }
+        if (node.pattern != null) {
+            return false;
+        }
+        node.pattern = pattern;
+        return true;
+    }
+
+    /**
+     * 패턴 삭제 (비게 된 중간 노드도 정리)
+     *
+     * @return 등록되어 있었으면 true
+     */
+    public synchronized boolean remove(String pattern) {
+        String[] levels = levels(pattern);
+        Node[] path = new Node[levels.length + 1];
+        path[0] = root;
+        for (int i = 0; i < levels.length; i++) {
+            path[i + 1] = path[i].children.get(levels[i]);
+            if (path[i + 1] == null) {
+                return false;
+            }
+        }
+        Node last = path[levels.length];
+        if (last.pattern == null) {
+            return false;
+        }
+        last.pattern = null;
+
+        for (int i = levels.length; i > 0 && path[i].isEmpty(); i--) {
+            path[i - 1].children.remove(levels[i - 1]);
+        }
+        return true;
+    }
+
+    /**
+     * 발행 topic 에 일치하는 모든 패턴 (정확히 같은 topic 포함)
+     */
+    public List<String> match(String topic) {
+        String[] levels = levels(topic);
+        List<String> matched = new ArrayList<>(2);
+        collect(root, levels, 0, matched);
+        return matched;
+    }
+
+    private static void collect(Node node, String[] levels, int depth, List<String> matched) {
+        Node multi = node.children.get(MULTI_LEVEL);
+        if (multi != null && multi.pattern != null) {
+            matched.add(multi.pattern);
+        }
+        if (depth == levels.length) {
+            if (node.pattern != null) {
+                matched.add(node.pattern);
+            }
+            return;
+        }
+
+        Node exact = node.children.get(levels[depth]);
+        if (exact != null) {
+            collect(exact, levels, depth + 1, matched);
+        }
+        Node single = node.children.get(SINGLE_LEVEL);
+        if (single != null) {
+            collect(single, levels, depth + 1, matched);
+        }
+    }
+
+    /**
+     * 구독 패턴 형식 검사
+     *
+     * @throws InvalidTopicException 빈 단계, 단계 일부에 섞인 wildcard, 마지막이 아닌 '#'
+     */
+    public static void validatePattern(String pattern) {
+        String[] levels = levels(pattern);
+        for (int i = 0; i < levels.length; i++) {
+            String level = levels[i];
+            if (level.isEmpty()) {
+                throw new InvalidTopicException("Topic pattern has an empty level: " + pattern);
+            }
+            if (MULTI_LEVEL.equals(level) && i != levels.length - 1) {
+                throw new InvalidTopicException("'#' is only allowed as the last level: " + pattern);
+            }
+            if (level.length() > 1 && (level.contains(SINGLE_LEVEL) || level.contains(MULTI_LEVEL))) {
+                throw new InvalidTopicException("Wildcards must occupy a whole level: " + pattern);
+            }
+        }
+    }
+
+    /**
+     * 발행 topic 형식 검사
+     *
+     * @throws InvalidTopicException 빈 단계 또는 wildcard 포함
+     */
+    public static void validateTopic(String topic) {
+        if (!isValidTopic(topic)) {
+            throw new InvalidTopicException("Invalid topic to publish: " + topic);
+        }
+    }
+
+    /**
+     * 발행 topic 형식 검사 (예외/할당 없음, 외부 입력 필터링용)
+     */
+    public static boolean isValidTopic(String topic) {
+        if (topic == null || topic.isEmpty()) {
+            return false;
+        }
+        char previous = '.';
+        for (int i = 0; i < topic.length(); i++) {
+            char c = topic.charAt(i);
+            if (c == '*' || c == '#' || (c == '.' && previous == '.')) {
+                return false;
+            }
+            previous = c;
+        }
+        return previous != '.';
+    }
+
+    /**
+     * 패턴이 topic 과 일치하는지 (trie 없이 단건 비교)
+     */
+    public static boolean matches(String pattern, String topic) {
+        String[] p = levels(pattern);
+        String[] t = levels(topic);
+        for (int i = 0; i < p.length; i++) {
+            if (MULTI_LEVEL.equals(p[i])) {
+                return true;
+            }
+            if (i >= t.length || !(SINGLE_LEVEL.equals(p[i]) || p[i].equals(t[i]))) {
+                return false;
+            }
+        }
+        return p.length == t.length;
+    }
+
+    static boolean isWildcard(String pattern) {
+        return pattern.contains(SINGLE_LEVEL) || pattern.contains(MULTI_LEVEL);
+    }
+
+    private static String[] levels(String topic) {
+        if (topic == null || topic.isEmpty()) {
+            throw new InvalidTopicException("Topic must not be empty");
+        }
+        return topic.split("\\.", -1);
+    }
+
+    private static final class Node {
+        private final Map<String, Node> children = new ConcurrentHashMap<>();
+        private volatile String pattern;
+
+        private boolean isEmpty() {
+            return pattern == null && children.isEmpty();
+        }
+    }
+}
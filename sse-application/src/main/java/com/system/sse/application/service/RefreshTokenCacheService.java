@@ -1,35 +0,0 @@
-package com.system.sse.application.service;
-
-import org.springframework.cache.annotation.CacheEvict;
-import org.springframework.cache.annotation.CachePut;
-import org.springframework.cache.annotation.Cacheable;
-import org.springframework.stereotype.Service;
-
-@Service
-public class RefreshTokenCacheService {
-
-    /**
-     * 캐시에 리프레시 토큰 저장.
-     * 기존 토큰이 있으면 덮어쓴다.
-     */
-    @CachePut(key = "#username", value = "refreshTokens")
-    public String store(String username, String refreshToken) {
-        return refreshToken;
-    }
-
-    /**
-     * 캐시에서 리프레시 토큰 조회.
-     * 없으면 null 반환.
-     */
-    @Cacheable(key = "#username", value = "refreshTokens")
-    public String get(String username) {
-        return null;  // 실제 로직는 프레임워크가 캐시에서 가져옴
-    }
-
-    /**
-     * 캐시에서 리프레시 토큰 삭제.
-     */
-    @CacheEvict(key = "#username", value = "refreshTokens")
-    public void delete(String username) {
-    }
-}
\ No newline at end of file
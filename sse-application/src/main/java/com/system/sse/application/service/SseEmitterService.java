@@ -1,6 +1,9 @@
 package com.system.sse.application.service;
 
-import com.system.sse.application.auth.provider.JwtTokenParser;
+import com.system.sse.application.drain.DrainProperties;
+import com.system.sse.application.drain.SseDrainable;
+import com.system.sse.application.global.ConnectionRejectedException;
+import com.system.sse.application.limit.ReconnectPolicy;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.kafka.clients.consumer.Consumer;
@@ -14,7 +17,9 @@ import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 import java.io.IOException;
 import java.time.Instant;
 import java.time.Duration;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicLong;
@@ -22,7 +27,7 @@ import java.util.concurrent.atomic.AtomicLong;
 @Slf4j
 @Service
 @RequiredArgsConstructor
-public class SseEmitterService {
+public class SseEmitterService implements SseDrainable {
 
     // 구독자와 만료 시각을 함께 저장하는 내부 클래스
     private static class Subscription {
@@ -32,42 +37,53 @@ public class SseEmitterService {
             this.emitter = emitter;
             this.expiry = expiry;
         }
+
+        // 만료 시각이 없는 토큰은 만료로 끊지 않는다
+        boolean isExpired(Instant now) {
+            return expiry != null && now.isAfter(expiry);
+        }
     }
 
     private final Map<String, Subscription> subscriptions = new ConcurrentHashMap<>();
     private final KafkaTemplate<String, String> kafkaTemplate;
     private final ConsumerFactory<String, String> consumerFactory;
     private final AtomicLong eventIdGenerator = new AtomicLong();
-    private final JwtTokenParser jwtTokenParser; // 토큰 만료 파싱용
+    private final DrainProperties drainProperties;
+    private final ReconnectPolicy reconnectPolicy;
+
+    private volatile boolean accepting = true;
 
     /**
      * 새로운 SseEmitter를 등록하고 JWT 만료 시각과 함께 저장합니다.
+     * 만료 시각은 인증 필터가 검증한 클레임에서 받아 토큰을 다시 파싱하지 않습니다.
      */
-    public SseEmitter addEmitter(String userId, SseEmitter emitter, String token, Long lastEventOffset) {
+    public SseEmitter addEmitter(String userId, SseEmitter emitter, Instant expiry, Long lastEventOffset) {
+        if (!accepting) {
+            throw new ConnectionRejectedException("Node is draining", drainProperties.nextRetryMillis());
+        }
+
         // 1) 기존 구독 제거
         Subscription oldSub = subscriptions.remove(userId);
         if (oldSub != null) {
             oldSub.emitter.complete();
         }
 
-        // 2) 토큰에서 만료 시각(exp) 파싱
-        Instant expiry = jwtTokenParser.getExpiration(token);
-
-        // 3) 구독 등록
+        // 2) 구독 등록
         emitter.onCompletion(() -> removeEmitter(userId));
         emitter.onTimeout(()    -> removeEmitter(userId));
         subscriptions.put(userId, new Subscription(emitter, expiry));
         log.info("SSE 연결 등록: user={} exp={}", userId, expiry);
 
-        // 4) 재전송용 Kafka Consumer
+        // 3) 재전송용 Kafka Consumer
         if (lastEventOffset != null) {
             sendMissedFromKafka(emitter, lastEventOffset);
         }
 
-        // 5) connect 이벤트
+        // 4) connect 이벤트
         try {
             emitter.send(SseEmitter.event()
                     .name("connect")
+                    .reconnectTime(reconnectPolicy.retryMillis())
                     .data("Connection established."));
         } catch (IOException e) {
             log.error("초기 connect 이벤트 전송 실패", e);
@@ -84,7 +100,7 @@ public class SseEmitterService {
     public void expireSubscriptions() {
         Instant now = Instant.now();
         subscriptions.forEach((userId, sub) -> {
-            if (now.isAfter(sub.expiry)) {
+            if (sub.isExpired(now)) {
                 log.info("만료된 SSE 연결 종료: user={}", userId);
                 sub.emitter.complete();
                 subscriptions.remove(userId);
@@ -101,7 +117,7 @@ public class SseEmitterService {
 
         subscriptions.forEach((userId, sub) -> {
             // 전송 전 만료 재확인
-            if (Instant.now().isAfter(sub.expiry)) {
+            if (sub.isExpired(Instant.now())) {
                 log.info("만료된 연결 제거 중: user={}", userId);
                 removeEmitter(userId);
                 return;
@@ -152,6 +168,36 @@ public class SseEmitterService {
         }
     }
 
+    @Override
+    public void stopAccepting() {
+        accepting = false;
+    }
+
+    @Override
+    public Collection<String> drainTargets() {
+        return List.copyOf(subscriptions.keySet());
+    }
+
+    /**
+     * 재연결 간격(retry)을 알린 뒤 구독 종료
+     */
+    @Override
+    public void closeWithHint(String userId, long retryMillis) {
+        Subscription sub = subscriptions.remove(userId);
+        if (sub == null) {
+            return;
+        }
+        try {
+            sub.emitter.send(SseEmitter.event()
+                    .name("drain")
+                    .reconnectTime(retryMillis)
+                    .data("Server is shutting down."));
+        } catch (IOException e) {
+            log.debug("드레인 힌트 전송 실패: user={}", userId, e);
+        }
+        sub.emitter.complete();
+    }
+
     /**
      * 하트비트 전송 (필요 시 사용)
      */
@@ -213,7 +259,7 @@ public class SseEmitterService {
      * 실제 구독자에게 메시지 전송
      */
     private void sendToSubscription(String userId, Subscription sub, String eventName, Object data, long eventId) {
-        if (Instant.now().isAfter(sub.expiry)) {
+        if (sub.isExpired(Instant.now())) {
             log.info("만료된 연결 제거 중: user={}", userId);
             removeEmitter(userId);
             return;
@@ -1,25 +1,45 @@
 package com.system.sse.application.service;
 
+import com.system.sse.application.config.BoundedFanOutExecutor;
+import com.system.sse.application.config.FanOutResult;
+import com.system.sse.application.drain.DrainProperties;
+import com.system.sse.application.drain.SseDrainable;
+import com.system.sse.application.global.ConnectionRejectedException;
+import com.system.sse.application.limit.ReconnectPolicy;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.io.IOException;
+import java.util.Collection;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.*;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
-public class SseVirtualThreadService {
+public class SseVirtualThreadService implements SseDrainable {
     // userId별 SseEmitter 관리
     private final Map<String, SseEmitter> emitterMap = new ConcurrentHashMap<>();
-    // 가상 스레드 실행자
-    private final Executor exec;
+    // in-flight 상한이 걸린 가상 스레드 실행자
+    private final BoundedFanOutExecutor fanOutExecutor;
+    private final DrainProperties drainProperties;
+    private final ReconnectPolicy reconnectPolicy;
+
+    private volatile boolean accepting = true;
 
     // SSE 커넥션 등록 및 관리
     public SseEmitter createEmitter(String userId) {
+        if (!accepting) {
+            throw new ConnectionRejectedException("Node is draining", drainProperties.nextRetryMillis());
+        }
+        // 연결 폭주 시 emitter 할당 전에 거절
+        reconnectPolicy.admit();
+
         SseEmitter emitter = new SseEmitter(Long.MAX_VALUE);
 
         emitterMap.put(userId, emitter);
@@ -27,25 +47,65 @@ public class SseVirtualThreadService {
         emitter.onCompletion(() -> emitterMap.remove(userId));
         emitter.onTimeout(() -> emitterMap.remove(userId));
 
+        // 현재 부하에 맞춘 재연결 간격 안내
+        try {
+            emitter.send(SseEmitter.event().reconnectTime(reconnectPolicy.retryMillis()).comment("connected"));
+        } catch (IOException e) {
+            emitterMap.remove(userId);
+            emitter.completeWithError(e);
+            log.warn("Failed to send retry hint [virtual] to {}: {}", userId, e.getMessage());
+        }
+
         log.info("Registered SSE virtual emitter for user: {}", userId);
         return emitter;
     }
 
     // 가상스레드로 각 클라이언트에 메시지 송신
-    public void send(String data) {
-        for (Map.Entry<String, SseEmitter> entry : emitterMap.entrySet()) {
+    public FanOutResult send(String data) {
+        // 이벤트 프레임은 한 번만 만들고 모든 전송 작업이 공유
+        Set<ResponseBodyEmitter.DataWithMediaType> frame = SseEmitter.event().data(data).build();
+
+        // 가상스레드 활용: blocking send임에도 수천~만 커넥션에도 오버헤드 적음
+        FanOutResult result = fanOutExecutor.fanOut(emitterMap.entrySet(), entry -> {
             String userId = entry.getKey();
             SseEmitter emitter = entry.getValue();
-            // 가상스레드 활용: blocking send임에도 수천~만 커넥션에도 오버헤드 적음
-            exec.execute(() -> {
-                try {
-                    emitter.send(SseEmitter.event().data(data));
-                } catch (IOException e) {
-                    emitter.completeWithError(e);
-                    emitterMap.remove(userId);
-                    log.warn("Failed to send SSE [virtual] to {}: {}", userId, e.getMessage());
-                }
-            });
+            try {
+                emitter.send(frame);
+            } catch (IOException e) {
+                emitter.completeWithError(e);
+                emitterMap.remove(userId);
+                log.warn("Failed to send SSE [virtual] to {}: {}", userId, e.getMessage());
+            }
+        });
+
+        if (!result.isFullyAccepted()) {
+            log.warn("SSE [virtual] fan-out throttled: submitted={} rejected={}", result.submitted(), result.rejected());
+        }
+        return result;
+    }
+
+    @Override
+    public void stopAccepting() {
+        accepting = false;
+    }
+
+    @Override
+    public Collection<String> drainTargets() {
+        return List.copyOf(emitterMap.keySet());
+    }
+
+    // 재연결 간격(retry)을 알린 뒤 연결 종료
+    @Override
+    public void closeWithHint(String userId, long retryMillis) {
+        SseEmitter emitter = emitterMap.remove(userId);
+        if (emitter == null) {
+            return;
+        }
+        try {
+            emitter.send(SseEmitter.event().reconnectTime(retryMillis).comment("draining"));
+        } catch (IOException e) {
+            log.debug("Failed to send drain hint [virtual] to {}: {}", userId, e.getMessage());
         }
+        emitter.complete();
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,86 @@
+package com.system.sse.application.auth.provider;
+
+import com.system.sse.application.auth.config.JwtProperties;
+import io.jsonwebtoken.Jwts;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import java.util.Date;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 발급 처리량 측정은 -Dsse.auth.benchmark=true 일 때만 실행된다.
+ */
+class CompactJwsSignerTest {
+
+    private static final JwtProperties PROPERTIES = JwtTestFixtures.properties();
+
+    private final JwtKeyRing keyRing = new JwtKeyRing(PROPERTIES);
+    private final CompactJwsSigner signer = new CompactJwsSigner(keyRing);
+    private final JwtTokenParser parser = new JwtTokenParser(keyRing);
+
+    @Test
+    void signedTokensAreReadableByParser() {
+        IssuedToken issued = signer.sign("al\"ice\\", "session\n1", "access", "ROLE_USER,ROLE_ADMIN", 60_000);
+
+        JwtClaims claims = parser.verify(issued.token());
+
+        assertNotNull(claims);
+        assertEquals("al\"ice\\", claims.subject());
+        assertEquals("session\n1", claims.sessionId());
+        assertEquals("ROLE_USER,ROLE_ADMIN", claims.roles());
+        assertTrue(claims.isAccessToken());
+        assertEquals(issued.tokenId(), claims.tokenId());
+        assertEquals(issued.expiration(), claims.expiration());
+    }
+
+    @Test
+    void tokenIdsAreUniqueUuids() {
+        Set<String> ids = new HashSet<>();
+        for (int i = 0; i < 10_000; i++) {
+            String id = signer.sign("alice", "s", "refresh", null, 60_000).tokenId();
+            assertEquals(4, UUID.fromString(id).version());
+            assertTrue(ids.add(id));
+        }
+    }
+
+    @Test
+    @EnabledIfSystemProperty(named = "sse.auth.benchmark", matches = "true")
+    void benchmarkIssuanceThroughput() {
+        int iterations = 200_000;
+        JwtKeyRing.KeyEntry key = keyRing.signingKey();
+
+        // 이전 방식: 토큰마다 JwtBuilder + UUID.randomUUID()
+        double legacy = tokensPerSecond(iterations, () -> Jwts.builder()
+                .header().keyId(key.kid()).and()
+                .id(UUID.randomUUID().toString())
+                .subject("alice")
+                .claim("sessionId", "session-1")
+                .claim("type", "access")
+                .claim("roles", "ROLE_USER")
+                .issuedAt(new Date())
+                .expiration(new Date(System.currentTimeMillis() + 60_000))
+                .signWith(key.signingKey())
+                .compact());
+        double current = tokensPerSecond(iterations,
+                () -> signer.sign("alice", "session-1", "access", "ROLE_USER", 60_000));
+
+        System.out.printf("tokens/sec per core: builder %,.0f, compact signer %,.0f%n", legacy, current);
+    }
+
+    private static double tokensPerSecond(int iterations, Runnable action) {
+        // warm-up
+        for (int i = 0; i < iterations / 10; i++) {
+            action.run();
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            action.run();
+        }
+        return iterations * 1e9 / (System.nanoTime() - start);
+    }
+}
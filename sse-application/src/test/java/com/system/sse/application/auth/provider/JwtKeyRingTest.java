@@ -0,0 +1,89 @@
+package com.system.sse.application.auth.provider;
+
+import com.system.sse.application.auth.config.JwtProperties;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.util.Base64;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JwtKeyRingTest {
+
+    @Test
+    void rotationKeepsOldTokensValidUntilRetired() {
+        JwtProperties properties = JwtTestFixtures.properties();
+        JwtKeyRing keyRing = new JwtKeyRing(properties);
+        JwtTokenParser parser = new JwtTokenParser(keyRing);
+        AccessTokenProvider provider = new AccessTokenProvider(properties, new CompactJwsSigner(keyRing));
+
+        String oldToken = accessToken(provider);
+
+        JwtProperties.KeyProperties next = new JwtProperties.KeyProperties();
+        next.setKid("2026-10");
+        next.setSecret(JwtTestFixtures.SECRET.replace('a', 'f'));
+        keyRing.register(JwtKeyRing.toEntry(next));
+        keyRing.activate("2026-10");
+        String newToken = accessToken(provider);
+
+        assertNotNull(parser.verify(oldToken));
+        assertNotNull(parser.verify(newToken));
+
+        keyRing.retire(JwtKeyRing.DEFAULT_KID);
+        assertNull(parser.verify(oldToken));
+        assertNotNull(parser.verify(newToken));
+        assertThrows(IllegalArgumentException.class, () -> keyRing.retire("2026-10"));
+    }
+
+    @Test
+    void asymmetricKeysVerifyWithPublicKeyOnly() throws Exception {
+        for (String[] algorithm : new String[][]{{"ES256", "EC"}, {"EDDSA", "Ed25519"}}) {
+            KeyPairGenerator generator = KeyPairGenerator.getInstance(algorithm[1]);
+            if (algorithm[1].equals("EC")) {
+                generator.initialize(256);
+            }
+            KeyPair pair = generator.generateKeyPair();
+
+            JwtProperties signer = asymmetric(algorithm[0], pair, true);
+            JwtKeyRing signingRing = new JwtKeyRing(signer);
+            String token = accessToken(new AccessTokenProvider(signer, new CompactJwsSigner(signingRing)));
+
+            // edge 노드: 공개키만 가지고 검증
+            JwtKeyRing edgeRing = new JwtKeyRing(asymmetric(algorithm[0], pair, false));
+            assertNotNull(new JwtTokenParser(edgeRing).verify(token), algorithm[0]);
+            assertThrows(IllegalStateException.class, edgeRing::signingKey);
+        }
+    }
+
+    @Test
+    void es256RejectsOtherCurves() throws Exception {
+        KeyPairGenerator generator = KeyPairGenerator.getInstance("EC");
+        generator.initialize(384);
+        KeyPair pair = generator.generateKeyPair();
+
+        assertThrows(IllegalArgumentException.class, () -> new JwtKeyRing(asymmetric("ES256", pair, true)));
+    }
+
+    private static String accessToken(AccessTokenProvider provider) {
+        return provider.createAccessToken(new UsernamePasswordAuthenticationToken(
+                "alice", "session-1", List.of(new SimpleGrantedAuthority("ROLE_USER"))));
+    }
+
+    private static JwtProperties asymmetric(String algorithm, KeyPair pair, boolean withPrivateKey) {
+        JwtProperties.KeyProperties key = new JwtProperties.KeyProperties();
+        key.setKid("edge-" + algorithm.toLowerCase());
+        key.setAlgorithm(JwtProperties.KeyAlgorithm.valueOf(algorithm));
+        key.setPublicKey(Base64.getEncoder().encodeToString(pair.getPublic().getEncoded()));
+        if (withPrivateKey) {
+            key.setPrivateKey(Base64.getEncoder().encodeToString(pair.getPrivate().getEncoded()));
+        }
+        JwtProperties properties = new JwtProperties();
+        properties.setKeys(List.of(key));
+        properties.setAccessTokenValidityInMs(60_000);
+        return properties;
+    }
+}
@@ -0,0 +1,22 @@
+package com.system.sse.application.auth.provider;
+
+import com.system.sse.application.auth.config.JwtProperties;
+
+/**
+ * JWT 테스트 공용 설정 (같은 HMAC 키, 1분 유효)
+ */
+final class JwtTestFixtures {
+
+    static final String SECRET = "a0b1c2d3e4f506172839405060708090a0b1c2d3e4f506172839405060708090";
+
+    private JwtTestFixtures() {
+    }
+
+    static JwtProperties properties() {
+        JwtProperties properties = new JwtProperties();
+        properties.setSecret(SECRET);
+        properties.setAccessTokenValidityInMs(60_000);
+        properties.setRefreshTokenValidityInMs(60_000);
+        return properties;
+    }
+}
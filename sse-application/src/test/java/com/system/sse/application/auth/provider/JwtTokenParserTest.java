@@ -0,0 +1,85 @@
+package com.system.sse.application.auth.provider;
+
+import com.system.sse.application.auth.config.JwtProperties;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.time.Instant;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 인증 비용 비교는 -Dsse.auth.benchmark=true 일 때만 실행된다.
+ */
+class JwtTokenParserTest {
+
+    private static final JwtProperties PROPERTIES = JwtTestFixtures.properties();
+
+    private final JwtKeyRing keyRing = new JwtKeyRing(PROPERTIES);
+    private final JwtTokenParser parser = new JwtTokenParser(keyRing);
+    private final AccessTokenProvider accessTokenProvider = new AccessTokenProvider(PROPERTIES, new CompactJwsSigner(keyRing));
+
+    @Test
+    void verifyExtractsAllClaimsOnce() {
+        String token = accessToken("alice");
+
+        JwtClaims claims = parser.verify(token);
+
+        assertNotNull(claims);
+        assertEquals("alice", claims.subject());
+        assertEquals(List.of("ROLE_USER", "ROLE_ADMIN"), claims.roleList());
+        assertEquals("session-1", claims.sessionId());
+        assertTrue(claims.isAccessToken());
+        assertNotNull(claims.tokenId());
+        assertTrue(claims.expiration().isAfter(Instant.now()));
+    }
+
+    @Test
+    void verifyRejectsTamperedAndMalformedTokens() {
+        String token = accessToken("alice");
+        String tampered = token.substring(0, token.length() - 2) + (token.endsWith("A") ? "BB" : "AA");
+
+        assertNull(parser.verify(tampered));
+        assertNull(parser.verify("not-a-jwt"));
+        assertNull(parser.verify(""));
+    }
+
+    @Test
+    @EnabledIfSystemProperty(named = "sse.auth.benchmark", matches = "true")
+    void benchmarkAuthenticationCost() {
+        String token = accessToken("alice");
+        int iterations = 200_000;
+
+        // 이전 방식: 요청마다 키/파서를 다시 만들어 4번 파싱
+        long legacy = measure(iterations, () -> {
+            for (int i = 0; i < 4; i++) {
+                new JwtTokenParser(new JwtKeyRing(PROPERTIES)).verify(token);
+            }
+        });
+        long current = measure(iterations, () -> parser.verify(token));
+
+        System.out.printf("auth per request: legacy %,d ns, verify-once %,d ns%n",
+                legacy / iterations, current / iterations);
+    }
+
+    private String accessToken(String username) {
+        return accessTokenProvider.createAccessToken(new UsernamePasswordAuthenticationToken(
+                username, "session-1",
+                List.of(new SimpleGrantedAuthority("ROLE_USER"), new SimpleGrantedAuthority("ROLE_ADMIN"))));
+    }
+
+    private static long measure(int iterations, Runnable action) {
+        // warm-up
+        for (int i = 0; i < iterations / 10; i++) {
+            action.run();
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            action.run();
+        }
+        return System.nanoTime() - start;
+    }
+}
@@ -0,0 +1,50 @@
+package com.system.sse.application.auth.provider;
+
+import com.system.sse.application.auth.config.JwtProperties;
+import com.system.sse.application.auth.entity.AuthRequest;
+import com.system.sse.application.auth.entity.AuthResponse;
+import com.system.sse.application.auth.refresh.InMemoryRefreshTokenStore;
+import com.system.sse.application.auth.refresh.LocalSessionRevocationBroadcaster;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TokenAuthenticationServiceTest {
+
+    private final JwtProperties properties = JwtTestFixtures.properties();
+    private final JwtKeyRing keyRing = new JwtKeyRing(properties);
+    private final JwtTokenParser parser = new JwtTokenParser(keyRing);
+    private final VerifiedTokenCache cache =
+            new VerifiedTokenCache(parser, keyRing, properties, new SimpleMeterRegistry());
+    private final CompactJwsSigner signer = new CompactJwsSigner(keyRing);
+    private final TokenAuthenticationService service = new TokenAuthenticationService(
+            new TokenProviderFacade(new AccessTokenProvider(properties, signer),
+                    new RefreshTokenProvider(properties, signer)),
+            new InMemoryRefreshTokenStore(4, 10, Clock.systemUTC()),
+            parser,
+            new LocalSessionRevocationBroadcaster(cache));
+
+    @Test
+    void reLoginAfterLogoutWithSameSessionIdIsAccepted() {
+        AuthResponse first = service.authenticate(new AuthRequest(1L, "session-1", "device"));
+        service.logout(first.refreshToken(), false);
+        assertNull(cache.verify(first.accessToken()));
+
+        AuthResponse second = service.authenticate(new AuthRequest(1L, "session-1", "device"));
+        assertNotNull(cache.verify(second.accessToken()));
+    }
+
+    @Test
+    void logoutDoesNotRevokeOtherUserWithSameSessionId() {
+        AuthResponse alice = service.authenticate(new AuthRequest(1L, "shared", "alice"));
+        AuthResponse bob = service.authenticate(new AuthRequest(2L, "shared", "bob"));
+
+        service.logout(alice.refreshToken(), false);
+
+        assertNull(cache.verify(alice.accessToken()));
+        assertNotNull(cache.verify(bob.accessToken()));
+    }
+}
@@ -0,0 +1,94 @@
+package com.system.sse.application.auth.provider;
+
+import com.system.sse.application.auth.config.JwtProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class VerifiedTokenCacheTest {
+
+    private final JwtProperties properties = JwtTestFixtures.properties();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final JwtKeyRing keyRing = new JwtKeyRing(properties);
+    private final VerifiedTokenCache cache =
+            new VerifiedTokenCache(new JwtTokenParser(keyRing), keyRing, properties, meterRegistry);
+    private final AccessTokenProvider accessTokenProvider = new AccessTokenProvider(properties, new CompactJwsSigner(keyRing));
+
+    @Test
+    void repeatedVerificationIsServedFromCache() {
+        String token = accessToken("session-1");
+
+        JwtClaims first = cache.verify(token);
+        JwtClaims second = cache.verify(token);
+
+        assertNotNull(first);
+        assertSame(first, second);
+        assertEquals(1.0, meterRegistry.get("cache.gets")
+                .tag("cache", "sse.auth.verified-token").tag("result", "hit").functionCounter().count());
+    }
+
+    @Test
+    void invalidTokensAreNotCached() {
+        assertNull(cache.verify("not-a-jwt"));
+        assertNull(cache.verify("not-a-jwt"));
+    }
+
+    @Test
+    void revocationBySessionOrTokenIdRejectsToken() {
+        String bySession = accessToken("session-1");
+        String byTokenId = accessToken("session-2");
+        assertNotNull(cache.verify(bySession));
+        JwtClaims claims = cache.verify(byTokenId);
+
+        cache.revokeSession("alice", "session-1");
+        cache.revokeTokenId(claims.tokenId());
+
+        assertNull(cache.verify(bySession));
+        assertNull(cache.verify(byTokenId));
+    }
+
+    @Test
+    void sessionRevocationIsScopedToSubject() {
+        String alice = accessToken("alice", "shared");
+        String bob = accessToken("bob", "shared");
+        assertNotNull(cache.verify(alice));
+        assertNotNull(cache.verify(bob));
+
+        cache.revokeSession("alice", "shared");
+
+        assertNull(cache.verify(alice));
+        assertNotNull(cache.verify(bob));
+    }
+
+    @Test
+    void retiredKeyIsNoLongerServedFromCache() {
+        String token = accessToken("session-1");
+        assertEquals(JwtKeyRing.DEFAULT_KID, cache.verify(token).keyId());
+
+        JwtProperties.KeyProperties next = new JwtProperties.KeyProperties();
+        next.setKid("2026-10");
+        next.setSecret(JwtTestFixtures.SECRET.replace('a', 'f'));
+        keyRing.register(JwtKeyRing.toEntry(next));
+        keyRing.activate("2026-10");
+        keyRing.retire(JwtKeyRing.DEFAULT_KID);
+
+        // evictKey 전에도 적중 시 kid 를 다시 확인한다
+        assertNull(cache.verify(token));
+        cache.evictKey(JwtKeyRing.DEFAULT_KID);
+        assertNull(cache.verify(token));
+    }
+
+    private String accessToken(String sessionId) {
+        return accessToken("alice", sessionId);
+    }
+
+    private String accessToken(String subject, String sessionId) {
+        return accessTokenProvider.createAccessToken(new UsernamePasswordAuthenticationToken(
+                subject, sessionId, List.of(new SimpleGrantedAuthority("ROLE_USER"))));
+    }
+}
@@ -0,0 +1,11 @@
+package com.system.sse.application.auth.refresh;
+
+import java.time.Clock;
+
+class InMemoryRefreshTokenStoreTest extends RefreshTokenStoreConformanceTest {
+
+    @Override
+    protected RefreshTokenStore createStore(int maxSessionsPerUser, Clock clock) {
+        return new InMemoryRefreshTokenStore(4, maxSessionsPerUser, clock);
+    }
+}
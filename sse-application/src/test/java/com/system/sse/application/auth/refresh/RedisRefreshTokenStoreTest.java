@@ -0,0 +1,49 @@
+package com.system.sse.application.auth.refresh;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 실제 Redis 가 필요하므로 SSE_TEST_REDIS_HOST 가 설정된 경우에만 실행 (포트는 SSE_TEST_REDIS_PORT, 기본 6379)
+ */
+@EnabledIfEnvironmentVariable(named = "SSE_TEST_REDIS_HOST", matches = ".+")
+class RedisRefreshTokenStoreTest extends RefreshTokenStoreConformanceTest {
+
+    private final List<LettuceConnectionFactory> factories = new ArrayList<>();
+    private final List<String> keyPrefixes = new ArrayList<>();
+
+    @AfterEach
+    void cleanUp() {
+        for (int i = 0; i < factories.size(); i++) {
+            StringRedisTemplate template = new StringRedisTemplate(factories.get(i));
+            // tok:{jti} 키는 TTL 로 사라진다
+            for (String username : List.of("alice", "bob")) {
+                String base = "{" + keyPrefixes.get(i) + ":" + username + "}:";
+                template.delete(List.of(base + "families", base + "current"));
+            }
+            factories.get(i).destroy();
+        }
+    }
+
+    @Override
+    protected RefreshTokenStore createStore(int maxSessionsPerUser, Clock clock) {
+        String host = System.getenv("SSE_TEST_REDIS_HOST");
+        int port = Integer.parseInt(System.getenv().getOrDefault("SSE_TEST_REDIS_PORT", "6379"));
+        LettuceConnectionFactory factory = new LettuceConnectionFactory(new RedisStandaloneConfiguration(host, port));
+        factory.afterPropertiesSet();
+        factory.start();
+        factories.add(factory);
+
+        String prefix = "sse-refresh-test-" + UUID.randomUUID();
+        keyPrefixes.add(prefix);
+        return new RedisRefreshTokenStore(new StringRedisTemplate(factory), prefix, maxSessionsPerUser, clock);
+    }
+}
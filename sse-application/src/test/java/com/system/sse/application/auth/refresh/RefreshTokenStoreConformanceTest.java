@@ -0,0 +1,98 @@
+package com.system.sse.application.auth.refresh;
+
+import com.system.sse.application.auth.refresh.RefreshTokenStore.RotationResult;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 모든 {@link RefreshTokenStore} backend 가 만족해야 하는 공통 동작.
+ * backend 별 테스트는 이 클래스를 상속해 {@link #createStore(int, Clock)} 만 구현한다.
+ */
+abstract class RefreshTokenStoreConformanceTest {
+
+    // Redis TTL 은 실제 시간으로 흐르므로 만료 시각은 현재 기준으로 잡는다
+    protected static final Instant NOW = Instant.now();
+    protected static final Instant EXPIRES = NOW.plusSeconds(3600);
+
+    private RefreshTokenStore store;
+
+    /**
+     * 사용자당 최대 maxSessionsPerUser 개의 family 를 유지하는 빈 저장소
+     */
+    protected abstract RefreshTokenStore createStore(int maxSessionsPerUser, Clock clock) throws Exception;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        store = createStore(2, Clock.fixed(NOW, ZoneOffset.UTC));
+    }
+
+    @Test
+    void rotationReplacesCurrentToken() {
+        store.issue("alice", "t1", EXPIRES);
+
+        assertEquals(RotationResult.ROTATED, store.rotate("alice", "t1", "t2", EXPIRES));
+        assertEquals(RotationResult.ROTATED, store.rotate("alice", "t2", "t3", EXPIRES));
+    }
+
+    @Test
+    void reusingRotatedTokenRevokesFamily() {
+        store.issue("alice", "t1", EXPIRES);
+        store.rotate("alice", "t1", "t2", EXPIRES);
+
+        assertEquals(RotationResult.REUSED, store.rotate("alice", "t1", "x1", EXPIRES));
+        // 정상 사용자의 현재 토큰도 더 이상 쓸 수 없다
+        assertEquals(RotationResult.REVOKED, store.rotate("alice", "t2", "x2", EXPIRES));
+    }
+
+    @Test
+    void sessionCapRevokesLeastRecentlyRefreshedFamily() {
+        // 갱신할 때마다 만료 시각이 뒤로 밀린다
+        store.issue("alice", "a1", EXPIRES);
+        store.issue("alice", "b1", EXPIRES.plusSeconds(1));
+        store.rotate("alice", "a1", "a2", EXPIRES.plusSeconds(2));
+
+        assertEquals(1, store.issue("alice", "c1", EXPIRES.plusSeconds(3)));
+        assertEquals(RotationResult.REVOKED, store.rotate("alice", "b1", "b2", EXPIRES));
+        assertEquals(RotationResult.ROTATED, store.rotate("alice", "a2", "a3", EXPIRES));
+    }
+
+    @Test
+    void unknownExpiredOrForeignTokensAreRejected() {
+        store.issue("alice", "t1", EXPIRES);
+        store.issue("bob", "old", NOW.minusSeconds(1));
+
+        assertEquals(RotationResult.UNKNOWN, store.rotate("alice", "missing", "t2", EXPIRES));
+        assertEquals(RotationResult.UNKNOWN, store.rotate("bob", "t1", "t2", EXPIRES));
+        assertEquals(RotationResult.UNKNOWN, store.rotate("bob", "old", "new", EXPIRES));
+    }
+
+    @Test
+    void revokeUserRevokesAllFamilies() {
+        store.issue("alice", "a1", EXPIRES);
+        store.issue("alice", "b1", EXPIRES);
+
+        store.revokeUser("alice");
+
+        assertEquals(RotationResult.REVOKED, store.rotate("alice", "a1", "a2", EXPIRES));
+        assertEquals(RotationResult.REVOKED, store.rotate("alice", "b1", "b2", EXPIRES));
+    }
+
+    @Test
+    void revokeFamilyFindsFamilyByAnyOfItsTokens() {
+        store.issue("alice", "a1", EXPIRES);
+        store.rotate("alice", "a1", "a2", EXPIRES);
+        store.issue("alice", "b1", EXPIRES);
+
+        store.revokeFamily("alice", "a2");
+        store.revokeFamily("bob", "b1");
+
+        assertEquals(RotationResult.REVOKED, store.rotate("alice", "a2", "a3", EXPIRES));
+        assertEquals(RotationResult.ROTATED, store.rotate("alice", "b1", "b2", EXPIRES));
+    }
+}
@@ -0,0 +1,56 @@
+package com.system.sse.application.auth.resolver;
+
+import com.system.sse.application.auth.config.JwtProperties;
+import jakarta.servlet.http.Cookie;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CompositeTokenResolverTest {
+
+    private final CompositeTokenResolver resolver = new CompositeTokenResolver(
+            List.of(new HeaderTokenResolver(), new CookieTokenResolver(), new QueryParamTokenResolver()),
+            new JwtProperties());
+
+    @Test
+    void streamEndpointsPreferQueryParam() {
+        assertEquals("from-query", resolver.resolve(request("GET", "/subscribe")));
+        assertEquals("from-query", resolver.resolve(request("GET", "/sse/v2/subscribe/client-1")));
+    }
+
+    @Test
+    void apiRequestsPreferHeaderAndIgnoreQueryParam() {
+        assertEquals("from-header", resolver.resolve(request("POST", "/api/auth/refresh")));
+
+        MockHttpServletRequest queryOnly = new MockHttpServletRequest("GET", "/api/topics");
+        queryOnly.setParameter("token", "from-query");
+        assertNull(resolver.resolve(queryOnly));
+    }
+
+    @Test
+    void acceptHeaderDoesNotSelectStreamOrder() {
+        MockHttpServletRequest request = request("GET", "/api/topics");
+        request.addHeader("Accept", "text/event-stream");
+
+        assertEquals("from-header", resolver.resolve(request));
+    }
+
+    @Test
+    void cookieNameIsCaseSensitive() {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/topics");
+        request.setCookies(new Cookie("ACCESS_TOKEN", "wrong-case"));
+
+        assertNull(resolver.resolve(request));
+    }
+
+    private static MockHttpServletRequest request(String method, String uri) {
+        MockHttpServletRequest request = new MockHttpServletRequest(method, uri);
+        request.addHeader("Authorization", "Bearer from-header");
+        request.setCookies(new Cookie("access_token", "from-cookie"));
+        request.setParameter("token", "from-query");
+        return request;
+    }
+}
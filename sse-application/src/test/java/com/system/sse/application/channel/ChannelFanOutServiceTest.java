@@ -0,0 +1,119 @@
+package com.system.sse.application.channel;
+
+import com.system.sse.application.config.BoundedFanOutExecutor;
+import com.system.sse.application.config.FanOutProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ChannelFanOutServiceTest {
+
+    private LocalChannelBroker broker;
+    private ChannelFanOutService service;
+
+    @BeforeEach
+    void setUp() {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        // 전송 작업을 호출 스레드에서 바로 실행해 결과를 동기적으로 확인
+        BoundedFanOutExecutor fanOutExecutor = new BoundedFanOutExecutor(Runnable::run, new FanOutProperties(), meterRegistry);
+        broker = new LocalChannelBroker();
+        service = new ChannelFanOutService(broker, fanOutExecutor, meterRegistry);
+    }
+
+    @Test
+    void publishReachesOnlySubscribersOfThatChannel() {
+        RecordingEmitter orders1 = new RecordingEmitter();
+        RecordingEmitter orders2 = new RecordingEmitter();
+        RecordingEmitter payments = new RecordingEmitter();
+        service.subscribe("orders", orders1);
+        service.subscribe("orders", orders2);
+        service.subscribe("payments", payments);
+
+        service.publish("orders", "created");
+
+        assertEquals(1, orders1.frames.size());
+        assertEquals(1, orders2.frames.size());
+        assertTrue(payments.frames.isEmpty());
+        // 같은 frame 을 공유
+        assertSame(orders1.frames.getFirst(), orders2.frames.getFirst());
+    }
+
+    @Test
+    void brokerSubscriptionFollowsLocalSubscribers() {
+        RecordingEmitter first = new RecordingEmitter();
+        RecordingEmitter second = new RecordingEmitter();
+
+        service.subscribe("orders", first);
+        service.subscribe("orders", second);
+        assertTrue(broker.isSubscribed("orders"));
+
+        service.unsubscribe("orders", first);
+        assertTrue(broker.isSubscribed("orders"));
+        assertEquals(1, service.localSubscriberCount("orders"));
+
+        service.unsubscribe("orders", second);
+        assertFalse(broker.isSubscribed("orders"));
+        assertEquals(0, service.localSubscriberCount("orders"));
+    }
+
+    @Test
+    void publishWithoutLocalSubscribersIsDropped() {
+        assertDoesNotThrow(() -> service.publish("nobody", "hello"));
+        assertFalse(broker.isSubscribed("nobody"));
+    }
+
+    @Test
+    void concurrentSubscribeAndUnsubscribeKeepBrokerInSync() throws Exception {
+        ExecutorService threads = Executors.newFixedThreadPool(2);
+        try {
+            RecordingEmitter current = new RecordingEmitter();
+            service.subscribe("orders", current);
+            for (int round = 0; round < 2_000; round++) {
+                RecordingEmitter leaving = current;
+                RecordingEmitter joining = new RecordingEmitter();
+                CountDownLatch start = new CountDownLatch(1);
+                Future<?> unsubscribe = threads.submit(() -> {
+                    start.await();
+                    service.unsubscribe("orders", leaving);
+                    return null;
+                });
+                Future<?> subscribe = threads.submit(() -> {
+                    start.await();
+                    service.subscribe("orders", joining);
+                    return null;
+                });
+                start.countDown();
+                unsubscribe.get(5, TimeUnit.SECONDS);
+                subscribe.get(5, TimeUnit.SECONDS);
+
+                assertEquals(1, service.localSubscriberCount("orders"));
+                assertTrue(broker.isSubscribed("orders"), "round " + round);
+                current = joining;
+            }
+        } finally {
+            threads.shutdownNow();
+        }
+    }
+
+    private static final class RecordingEmitter extends SseEmitter {
+        private final List<Set<ResponseBodyEmitter.DataWithMediaType>> frames = new CopyOnWriteArrayList<>();
+
+        @Override
+        public void send(Set<ResponseBodyEmitter.DataWithMediaType> items) {
+            frames.add(items);
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package com.system.sse.application.channel;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 실제 Redis 가 필요하므로 SSE_TEST_REDIS_HOST 가 설정된 경우에만 실행 (포트는 SSE_TEST_REDIS_PORT, 기본 6379)
+ * 두 broker 는 각각 다른 노드를 흉내 낸다 (연결과 listener container 를 따로 가짐)
+ */
+@EnabledIfEnvironmentVariable(named = "SSE_TEST_REDIS_HOST", matches = ".+")
+class RedisChannelBrokerTest {
+
+    private final List<LettuceConnectionFactory> factories = new ArrayList<>();
+    private final List<RedisMessageListenerContainer> containers = new ArrayList<>();
+    private final String prefix = "sse-channel-test-" + UUID.randomUUID() + ":";
+
+    private RedisChannelBroker nodeA;
+    private RedisChannelBroker nodeB;
+
+    @BeforeEach
+    void setUp() {
+        nodeA = createBroker();
+        nodeB = createBroker();
+    }
+
+    @AfterEach
+    void tearDown() {
+        containers.forEach(RedisMessageListenerContainer::stop);
+        factories.forEach(LettuceConnectionFactory::destroy);
+    }
+
+    @Test
+    void publishOnOneNodeReachesSubscriberOnAnother() throws Exception {
+        BlockingQueue<String> received = new LinkedBlockingQueue<>();
+        nodeB.subscribe("orders", received::add);
+
+        assertEquals("created", publishUntilReceived(nodeA, "orders", "created", received));
+    }
+
+    @Test
+    void unsubscribeStopsDelivery() throws Exception {
+        BlockingQueue<String> received = new LinkedBlockingQueue<>();
+        nodeB.subscribe("orders", received::add);
+        publishUntilReceived(nodeA, "orders", "first", received);
+
+        nodeB.unsubscribe("orders");
+        nodeA.publish("orders", "second");
+
+        assertNull(received.poll(500, TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    void resubscribeReplacesPreviousListener() throws Exception {
+        BlockingQueue<String> stale = new LinkedBlockingQueue<>();
+        BlockingQueue<String> current = new LinkedBlockingQueue<>();
+        nodeB.subscribe("orders", stale::add);
+        nodeB.subscribe("orders", current::add);
+
+        publishUntilReceived(nodeA, "orders", "created", current);
+        assertTrue(stale.isEmpty());
+    }
+
+    /**
+     * container 의 구독은 비동기로 맺어지므로, 구독이 반영될 때까지 발행을 반복
+     */
+    private static String publishUntilReceived(RedisChannelBroker publisher, String channel, String message,
+                                               BlockingQueue<String> received) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (System.nanoTime() < deadline) {
+            publisher.publish(channel, message);
+            String value = received.poll(100, TimeUnit.MILLISECONDS);
+            if (value != null) {
+                received.clear();
+                return value;
+            }
+        }
+        return fail("message was not delivered within 5s");
+    }
+
+    private RedisChannelBroker createBroker() {
+        String host = System.getenv("SSE_TEST_REDIS_HOST");
+        int port = Integer.parseInt(System.getenv().getOrDefault("SSE_TEST_REDIS_PORT", "6379"));
+        LettuceConnectionFactory factory = new LettuceConnectionFactory(new RedisStandaloneConfiguration(host, port));
+        factory.afterPropertiesSet();
+        factory.start();
+        factories.add(factory);
+
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(factory);
+        container.afterPropertiesSet();
+        container.start();
+        containers.add(container);
+        return new RedisChannelBroker(new StringRedisTemplate(factory), container, prefix);
+    }
+}
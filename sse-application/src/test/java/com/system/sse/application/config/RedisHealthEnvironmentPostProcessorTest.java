@@ -0,0 +1,44 @@
+package com.system.sse.application.config;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.SpringApplication;
+import org.springframework.mock.env.MockEnvironment;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RedisHealthEnvironmentPostProcessorTest {
+
+    private final RedisHealthEnvironmentPostProcessor processor = new RedisHealthEnvironmentPostProcessor();
+
+    @Test
+    void disablesRedisHealthWhenNoBackendUsesRedis() {
+        MockEnvironment environment = new MockEnvironment()
+                .withProperty("sse.channel.backend", "local")
+                .withProperty("sse.store.backend", "memory");
+
+        processor.postProcessEnvironment(environment, new SpringApplication());
+
+        assertEquals("false", environment.getProperty(RedisHealthEnvironmentPostProcessor.PROPERTY));
+    }
+
+    @Test
+    void keepsRedisHealthWhenAnyBackendUsesRedis() {
+        MockEnvironment environment = new MockEnvironment()
+                .withProperty("sse.channel.backend", "local")
+                .withProperty("jwt.refresh-store.backend", "REDIS");
+
+        processor.postProcessEnvironment(environment, new SpringApplication());
+
+        assertNull(environment.getProperty(RedisHealthEnvironmentPostProcessor.PROPERTY));
+    }
+
+    @Test
+    void explicitSettingWins() {
+        MockEnvironment environment = new MockEnvironment()
+                .withProperty(RedisHealthEnvironmentPostProcessor.PROPERTY, "true");
+
+        processor.postProcessEnvironment(environment, new SpringApplication());
+
+        assertEquals("true", environment.getProperty(RedisHealthEnvironmentPostProcessor.PROPERTY));
+    }
+}
@@ -0,0 +1,50 @@
+package com.system.sse.application.limit;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ClientIpResolverTest {
+
+    private final ClientIpResolver resolver = new ClientIpResolver(properties("10.0.0.0/8"));
+
+    @Test
+    void forwardedForIsIgnoredFromUntrustedPeer() {
+        assertEquals("203.0.113.7", resolver.clientIp(request("203.0.113.7", "198.51.100.1")));
+    }
+
+    @Test
+    void firstUntrustedHopFromTheRightIsTheClient() {
+        // 클라이언트가 넣은 198.51.100.1 은 무시하고, 신뢰하는 프록시가 붙인 203.0.113.7 을 쓴다
+        assertEquals("203.0.113.7",
+                resolver.clientIp(request("10.0.0.2", "198.51.100.1, 203.0.113.7, 10.0.0.1")));
+    }
+
+    @Test
+    void peerAddressIsUsedWithoutForwardedFor() {
+        assertEquals("10.0.0.2", resolver.clientIp(request("10.0.0.2", null)));
+    }
+
+    @Test
+    void nonAddressHopIsNotTrusted() {
+        assertEquals("unknown", resolver.clientIp(request("10.0.0.2", "198.51.100.1, unknown")));
+    }
+
+    private static MockHttpServletRequest request(String remoteAddr, String forwardedFor) {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setRemoteAddr(remoteAddr);
+        if (forwardedFor != null) {
+            request.addHeader("X-Forwarded-For", forwardedFor);
+        }
+        return request;
+    }
+
+    private static ClientIpProperties properties(String... trustedProxies) {
+        ClientIpProperties properties = new ClientIpProperties();
+        properties.setTrustedProxies(List.of(trustedProxies));
+        return properties;
+    }
+}
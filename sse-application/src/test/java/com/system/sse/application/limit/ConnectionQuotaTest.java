@@ -0,0 +1,64 @@
+package com.system.sse.application.limit;
+
+import com.system.sse.application.global.ConnectionRejectedException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ConnectionQuotaTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ConnectionQuota quota = new ConnectionQuota(
+            properties(), new ReconnectPolicy(new ReconnectProperties(), meterRegistry), meterRegistry);
+
+    @Test
+    void userQuotaRejectsWithRetryHintAndRollsBackOtherCounters() {
+        quota.acquire("alice", "10.0.0.1");
+        quota.acquire("alice", "10.0.0.1");
+
+        ConnectionRejectedException ex = assertThrows(ConnectionRejectedException.class,
+                () -> quota.acquire("alice", "10.0.0.1"));
+        assertTrue(ex.getRetryAfterMillis() > 0);
+        assertEquals(2.0, gauge("sse.connection.active"));
+
+        // 같은 IP 의 다른 사용자는 IP 상한(3)까지 허용
+        assertDoesNotThrow(() -> quota.acquire("bob", "10.0.0.1"));
+        assertThrows(ConnectionRejectedException.class, () -> quota.acquire("carol", "10.0.0.1"));
+    }
+
+    @Test
+    void releaseIsIdempotentAndFreesQuota() {
+        ConnectionQuota.Lease lease = quota.acquire("alice", "10.0.0.1");
+        quota.acquire("alice", "10.0.0.2");
+
+        lease.release();
+        lease.release();
+
+        assertEquals(1.0, gauge("sse.connection.active"));
+        assertDoesNotThrow(() -> quota.acquire("alice", "10.0.0.1"));
+    }
+
+    @Test
+    void nodeQuotaAppliesToAnonymousConnections() {
+        for (int i = 0; i < 4; i++) {
+            quota.acquire(null, "10.0.1." + i);
+        }
+
+        assertThrows(ConnectionRejectedException.class, () -> quota.acquire(null, "10.0.1.9"));
+        assertEquals(1.0, gauge("sse.connection.quota.utilization"));
+        assertEquals(1.0, meterRegistry.get("sse.connection.quota.rejected").tag("scope", "node").counter().count());
+    }
+
+    private double gauge(String name) {
+        return meterRegistry.get(name).gauge().value();
+    }
+
+    private static ConnectionQuotaProperties properties() {
+        ConnectionQuotaProperties properties = new ConnectionQuotaProperties();
+        properties.setMaxPerUser(2);
+        properties.setMaxPerIp(3);
+        properties.setMaxPerNode(4);
+        return properties;
+    }
+}
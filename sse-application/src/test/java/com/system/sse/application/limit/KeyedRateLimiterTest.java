@@ -0,0 +1,72 @@
+package com.system.sse.application.limit;
+
+import com.system.sse.application.global.RateLimitExceededException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class KeyedRateLimiterTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    void keysAndRoutesHaveSeparateBudgets() {
+        KeyedRateLimiter limiter = new KeyedRateLimiter(properties(2, 100_000), meterRegistry);
+
+        limiter.acquire(RateLimitRoute.LOGIN, "ip:10.0.0.1");
+        limiter.acquire(RateLimitRoute.LOGIN, "ip:10.0.0.1");
+        RateLimitExceededException ex = assertThrows(RateLimitExceededException.class,
+                () -> limiter.acquire(RateLimitRoute.LOGIN, "ip:10.0.0.1"));
+        assertTrue(ex.getRetryAfterMillis() > 0);
+
+        // 다른 IP, 같은 IP 의 다른 라우트는 영향 없음
+        assertDoesNotThrow(() -> limiter.acquire(RateLimitRoute.LOGIN, "ip:10.0.0.2"));
+        assertDoesNotThrow(() -> limiter.acquire(RateLimitRoute.SUBSCRIBE, "ip:10.0.0.1"));
+        assertEquals(1.0, meterRegistry.get("sse.rate-limit.rejected").tag("route", "login").counter().count());
+    }
+
+    @Test
+    void keysBeyondLimitShareOverflowBucket() {
+        KeyedRateLimiter limiter = new KeyedRateLimiter(properties(1, 1), meterRegistry);
+
+        limiter.acquire(RateLimitRoute.PUBLISH, "first");
+        limiter.acquire(RateLimitRoute.PUBLISH, "second");
+        assertThrows(RateLimitExceededException.class, () -> limiter.acquire(RateLimitRoute.PUBLISH, "third"));
+    }
+
+    @Test
+    void idleBucketsAreEvicted() {
+        RateLimitProperties properties = properties(2, 100_000);
+        properties.setIdleTimeout(Duration.ZERO);
+        KeyedRateLimiter limiter = new KeyedRateLimiter(properties, meterRegistry);
+
+        limiter.acquire(RateLimitRoute.SUBSCRIBE, "alice");
+        assertEquals(1.0, meterRegistry.get("sse.rate-limit.keys").tag("route", "subscribe").gauge().value());
+
+        // permit 하나가 다시 채워진 뒤에는 유휴로 본다
+        await(Duration.ofMillis(20));
+        limiter.evictIdle();
+        assertEquals(0.0, meterRegistry.get("sse.rate-limit.keys").tag("route", "subscribe").gauge().value());
+    }
+
+    private static RateLimitProperties properties(int burst, int maxKeys) {
+        RateLimitProperties properties = new RateLimitProperties();
+        RateLimitProperties.Limit limit = new RateLimitProperties.Limit(0.001, burst);
+        properties.setSubscribe(new RateLimitProperties.Limit(100, burst));
+        properties.setPublish(limit);
+        properties.setLogin(limit);
+        properties.setMaxKeys(maxKeys);
+        return properties;
+    }
+
+    private static void await(Duration duration) {
+        try {
+            Thread.sleep(duration.toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package com.system.sse.application.sender.store;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+import java.util.OptionalLong;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DeliveryCursorTrackerTest {
+
+    private final AtomicInteger loads = new AtomicInteger();
+    private InMemorySseEventStore store;
+    private DeliveryCursorTracker tracker;
+
+    @BeforeEach
+    void setUp() {
+        store = new InMemorySseEventStore(100, 1024 * 1024, 0, 1000, new ObjectMapper()) {
+            @Override
+            public OptionalLong loadDeliveryCursor(String clientId) {
+                loads.incrementAndGet();
+                return super.loadDeliveryCursor(clientId);
+            }
+        };
+        tracker = new DeliveryCursorTracker(store, new EventStoreProperties(), new SimpleMeterRegistry());
+    }
+
+    @Test
+    void storedZeroIsARecordNotAbsence() {
+        store.saveDeliveryCursors(Map.of("client-a", 0L));
+
+        assertFalse(tracker.initialize("client-a", 50));
+        assertEquals(OptionalLong.of(0), tracker.lastDelivered("client-a"));
+        assertTrue(tracker.lastDelivered("client-b").isEmpty());
+        assertTrue(tracker.initialize("client-b", 50));
+    }
+
+    @Test
+    void persistedCursorIsLoadedOnce() {
+        store.saveDeliveryCursors(Map.of("client-a", 7L));
+
+        for (int i = 0; i < 5; i++) {
+            assertEquals(OptionalLong.of(7), tracker.lastDelivered("client-a"));
+        }
+        assertEquals(1, loads.get());
+
+        tracker.delivered("client-a", 9);
+        tracker.flush();
+        assertEquals(OptionalLong.of(9), tracker.lastDelivered("client-a"));
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    void liveSendsDoNotMoveCursorPastAnActiveReplay() {
+        DeliveryCursorTracker.ReplayHold hold = tracker.beginReplay("client-a", 10);
+        tracker.delivered("client-a", 30);
+        hold.replayed(11);
+        hold.replayed(12);
+
+        assertEquals(OptionalLong.of(12), tracker.lastDelivered("client-a"));
+
+        hold.finish(true);
+        assertEquals(OptionalLong.of(30), tracker.lastDelivered("client-a"));
+    }
+
+    @Test
+    void abortedReplayKeepsLowWaterMark() {
+        DeliveryCursorTracker.ReplayHold hold = tracker.beginReplay("client-a", 10);
+        tracker.delivered("client-a", 30);
+        hold.replayed(11);
+        hold.finish(false);
+
+        assertEquals(OptionalLong.of(11), tracker.lastDelivered("client-a"));
+        tracker.delivered("client-a", 31);
+        assertEquals(OptionalLong.of(31), tracker.lastDelivered("client-a"));
+    }
+
+    @Test
+    void replacedReplayIsIgnored() {
+        DeliveryCursorTracker.ReplayHold first = tracker.beginReplay("client-a", 10);
+        DeliveryCursorTracker.ReplayHold second = tracker.beginReplay("client-a", 5);
+        first.replayed(20);
+        first.finish(true);
+
+        assertEquals(OptionalLong.of(5), tracker.lastDelivered("client-a"));
+        second.replayed(6);
+        second.finish(true);
+        assertEquals(OptionalLong.of(6), tracker.lastDelivered("client-a"));
+    }
+}
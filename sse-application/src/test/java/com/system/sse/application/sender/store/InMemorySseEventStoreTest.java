@@ -0,0 +1,53 @@
+package com.system.sse.application.sender.store;
+
+import com.system.sse.application.sender.model.SseEmitterData;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class InMemorySseEventStoreTest extends SseEventStoreConformanceTest {
+
+    @Override
+    protected SseEventStore createStore(int retainedEvents) {
+        return new InMemorySseEventStore(retainedEvents, 64L * 1024 * 1024, 4096, 1000, OBJECT_MAPPER);
+    }
+
+    @Test
+    void largePayloadsAreCompressedAndRestoredOnRead() {
+        InMemorySseEventStore store = new InMemorySseEventStore(100, 64L * 1024 * 1024, 1024, 1000, OBJECT_MAPPER);
+        StoredEvent appended = store.append(largeEvent(64 * 1024));
+
+        // 반복 문자열 64KB 는 압축 후 훨씬 작게 보관된다
+        assertTrue(store.retainedBytes() < 8 * 1024);
+
+        StoredEvent read = store.read(0, store.lastSequence(), 1).getFirst();
+        assertEquals(appended.json(), read.json());
+        assertEquals(appended.data().getData(), read.data().getData());
+    }
+
+    @Test
+    void retainedBytesStayWithinBudget() {
+        long maxBytes = 256 * 1024;
+        InMemorySseEventStore store = new InMemorySseEventStore(10_000, maxBytes, 0, 1000, OBJECT_MAPPER);
+        for (int i = 0; i < 200; i++) {
+            store.append(largeEvent(8 * 1024));
+        }
+
+        assertTrue(store.retainedBytes() <= maxBytes);
+        List<StoredEvent> retained = store.read(0, store.lastSequence(), 10_000);
+        assertFalse(retained.isEmpty());
+        assertTrue(retained.size() < 200);
+        assertEquals(store.lastSequence(), retained.getLast().sequence());
+    }
+
+    private static SseEmitterData largeEvent(int bytes) {
+        return SseEmitterData.builder()
+                .type("report")
+                .resourceId("report-1")
+                .data(Map.of("body", "x".repeat(bytes)))
+                .build();
+    }
+}
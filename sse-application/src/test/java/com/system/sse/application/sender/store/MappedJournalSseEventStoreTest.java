@@ -0,0 +1,133 @@
+package com.system.sse.application.sender.store;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MappedJournalSseEventStoreTest extends SseEventStoreConformanceTest {
+
+    // 이벤트 하나가 대략 200 bytes 이하
+    private static final int APPROX_RECORD_BYTES = 200;
+    private static final int SEGMENT_COUNT = 4;
+
+    @TempDir
+    Path directory;
+
+    private final List<MappedJournalSseEventStore> opened = new ArrayList<>();
+
+    @AfterEach
+    void closeStores() {
+        opened.forEach(MappedJournalSseEventStore::close);
+    }
+
+    @Override
+    protected SseEventStore createStore(int retainedEvents) {
+        int segmentBytes = Math.max(4096, retainedEvents * APPROX_RECORD_BYTES / (SEGMENT_COUNT - 1));
+        return open(segmentBytes);
+    }
+
+    @Test
+    void reopenRecoversEventsAndSequence() {
+        MappedJournalSseEventStore store = open(4096);
+        for (int i = 0; i < 50; i++) {
+            store.append(event(i));
+        }
+        long last = store.lastSequence();
+        store.close();
+
+        MappedJournalSseEventStore reopened = open(4096);
+        assertEquals(last, reopened.lastSequence());
+        assertEquals(last, reopened.read(last - 1, last, 10).getFirst().sequence());
+        assertEquals(last + 1, reopened.append(event(99)).sequence());
+    }
+
+    @Test
+    void reopenRecoversDeliveryCursors() {
+        MappedJournalSseEventStore store = open(4096);
+        store.saveDeliveryCursors(Map.of("client-a", 42L));
+        store.close();
+
+        assertEquals(OptionalLong.of(42), open(4096).loadDeliveryCursor("client-a"));
+    }
+
+    @Test
+    void cursorUpdatesAreAppendedAndCompacted() throws Exception {
+        MappedJournalSseEventStore store = open(4096);
+        for (int i = 1; i <= 3000; i++) {
+            store.saveDeliveryCursors(Map.of("client-" + (i % 10), (long) i));
+        }
+        // 변경분 log 는 compact 되어 표 크기 수준을 넘지 않는다
+        assertTrue(Files.size(directory.resolve("delivery-cursors.log")) < 1024 * 40);
+        store.close();
+
+        MappedJournalSseEventStore reopened = open(4096);
+        assertEquals(OptionalLong.of(3000), reopened.loadDeliveryCursor("client-0"));
+        assertEquals(OptionalLong.of(2999), reopened.loadDeliveryCursor("client-9"));
+    }
+
+    @Test
+    void reopenIgnoresTornCursorLogTail() throws Exception {
+        MappedJournalSseEventStore store = open(4096);
+        store.saveDeliveryCursors(Map.of("client-a", 7L));
+        store.saveDeliveryCursors(Map.of("client-a", 8L));
+        store.close();
+        // 기록 도중 끊긴 record 흉내
+        Files.write(directory.resolve("delivery-cursors.log"), new byte[]{0, 8, 'c', 'l'}, StandardOpenOption.APPEND);
+
+        MappedJournalSseEventStore reopened = open(4096);
+        assertEquals(OptionalLong.of(8), reopened.loadDeliveryCursor("client-a"));
+        reopened.saveDeliveryCursors(Map.of("client-a", 9L));
+        reopened.close();
+        assertEquals(OptionalLong.of(9), open(4096).loadDeliveryCursor("client-a"));
+    }
+
+    @Test
+    void timeLookupSpansStridesAndSegments() throws Exception {
+        MappedJournalSseEventStore store = open(64 * 1024);
+        List<StoredEvent> appended = new ArrayList<>();
+        for (int round = 0; round < 6; round++) {
+            for (int i = 0; i < 100; i++) {
+                appended.add(store.append(event(i)));
+            }
+            Thread.sleep(3);
+        }
+
+        // 밀려나지 않은 이벤트마다 앞뒤 경계가 정확해야 한다
+        long oldest = store.read(0, store.lastSequence(), 1).getFirst().sequence();
+        for (StoredEvent event : appended) {
+            if (event.sequence() < oldest) {
+                continue;
+            }
+            long before = store.sequenceBefore(event.timestamp());
+            long after = store.sequenceAfter(event.timestamp());
+            assertTrue(before < event.sequence() && event.sequence() < after);
+            if (before >= oldest) {
+                assertTrue(store.read(before - 1, before, 1).getFirst().timestamp().isBefore(event.timestamp()));
+            }
+            if (after <= store.lastSequence()) {
+                assertTrue(store.read(after - 1, after, 1).getFirst().timestamp().isAfter(event.timestamp()));
+            }
+        }
+
+        store.close();
+        MappedJournalSseEventStore reopened = open(64 * 1024);
+        StoredEvent last = appended.getLast();
+        assertEquals(last.sequence() + 1, reopened.sequenceAfter(last.timestamp()));
+    }
+
+    private MappedJournalSseEventStore open(int segmentBytes) {
+        MappedJournalSseEventStore store = new MappedJournalSseEventStore(directory, segmentBytes, SEGMENT_COUNT, 1000, OBJECT_MAPPER);
+        opened.add(store);
+        return store;
+    }
+}
@@ -0,0 +1,46 @@
+package com.system.sse.application.sender.store;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 실제 Redis 가 필요하므로 SSE_TEST_REDIS_HOST 가 설정된 경우에만 실행 (포트는 SSE_TEST_REDIS_PORT, 기본 6379)
+ */
+@EnabledIfEnvironmentVariable(named = "SSE_TEST_REDIS_HOST", matches = ".+")
+class RedisStreamSseEventStoreTest extends SseEventStoreConformanceTest {
+
+    private final List<LettuceConnectionFactory> factories = new ArrayList<>();
+    private final List<String> keyPrefixes = new ArrayList<>();
+
+    @AfterEach
+    void cleanUp() {
+        for (int i = 0; i < factories.size(); i++) {
+            StringRedisTemplate template = new StringRedisTemplate(factories.get(i));
+            String prefix = keyPrefixes.get(i);
+            template.delete(List.of("{" + prefix + "}:stream", "{" + prefix + "}:seq", "{" + prefix + "}:cursors",
+                    "{" + prefix + "}:clock"));
+            factories.get(i).destroy();
+        }
+    }
+
+    @Override
+    protected SseEventStore createStore(int retainedEvents) {
+        String host = System.getenv("SSE_TEST_REDIS_HOST");
+        int port = Integer.parseInt(System.getenv().getOrDefault("SSE_TEST_REDIS_PORT", "6379"));
+        LettuceConnectionFactory factory = new LettuceConnectionFactory(new RedisStandaloneConfiguration(host, port));
+        factory.afterPropertiesSet();
+        factory.start();
+        factories.add(factory);
+
+        String prefix = "sse-events-test-" + UUID.randomUUID();
+        keyPrefixes.add(prefix);
+        return new RedisStreamSseEventStore(new StringRedisTemplate(factory), OBJECT_MAPPER, prefix, retainedEvents);
+    }
+}
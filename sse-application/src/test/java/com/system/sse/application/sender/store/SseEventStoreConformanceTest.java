@@ -0,0 +1,223 @@
+package com.system.sse.application.sender.store;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.system.sse.application.sender.model.SseEmitterData;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 모든 {@link SseEventStore} backend 가 만족해야 하는 공통 동작.
+ * backend 별 테스트는 이 클래스를 상속해 {@link #createStore(int)} 만 구현한다.
+ * 처리량 비교는 -Dsse.store.benchmark=true 일 때만 실행된다.
+ */
+abstract class SseEventStoreConformanceTest {
+
+    protected static final ObjectMapper OBJECT_MAPPER = new ObjectMapper().registerModule(new JavaTimeModule());
+
+    /**
+     * 최소 retainedEvents 개의 최근 이벤트를 보존하는 빈 스토어
+     */
+    protected abstract SseEventStore createStore(int retainedEvents) throws Exception;
+
+    @Test
+    void appendAssignsIncreasingSequenceIds() throws Exception {
+        SseEventStore store = createStore(100);
+        assertEquals(0, store.lastSequence());
+        assertNull(store.lastEventId());
+
+        StoredEvent first = store.append(event(1));
+        StoredEvent second = store.append(event(2));
+
+        assertTrue(second.sequence() > first.sequence());
+        assertEquals(second.id(), store.lastEventId());
+        assertEquals(second.sequence(), SseEventStore.parseSequence(second.id()));
+    }
+
+    @Test
+    void readReturnsEventsAfterSequenceInOrder() throws Exception {
+        SseEventStore store = createStore(100);
+        List<StoredEvent> appended = appendEvents(store, 10);
+
+        List<StoredEvent> read = store.read(appended.get(3).sequence(), store.lastSequence(), 100);
+
+        assertEquals(6, read.size());
+        for (int i = 0; i < read.size(); i++) {
+            StoredEvent expected = appended.get(i + 4);
+            assertEquals(expected.sequence(), read.get(i).sequence());
+            assertEquals(expected.data().getResourceId(), read.get(i).data().getResourceId());
+            assertEquals(expected.data().getData(), read.get(i).data().getData());
+        }
+    }
+
+    @Test
+    void readHonoursUpperBoundAndChunkSize() throws Exception {
+        SseEventStore store = createStore(100);
+        List<StoredEvent> appended = appendEvents(store, 10);
+
+        List<StoredEvent> bounded = store.read(0, appended.get(4).sequence(), 100);
+        assertEquals(appended.get(4).sequence(), bounded.getLast().sequence());
+
+        List<StoredEvent> chunk = store.read(0, store.lastSequence(), 3);
+        assertEquals(3, chunk.size());
+        assertEquals(appended.getFirst().sequence(), chunk.getFirst().sequence());
+    }
+
+    @Test
+    void cursorStreamsUntilSequenceAtOpen() throws Exception {
+        SseEventStore store = createStore(100);
+        List<StoredEvent> appended = appendEvents(store, 20);
+
+        ReplayCursor cursor = store.cursorAfter(appended.get(4).id());
+        store.append(event(99)); // 커서를 연 뒤의 이벤트는 실시간 경로 담당
+
+        List<StoredEvent> replayed = new ArrayList<>();
+        List<StoredEvent> chunk;
+        while (!(chunk = cursor.next(4)).isEmpty()) {
+            replayed.addAll(chunk);
+        }
+
+        assertEquals(15, replayed.size());
+        assertEquals(appended.getLast().sequence(), replayed.getLast().sequence());
+    }
+
+    @Test
+    void evictedEventsAreSkipped() throws Exception {
+        SseEventStore store = createStore(10);
+        List<StoredEvent> appended = appendEvents(store, 5_000);
+
+        List<StoredEvent> read = store.read(0, store.lastSequence(), 10_000);
+
+        assertFalse(read.isEmpty());
+        assertTrue(read.size() < appended.size());
+        assertEquals(appended.getLast().sequence(), read.getLast().sequence());
+        for (int i = 1; i < read.size(); i++) {
+            assertEquals(read.get(i - 1).sequence() + 1, read.get(i).sequence());
+        }
+    }
+
+    @Test
+    void cursorBetweenFiltersByTimestamp() throws Exception {
+        SseEventStore store = createStore(100);
+        appendEvents(store, 5);
+        Instant from = Instant.now().plusMillis(1);
+        Thread.sleep(5);
+        List<StoredEvent> inRange = appendEvents(store, 3);
+
+        ReplayCursor cursor = store.cursorBetween(from, Instant.now().plusSeconds(1));
+        List<StoredEvent> replayed = new ArrayList<>();
+        List<StoredEvent> chunk;
+        while (!(chunk = cursor.next(2)).isEmpty()) {
+            replayed.addAll(chunk);
+        }
+
+        assertEquals(inRange.stream().map(StoredEvent::sequence).toList(),
+                replayed.stream().map(StoredEvent::sequence).toList());
+        assertNull(store.cursorBetween(Instant.now(), Instant.now().minusSeconds(1)));
+    }
+
+    @Test
+    void sequenceLookupBracketsTimeRange() throws Exception {
+        SseEventStore store = createStore(100);
+        assertEquals(0, store.sequenceBefore(Instant.now()));
+        assertEquals(1, store.sequenceAfter(Instant.now()));
+
+        List<StoredEvent> before = appendEvents(store, 4);
+        Thread.sleep(5);
+        Instant middle = before.getLast().timestamp().plusMillis(2);
+        Thread.sleep(5);
+        List<StoredEvent> after = appendEvents(store, 4);
+
+        assertEquals(before.getLast().sequence(), store.sequenceBefore(middle));
+        assertEquals(after.getFirst().sequence(), store.sequenceAfter(middle));
+        assertEquals(0, store.sequenceBefore(before.getFirst().timestamp().minusSeconds(1)));
+        assertEquals(store.lastSequence() + 1, store.sequenceAfter(after.getLast().timestamp().plusSeconds(1)));
+    }
+
+    @Test
+    void timestampsFollowSequenceOrder() throws Exception {
+        SseEventStore store = createStore(100);
+        appendEvents(store, 50);
+
+        List<StoredEvent> read = store.read(0, store.lastSequence(), 100);
+        for (int i = 1; i < read.size(); i++) {
+            assertFalse(read.get(i).timestamp().isBefore(read.get(i - 1).timestamp()));
+        }
+    }
+
+    @Test
+    void unknownEventIdsAreRejected() throws Exception {
+        SseEventStore store = createStore(100);
+        assertNull(store.cursorAfter("not-a-sequence"));
+        assertNull(store.cursorAfter("-5"));
+        assertNull(store.cursorAfter((String) null));
+    }
+
+    @Test
+    void deliveryCursorsRoundTrip() throws Exception {
+        SseEventStore store = createStore(100);
+        assertTrue(store.loadDeliveryCursor("client-a").isEmpty());
+
+        store.saveDeliveryCursors(Map.of("client-a", 7L, "client-b", 3L));
+        store.saveDeliveryCursors(Map.of("client-a", 9L));
+
+        assertEquals(OptionalLong.of(9), store.loadDeliveryCursor("client-a"));
+        assertEquals(OptionalLong.of(3), store.loadDeliveryCursor("client-b"));
+
+        // 0 도 유효한 기록 (빈 스토어에서 처음 연결한 클라이언트)
+        store.saveDeliveryCursors(Map.of("client-c", 0L));
+        assertEquals(OptionalLong.of(0), store.loadDeliveryCursor("client-c"));
+    }
+
+    @Test
+    @EnabledIfSystemProperty(named = "sse.store.benchmark", matches = "true")
+    void benchmarkAppendAndReplay() throws Exception {
+        int events = 100_000;
+        SseEventStore store = createStore(events);
+
+        long appendStart = System.nanoTime();
+        for (int i = 0; i < events; i++) {
+            store.append(event(i));
+        }
+        long appendNanos = System.nanoTime() - appendStart;
+
+        long replayStart = System.nanoTime();
+        ReplayCursor cursor = store.cursorAfter(0L);
+        int replayed = 0;
+        List<StoredEvent> chunk;
+        while (!(chunk = cursor.next(64)).isEmpty()) {
+            replayed += chunk.size();
+        }
+        long replayNanos = System.nanoTime() - replayStart;
+
+        System.out.printf("[%s] append %,.0f events/s, replay %,.0f events/s (%d replayed)%n",
+                store.getClass().getSimpleName(),
+                events / (appendNanos / 1e9), replayed / (replayNanos / 1e9), replayed);
+    }
+
+    protected static SseEmitterData event(int i) {
+        return SseEmitterData.builder()
+                .type("notification")
+                .subType("order_complete")
+                .resourceId("order-" + i)
+                .message("Order " + i + " completed")
+                .data(Map.of("index", i))
+                .build();
+    }
+
+    private static List<StoredEvent> appendEvents(SseEventStore store, int count) {
+        List<StoredEvent> appended = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            appended.add(store.append(event(i)));
+        }
+        return appended;
+    }
+}
@@ -0,0 +1,94 @@
+package com.system.sse.application.sender.topic;
+
+import com.system.sse.application.sender.registry.ClientHandle;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TopicIndexTest {
+
+    @Test
+    void subscribeInvalidatesCachedEmptyMatch() {
+        TopicIndex index = new TopicIndex(new SimpleMeterRegistry());
+        assertFalse(index.hasSubscribers("orders.region1.store42"));
+
+        ClientHandle client = handle("client-1");
+        index.subscribe(client, "orders.region1.*");
+
+        assertTrue(index.hasSubscribers("orders.region1.store42"));
+        assertEquals(List.of(client), List.copyOf(index.resolve("orders.region1.store42", null)));
+    }
+
+    @Test
+    void resolveReturnsOneHandlePerClientAcrossPatterns() {
+        TopicIndex index = new TopicIndex(new SimpleMeterRegistry());
+        ClientHandle client = handle("client-1");
+        index.subscribe(client, "orders.#");
+        index.subscribe(client, "orders.*.store42");
+        index.subscribe(handle("client-2"), "orders.region1.store42");
+
+        assertEquals(2, index.resolve("orders.region1.store42", null).size());
+    }
+
+    @Test
+    void subscribeRejectsRemovedConnection() {
+        TopicIndex index = new TopicIndex(new SimpleMeterRegistry());
+        ClientHandle removed = new ClientHandle("client-1", null);
+
+        assertThrows(IllegalArgumentException.class, () -> index.subscribe(removed, "orders.#"));
+        assertTrue(index.topicsOf("client-1").isEmpty());
+        assertFalse(index.hasSubscribers("orders"));
+    }
+
+    @Test
+    void concurrentMatchNeverCachesStaleResultAcrossSubscribe() throws Exception {
+        TopicIndex index = new TopicIndex(new SimpleMeterRegistry());
+        int topics = 2_000;
+        AtomicBoolean running = new AtomicBoolean(true);
+        ExecutorService readers = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int r = 0; r < 4; r++) {
+                futures.add(readers.submit(() -> {
+                    while (running.get()) {
+                        for (int i = 0; i < topics; i++) {
+                            index.hasSubscribers("orders.store" + i + ".created");
+                        }
+                    }
+                }));
+            }
+
+            for (int i = 0; i < topics; i++) {
+                String pattern = i % 2 == 0 ? "orders.store" + i + ".created" : "orders.store" + i + ".*";
+                index.subscribe(handle("client-" + i), pattern);
+                assertTrue(index.hasSubscribers("orders.store" + i + ".created"),
+                        "subscribe 직후 " + pattern + " 가 보여야 한다");
+            }
+
+            running.set(false);
+            for (Future<?> future : futures) {
+                future.get(10, TimeUnit.SECONDS);
+            }
+            for (int i = 0; i < topics; i++) {
+                assertTrue(index.hasSubscribers("orders.store" + i + ".created"));
+            }
+        } finally {
+            running.set(false);
+            readers.shutdownNow();
+        }
+    }
+
+    private static ClientHandle handle(String clientId) {
+        return new ClientHandle(clientId, new SseEmitter());
+    }
+}
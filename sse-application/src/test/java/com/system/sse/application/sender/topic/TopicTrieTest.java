@@ -0,0 +1,86 @@
+package com.system.sse.application.sender.topic;
+
+import com.system.sse.application.global.InvalidTopicException;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TopicTrieTest {
+
+    @Test
+    void exactPatternMatchesOnlyItself() {
+        TopicTrie trie = new TopicTrie();
+        trie.add("orders.region1.store42");
+
+        assertEquals(List.of("orders.region1.store42"), trie.match("orders.region1.store42"));
+        assertTrue(trie.match("orders.region1").isEmpty());
+        assertTrue(trie.match("orders.region1.store42.extra").isEmpty());
+    }
+
+    @Test
+    void singleLevelWildcardMatchesExactlyOneLevel() {
+        TopicTrie trie = new TopicTrie();
+        trie.add("orders.region1.*");
+        trie.add("orders.*.store42");
+
+        assertEquals(2, trie.match("orders.region1.store42").size());
+        assertEquals(List.of("orders.region1.*"), trie.match("orders.region1.store7"));
+        assertTrue(trie.match("orders.region1").isEmpty());
+        assertTrue(trie.match("orders.region1.store42.extra").isEmpty());
+    }
+
+    @Test
+    void multiLevelWildcardMatchesRemainingLevels() {
+        TopicTrie trie = new TopicTrie();
+        trie.add("orders.#");
+
+        assertEquals(List.of("orders.#"), trie.match("orders"));
+        assertEquals(List.of("orders.#"), trie.match("orders.region1"));
+        assertEquals(List.of("orders.#"), trie.match("orders.region1.store42"));
+        assertTrue(trie.match("payments.region1").isEmpty());
+    }
+
+    @Test
+    void removePrunesPatternAndKeepsSiblings() {
+        TopicTrie trie = new TopicTrie();
+        trie.add("orders.region1.*");
+        trie.add("orders.region1.store42");
+
+        assertTrue(trie.remove("orders.region1.*"));
+        assertFalse(trie.remove("orders.region1.*"));
+        assertEquals(List.of("orders.region1.store42"), trie.match("orders.region1.store42"));
+        assertTrue(trie.match("orders.region1.store7").isEmpty());
+    }
+
+    @Test
+    void matchesAgreesWithTrie() {
+        assertTrue(TopicTrie.matches("orders.#", "orders.region1.store42"));
+        assertTrue(TopicTrie.matches("orders.*.store42", "orders.region1.store42"));
+        assertFalse(TopicTrie.matches("orders.*", "orders.region1.store42"));
+        assertFalse(TopicTrie.matches("orders.region1", "orders"));
+    }
+
+    @Test
+    void rejectsMalformedPatterns() {
+        assertThrows(InvalidTopicException.class, () -> TopicTrie.validatePattern("orders.#.store42"));
+        assertThrows(InvalidTopicException.class, () -> TopicTrie.validatePattern("orders.reg*"));
+        assertThrows(InvalidTopicException.class, () -> TopicTrie.validatePattern("orders..store42"));
+        assertThrows(InvalidTopicException.class, () -> TopicTrie.validateTopic("orders.*"));
+        assertDoesNotThrow(() -> TopicTrie.validatePattern("orders.*.#"));
+    }
+
+    @Test
+    void isValidTopicRejectsMalformedKeysWithoutThrowing() {
+        assertTrue(TopicTrie.isValidTopic("orders.region1.store42"));
+        assertTrue(TopicTrie.isValidTopic("orders"));
+        assertFalse(TopicTrie.isValidTopic(null));
+        assertFalse(TopicTrie.isValidTopic(""));
+        assertFalse(TopicTrie.isValidTopic("."));
+        assertFalse(TopicTrie.isValidTopic(".orders"));
+        assertFalse(TopicTrie.isValidTopic("orders."));
+        assertFalse(TopicTrie.isValidTopic("orders..store42"));
+        assertFalse(TopicTrie.isValidTopic("orders.#"));
+    }
+}
@@ -1,13 +1,35 @@
 package com.system.sse.main;
 
 import com.system.sse.application.auth.config.JwtProperties;
+import com.system.sse.application.auth.refresh.RefreshTokenStoreProperties;
+import com.system.sse.application.channel.ChannelProperties;
+import com.system.sse.application.config.FanOutProperties;
+import com.system.sse.application.drain.DrainProperties;
+import com.system.sse.application.limit.ClientIpProperties;
+import com.system.sse.application.limit.ConnectionQuotaProperties;
+import com.system.sse.application.limit.RateLimitProperties;
+import com.system.sse.application.limit.ReconnectProperties;
+import com.system.sse.application.sender.store.EventStoreProperties;
+import com.system.sse.sender.connection.SseConnectionProperties;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 
 
 @SpringBootApplication(scanBasePackages = "com.system.sse")
-@EnableConfigurationProperties(JwtProperties.class)
+@EnableConfigurationProperties({
+		JwtProperties.class,
+		RefreshTokenStoreProperties.class,
+		FanOutProperties.class,
+		DrainProperties.class,
+		ReconnectProperties.class,
+		RateLimitProperties.class,
+		ConnectionQuotaProperties.class,
+		ClientIpProperties.class,
+		ChannelProperties.class,
+		EventStoreProperties.class,
+		SseConnectionProperties.class
+})
 public class SseMainApplication {
 
 	public static void main(String[] args) {
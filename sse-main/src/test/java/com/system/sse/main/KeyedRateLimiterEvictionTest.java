@@ -0,0 +1,45 @@
+package com.system.sse.main;
+
+import com.system.sse.application.limit.KeyedRateLimiter;
+import com.system.sse.application.limit.RateLimitRoute;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 애플리케이션 컨텍스트에서 유휴 버킷 정리가 실제로 주기 실행되는지 확인 (@Scheduled 없이 limiter 가 직접 실행)
+ */
+@SpringBootTest(properties = {
+        "sse.rate-limit.idle-timeout=0s",
+        "sse.rate-limit.evict-interval=50ms",
+        "sse.rate-limit.subscribe.permits-per-second=1000"
+})
+class KeyedRateLimiterEvictionTest {
+
+    @Autowired
+    private KeyedRateLimiter keyedRateLimiter;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    void idleBucketsAreEvictedWithoutManualCall() throws InterruptedException {
+        assertTrue(keyedRateLimiter.isRunning());
+        keyedRateLimiter.acquire(RateLimitRoute.SUBSCRIBE, "alice");
+
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (trackedKeys() > 0 && System.nanoTime() < deadline) {
+            Thread.sleep(20);
+        }
+        assertEquals(0.0, trackedKeys());
+    }
+
+    private double trackedKeys() {
+        return meterRegistry.get("sse.rate-limit.keys").tag("route", "subscribe").gauge().value();
+    }
+}
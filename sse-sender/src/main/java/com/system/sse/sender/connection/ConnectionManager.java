@@ -11,6 +11,7 @@ public interface ConnectionManager {
      *
      * @param clientId 클라이언트 식별자
      * @return clientId
+     * @throws ConnectionRejectedException 드레인 중이거나 연결 폭주로 수락하지 않을 때 (emitter 할당 전)
      */
     SseEmitter connect(String clientId);
 
@@ -0,0 +1,17 @@
+package com.system.sse.sender.connection;
+
+import lombok.Getter;
+
+/**
+ * 드레인/연결 폭주로 SSE 연결을 수락하지 않을 때 사용하는 예외 (emitter 를 만들기 전에 던진다).
+ * retryAfterMillis 는 Retry-After 헤더와 (SSE 요청이면) retry 필드로 전달된다.
+ */
+@Getter
+public class ConnectionRejectedException extends RuntimeException {
+    private final long retryAfterMillis;
+
+    public ConnectionRejectedException(String message, long retryAfterMillis) {
+        super(message, null, false, false);
+        this.retryAfterMillis = retryAfterMillis;
+    }
+}
@@ -0,0 +1,37 @@
+package com.system.sse.sender.connection;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+
+/**
+ * 거절된 연결 요청에 emitter 없이 재연결 간격을 안내한다.
+ * EventSource 는 200 이외의 응답을 받으면 재연결을 포기하므로, text/event-stream 요청에는 retry 필드만 담은
+ * 200 스트림을 바로 닫아 지정 간격 뒤 재연결하게 하고, 그 외 요청은 503 + Retry-After 로 응답한다.
+ */
+@RestControllerAdvice
+public class ConnectionRejectedHandler {
+
+    @ExceptionHandler(ConnectionRejectedException.class)
+    public ResponseEntity<String> handleConnectionRejected(ConnectionRejectedException ex, HttpServletRequest request) {
+        long retryMillis = ex.getRetryAfterMillis();
+        String retryAfterSeconds = String.valueOf(Math.max(1, (retryMillis + 999) / 1000));
+
+        String accept = request.getHeader(HttpHeaders.ACCEPT);
+        if (accept != null && accept.contains(MediaType.TEXT_EVENT_STREAM_VALUE)) {
+            return ResponseEntity.ok()
+                    .header(HttpHeaders.RETRY_AFTER, retryAfterSeconds)
+                    .contentType(MediaType.TEXT_EVENT_STREAM)
+                    .body("retry: " + retryMillis + "\n\n");
+        }
+
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, retryAfterSeconds)
+                .contentType(MediaType.TEXT_PLAIN)
+                .body(ex.getMessage());
+    }
+}
@@ -4,24 +4,77 @@ import jakarta.annotation.Nonnull;
 import jakarta.annotation.PreDestroy;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
 import org.springframework.stereotype.Service;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.io.IOException;
 import java.util.Collections;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
-public class SseConnectionManager implements ConnectionManager {
+public class SseConnectionManager implements ConnectionManager, SmartLifecycle {
     private final Map<String, SseEmitter> emitters = new ConcurrentHashMap<>();
 
     private static final Long MAX_TIMEOUT = 0L; // 무제한
 
+    // 드레인은 wave 단위로 종료하고, 재연결 retry 는 연결 수가 softConnectionLimit 에 가까울수록 늘려 재연결을 분산
+    private final SseConnectionProperties properties;
+
+    // 상위 32bit: 윈도우(초), 하위 32bit: 윈도우 내 연결 수. 하나의 값이라 윈도우 전환과 집계가 원자적으로 함께 바뀐다
+    private static final long COUNT_MASK = 0xffffffffL;
+    private final AtomicLong connectWindow = new AtomicLong();
+
+    private volatile boolean running;
+    private volatile boolean accepting = true;
+
+    @Override
+    public void start() {
+        running = true;
+    }
+
+    /** 신규 연결 수락을 멈추고 기존 연결을 retry 힌트와 함께 wave 단위로 종료 */
+    @Override
+    public void stop() {
+        if (!running) {
+            return;
+        }
+        running = false;
+        accepting = false;
+
+        List<String> clientIds = List.copyOf(emitters.keySet());
+        int waveSize = Math.max(1, properties.getDrain().getWaveSize());
+        boolean paced = true;
+        for (int i = 0; i < clientIds.size(); i++) {
+            closeWithRetryHint(clientIds.get(i));
+
+            if (paced && (i + 1) % waveSize == 0 && i + 1 < clientIds.size()) {
+                paced = sleepBetweenWaves();
+            }
+        }
+        log.info("Drained {} SSE connections", clientIds.size());
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    /** 웹 서버 graceful shutdown 보다 먼저, 연결이 살아있을 때 드레인 */
+    @Override
+    public int getPhase() {
+        return SmartLifecycle.DEFAULT_PHASE - 512;
+    }
+
     @PreDestroy
     private void closeAllConnections() {
         emitters.forEach(
@@ -43,6 +96,13 @@ public class SseConnectionManager implements ConnectionManager {
     /** 새로운 SSE 연결 등록 */
     @Override
     public SseEmitter connect(@Nonnull String clientId) {
+        if (!accepting) {
+            throw new ConnectionRejectedException("Node is draining", nextRetryMillis());
+        }
+        if (!admitConnect()) {
+            throw new ConnectionRejectedException("Too many connection attempts", loadBasedRetryMillis());
+        }
+
         // 기존 연결이 있으면 제거
         disconnect(clientId);
 
@@ -55,7 +115,10 @@ public class SseConnectionManager implements ConnectionManager {
         emitters.put(clientId, emitter);
 
         try {
-            emitter.send(SseEmitter.event().name("connect").data("Connection successful."));
+            emitter.send(SseEmitter.event()
+                    .name("connect")
+                    .reconnectTime(loadBasedRetryMillis())
+                    .data("Connection successful."));
         } catch (IOException e) {
             log.error("Failed to send initial message to client {}", clientId, e);
             // 메시지 전송 실패 시 연결을 정리
@@ -65,6 +128,62 @@ public class SseConnectionManager implements ConnectionManager {
         return emitter;
     }
 
+    /** 초당 신규 연결 수 제한 (1초 고정 윈도우) */
+    private boolean admitConnect() {
+        long second = System.currentTimeMillis() / 1000;
+        int limit = properties.getReconnect().getConnectsPerSecond();
+        long state = connectWindow.updateAndGet(current -> {
+            if (current >>> 32 != second) {
+                return (second << 32) | 1;
+            }
+            // 상한을 넘은 뒤에는 더 세지 않는다 (overflow 방지)
+            return (current & COUNT_MASK) > limit ? current : current + 1;
+        });
+        return (state & COUNT_MASK) <= limit;
+    }
+
+    /** 현재 연결 수 기준 retry 값 */
+    private long loadBasedRetryMillis() {
+        SseConnectionProperties.Reconnect reconnect = properties.getReconnect();
+        long min = reconnect.getMinRetry().toMillis();
+        long max = reconnect.getMaxRetry().toMillis();
+        double load = Math.min(1.0, (double) emitters.size() / Math.max(1, reconnect.getSoftConnectionLimit()));
+        return min + Math.round((max - min) * load);
+    }
+
+    /** retry 힌트 전송 후 연결 종료 */
+    private void closeWithRetryHint(String clientId) {
+        SseEmitter emitter = emitters.remove(clientId);
+        if (emitter == null) {
+            return;
+        }
+        try {
+            emitter.send(SseEmitter.event()
+                    .name("drain")
+                    .reconnectTime(nextRetryMillis())
+                    .data("Server is shutting down."));
+            emitter.complete();
+        } catch (Exception e) {
+            log.debug("Failed to send drain hint to client {}: {}", clientId, e.getMessage());
+        }
+    }
+
+    private long nextRetryMillis() {
+        long jitter = properties.getDrain().getRetryJitter().toMillis();
+        return properties.getDrain().getRetryBase().toMillis()
+                + (jitter > 0 ? ThreadLocalRandom.current().nextLong(jitter + 1) : 0);
+    }
+
+    private boolean sleepBetweenWaves() {
+        try {
+            TimeUnit.MILLISECONDS.sleep(properties.getDrain().getWaveInterval().toMillis());
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
     /** 클라이언트 연결 상태 확인 */
     @Override
     public boolean isConnected(String clientId) {
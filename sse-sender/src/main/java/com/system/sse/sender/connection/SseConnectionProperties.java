@@ -0,0 +1,55 @@
+package com.system.sse.sender.connection;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * SseConnectionManager 의 드레인/재연결 설정.
+ * sse-application 의 DrainProperties(sse.drain), ReconnectProperties(sse.reconnect) 와 같은 키를 사용한다.
+ */
+@Setter
+@Getter
+@ConfigurationProperties(prefix = "sse")
+public class SseConnectionProperties {
+
+    private Drain drain = new Drain();
+
+    private Reconnect reconnect = new Reconnect();
+
+    @Setter
+    @Getter
+    public static class Drain {
+
+        /** 한 wave 에서 종료할 연결 수 */
+        private int waveSize = 500;
+
+        /** wave 사이 간격 */
+        private Duration waveInterval = Duration.ofMillis(200);
+
+        /** 재연결 힌트(retry) 최소값 */
+        private Duration retryBase = Duration.ofSeconds(1);
+
+        /** 재연결 힌트에 더할 무작위 지연 상한 */
+        private Duration retryJitter = Duration.ofSeconds(10);
+    }
+
+    @Setter
+    @Getter
+    public static class Reconnect {
+
+        /** 노드가 초당 수락하는 신규 SSE 연결 수 */
+        private int connectsPerSecond = 500;
+
+        /** 유휴 상태일 때 안내하는 retry 값 */
+        private Duration minRetry = Duration.ofSeconds(1);
+
+        /** 연결 수가 softConnectionLimit 에 이르렀을 때 안내하는 retry 값 */
+        private Duration maxRetry = Duration.ofSeconds(30);
+
+        /** retry 값이 maxRetry 에 이르는 연결 수 */
+        private int softConnectionLimit = 10_000;
+    }
+}